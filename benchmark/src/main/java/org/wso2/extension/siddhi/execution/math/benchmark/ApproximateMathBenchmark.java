@@ -0,0 +1,116 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.extension.siddhi.execution.math.util.ApproximateMath;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Compares the table based approximations used by the functions configured with approximate=true against the
+ * functions of java.lang.Math they replace. Scores are per value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApproximateMathBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    @Param({"sin", "cos", "tan", "sinh", "cosh", "tanh"})
+    private String function;
+
+    private DoubleUnaryOperator exact;
+    private DoubleUnaryOperator approximate;
+    private double[] values;
+
+    @Setup
+    public void setUp() {
+        switch (function) {
+            case "sin":
+                exact = Math::sin;
+                approximate = ApproximateMath::sin;
+                break;
+            case "cos":
+                exact = Math::cos;
+                approximate = ApproximateMath::cos;
+                break;
+            case "tan":
+                exact = Math::tan;
+                approximate = ApproximateMath::tan;
+                break;
+            case "sinh":
+                exact = Math::sinh;
+                approximate = ApproximateMath::sinh;
+                break;
+            case "cosh":
+                exact = Math::cosh;
+                approximate = ApproximateMath::cosh;
+                break;
+            case "tanh":
+                exact = Math::tanh;
+                approximate = ApproximateMath::tanh;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown function " + function);
+        }
+        Random random = new Random(0);
+        values = new double[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            values[i] = random.nextDouble() * 20 - 10;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public double exact() {
+        double sum = 0;
+        for (double value : values) {
+            sum += exact.applyAsDouble(value);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(VALUE_COUNT)
+    public double approximate() {
+        double sum = 0;
+        for (double value : values) {
+            sum += approximate.applyAsDouble(value);
+        }
+        return sum;
+    }
+}
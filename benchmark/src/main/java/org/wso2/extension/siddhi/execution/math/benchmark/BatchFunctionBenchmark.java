@@ -0,0 +1,95 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEvent;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.wso2.extension.siddhi.execution.math.util.BatchFunction;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares applying a function to a column of values at once, as math:batchApply() does for each chunk, with
+ * calling the executor of the function for each value, as the selector of a query does. Scores are per value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchFunctionBenchmark {
+
+    private static final int CHUNK_SIZE = 1024;
+
+    @Param({"ABS", "SQRT", "FLOOR", "SIN", "LN"})
+    private String function;
+
+    private BatchFunction batchFunction;
+    private FunctionExecutor executor;
+    private Object[] column;
+    private double[] values;
+
+    @Setup
+    public void setUp() {
+        batchFunction = BatchFunction.valueOf(function);
+        column = InputType.DOUBLE.values(CHUNK_SIZE, 0);
+        values = new double[CHUNK_SIZE];
+        executor = MathFunction.valueOf(function).newExecutor();
+        executor.initExecutor(new ExpressionExecutor[]{new ValuesExecutor(column, InputType.DOUBLE.getAttributeType())},
+                              ProcessingMode.BATCH, new MapConfigReader(), false,
+                              new SiddhiQueryContext(new SiddhiAppContext(), "benchmark"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public double[] batch() {
+        // unboxing the column is part of the work of the stream processor
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            values[i] = (Double) column[i];
+        }
+        batchFunction.apply(values, CHUNK_SIZE);
+        return values;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK_SIZE)
+    public void perValue(Blackhole blackhole) {
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            blackhole.consume(executor.execute((ComplexEvent) null));
+        }
+    }
+}
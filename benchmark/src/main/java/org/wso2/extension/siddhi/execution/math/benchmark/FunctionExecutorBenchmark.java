@@ -0,0 +1,100 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEvent;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls the executors of the stateless functions directly, as the selector of a query would, measuring the cost
+ * of the functions themselves without the events and junctions of a Siddhi app.
+ * <p>
+ * The float and double only functions, such as ACOS, and the int and long only ones, BIN and OCT, are not in the
+ * default parameters, and are run by naming them along with the input types they accept, e.g.
+ * {@code -p function=ACOS,CEIL -p inputType=FLOAT,DOUBLE}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionExecutorBenchmark {
+
+    private static final int VALUE_COUNT = 1024;
+
+    @Param({"ABS", "ATAN", "ATAN2", "CBRT", "COPY_SIGN", "COS", "EXP", "FLOOR", "HEX", "LN", "LOG", "LOG10", "MAX",
+            "MIN", "POWER", "SIGNUM", "SIN", "SQRT", "TAN", "TO_RADIANS"})
+    private MathFunction function;
+
+    @Param({"INT", "LONG", "FLOAT", "DOUBLE"})
+    private InputType inputType;
+
+    /**
+     * Whether the second argument of the two argument functions is a constant, as in {@code math:power(x, 2)}.
+     * Compare the folded paths with {@code -p function=LOG,MAX,POWER -p constantSecondArgument=false,true}.
+     */
+    @Param({"false"})
+    private boolean constantSecondArgument;
+
+    private FunctionExecutor executor;
+
+    @Setup
+    public void setUp() {
+        if (!function.supports(inputType)) {
+            throw new IllegalArgumentException(function + " does not accept " + inputType + " arguments");
+        }
+        ExpressionExecutor[] arguments = new ExpressionExecutor[function.getArity()];
+        for (int i = 0; i < arguments.length; i++) {
+            Object[] values = inputType.values(VALUE_COUNT, i);
+            if (i == 1 && constantSecondArgument) {
+                arguments[i] = new ConstantExpressionExecutor(values[0], inputType.getAttributeType());
+            } else {
+                arguments[i] = new ValuesExecutor(values, inputType.getAttributeType());
+            }
+        }
+        executor = function.newExecutor();
+        executor.initExecutor(arguments, ProcessingMode.BATCH, new MapConfigReader(), false,
+                              new SiddhiQueryContext(new SiddhiAppContext(), "benchmark"));
+    }
+
+    @Benchmark
+    public Object execute() {
+        // the arguments ignore the event, reading their next value instead
+        return executor.execute((ComplexEvent) null);
+    }
+}
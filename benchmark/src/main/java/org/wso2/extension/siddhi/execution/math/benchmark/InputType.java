@@ -0,0 +1,94 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import io.siddhi.query.api.definition.Attribute;
+
+import java.util.SplittableRandom;
+
+/**
+ * Attribute types fed to the benchmarked functions, with the values generated for each of them.
+ */
+public enum InputType {
+
+    INT(Attribute.Type.INT, "int") {
+        @Override
+        Object value(SplittableRandom random) {
+            return 1 + random.nextInt(MAX_VALUE);
+        }
+    },
+    LONG(Attribute.Type.LONG, "long") {
+        @Override
+        Object value(SplittableRandom random) {
+            return 1L + random.nextInt(MAX_VALUE);
+        }
+    },
+    FLOAT(Attribute.Type.FLOAT, "float") {
+        @Override
+        Object value(SplittableRandom random) {
+            return (float) (random.nextDouble() * MAX_VALUE);
+        }
+    },
+    DOUBLE(Attribute.Type.DOUBLE, "double") {
+        @Override
+        Object value(SplittableRandom random) {
+            return random.nextDouble() * MAX_VALUE;
+        }
+    };
+
+    /**
+     * Generated values are in (0, MAX_VALUE], so that they are valid inputs of the logarithms.
+     */
+    private static final int MAX_VALUE = 10000;
+
+    private final Attribute.Type attributeType;
+    private final String streamType;
+
+    InputType(Attribute.Type attributeType, String streamType) {
+        this.attributeType = attributeType;
+        this.streamType = streamType;
+    }
+
+    abstract Object value(SplittableRandom random);
+
+    /**
+     * @param count number of values
+     * @param seed  seed of the generated values, so that runs are comparable
+     * @return values of the type
+     */
+    public Object[] values(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = value(random);
+        }
+        return values;
+    }
+
+    public Attribute.Type getAttributeType() {
+        return attributeType;
+    }
+
+    /**
+     * @return name of the type in stream definitions
+     */
+    public String getStreamType() {
+        return streamType;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import io.siddhi.core.util.config.ConfigReader;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The system parameters of a function initialised by a benchmark, in place of those a Siddhi manager would read
+ * from its deployment configuration.
+ */
+public class MapConfigReader implements ConfigReader {
+
+    private final Map<String, String> configs = new HashMap<>();
+
+    public MapConfigReader with(String name, String value) {
+        configs.put(name, value);
+        return this;
+    }
+
+    @Override
+    public String readConfig(String name, String defaultValue) {
+        return configs.getOrDefault(name, defaultValue);
+    }
+
+    @Override
+    public Map<String, String> getAllConfigs() {
+        return Collections.unmodifiableMap(configs);
+    }
+}
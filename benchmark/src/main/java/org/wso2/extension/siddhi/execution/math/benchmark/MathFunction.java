@@ -0,0 +1,133 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import io.siddhi.core.executor.function.FunctionExecutor;
+import org.wso2.extension.siddhi.execution.math.AbsFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.AcosFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.AsinFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.AtanFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.BinaryFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.CeilingFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.CopySignFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.CosFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.CoshFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.CubeRootFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.EFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.ExponentFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.FloorFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.GetExponentFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.HexFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.IsInfiniteFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.IsNanFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.LnFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.Log10FunctionExtension;
+import org.wso2.extension.siddhi.execution.math.Log2FunctionExtension;
+import org.wso2.extension.siddhi.execution.math.LogFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.MaxFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.MinFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.OctalFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.PiFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.PowerFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.RandomFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.RoundFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.SignFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.SinFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.SinhFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.SquareRootFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.TanFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.TanhFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.ToDegreesFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.ToRadiansFunctionExtension;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The stateless functions of the extension which take numeric arguments, with the input types each of them accepts.
+ */
+public enum MathFunction {
+
+    ABS(AbsFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    ACOS(AcosFunctionExtension::new, 1, EnumSet.of(InputType.FLOAT, InputType.DOUBLE)),
+    ASIN(AsinFunctionExtension::new, 1, EnumSet.of(InputType.FLOAT, InputType.DOUBLE)),
+    ATAN(AtanFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    ATAN2(AtanFunctionExtension::new, 2, EnumSet.allOf(InputType.class)),
+    BIN(BinaryFunctionExtension::new, 1, EnumSet.of(InputType.INT, InputType.LONG)),
+    CBRT(CubeRootFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    CEIL(CeilingFunctionExtension::new, 1, EnumSet.of(InputType.FLOAT, InputType.DOUBLE)),
+    COPY_SIGN(CopySignFunctionExtension::new, 2, EnumSet.allOf(InputType.class)),
+    COS(CosFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    COSH(CoshFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    E(EFunctionExtension::new, 0, EnumSet.allOf(InputType.class)),
+    EXP(ExponentFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    FLOOR(FloorFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    GET_EXPONENT(GetExponentFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    HEX(HexFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    IS_INFINITE(IsInfiniteFunctionExtension::new, 1, EnumSet.of(InputType.FLOAT, InputType.DOUBLE)),
+    IS_NAN(IsNanFunctionExtension::new, 1, EnumSet.of(InputType.FLOAT, InputType.DOUBLE)),
+    LN(LnFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    LOG(LogFunctionExtension::new, 2, EnumSet.allOf(InputType.class)),
+    LOG10(Log10FunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    LOG2(Log2FunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    MAX(MaxFunctionExtension::new, 2, EnumSet.allOf(InputType.class)),
+    MIN(MinFunctionExtension::new, 2, EnumSet.allOf(InputType.class)),
+    OCT(OctalFunctionExtension::new, 1, EnumSet.of(InputType.INT, InputType.LONG)),
+    PI(PiFunctionExtension::new, 0, EnumSet.allOf(InputType.class)),
+    POWER(PowerFunctionExtension::new, 2, EnumSet.allOf(InputType.class)),
+    RAND(RandomFunctionExtension::new, 0, EnumSet.allOf(InputType.class)),
+    ROUND(RoundFunctionExtension::new, 1, EnumSet.of(InputType.FLOAT, InputType.DOUBLE)),
+    SIGNUM(SignFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    SIN(SinFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    SINH(SinhFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    SQRT(SquareRootFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    TAN(TanFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    TANH(TanhFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    TO_DEGREES(ToDegreesFunctionExtension::new, 1, EnumSet.allOf(InputType.class)),
+    TO_RADIANS(ToRadiansFunctionExtension::new, 1, EnumSet.allOf(InputType.class));
+
+    private final Supplier<FunctionExecutor> factory;
+    private final int arity;
+    private final Set<InputType> inputTypes;
+
+    MathFunction(Supplier<FunctionExecutor> factory, int arity, Set<InputType> inputTypes) {
+        this.factory = factory;
+        this.arity = arity;
+        this.inputTypes = inputTypes;
+    }
+
+    /**
+     * @return a new, uninitialised executor of the function
+     */
+    public FunctionExecutor newExecutor() {
+        return factory.get();
+    }
+
+    /**
+     * @return number of arguments of the function
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    public boolean supports(InputType inputType) {
+        return inputTypes.contains(inputType);
+    }
+}
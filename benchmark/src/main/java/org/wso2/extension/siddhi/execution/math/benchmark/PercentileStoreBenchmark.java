@@ -0,0 +1,106 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.extension.siddhi.execution.math.util.DualHeap;
+import org.wso2.extension.siddhi.execution.math.util.KllPercentileStore;
+import org.wso2.extension.siddhi.execution.math.util.KllSketch;
+import org.wso2.extension.siddhi.execution.math.util.PercentileMode;
+import org.wso2.extension.siddhi.execution.math.util.PercentileStore;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slides a length window over the stores of the percentile aggregators, removing the oldest value, adding a new one
+ * and reading the percentile for each event, which is the work done by the aggregators for a sliding window.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PercentileStoreBenchmark {
+
+    private static final double PERCENTILE = 99d;
+
+    /**
+     * A percentile mode of math:percentile(), or DUAL_HEAP used for its batch windows, or KLL used by
+     * math:approxPercentile().
+     */
+    @Param({"ARRAY", "TREE", "FREQUENCY", "TDIGEST", "HDR", "DUAL_HEAP", "KLL"})
+    private String store;
+
+    @Param({"100", "10000", "100000"})
+    private int windowSize;
+
+    /**
+     * Type of the values, whole numbers repeat within large windows while decimals rarely do.
+     */
+    @Param({"INT", "DOUBLE"})
+    private InputType inputType;
+
+    private PercentileStore percentileStore;
+    private double[] values;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        if ("DUAL_HEAP".equals(store)) {
+            percentileStore = new DualHeap(PERCENTILE);
+        } else if ("KLL".equals(store)) {
+            percentileStore = new KllPercentileStore(KllSketch.kForEpsilon(0.001), true);
+        } else {
+            PercentileMode mode = PercentileMode.valueOf(store);
+            if (!mode.supports(inputType.getAttributeType())) {
+                throw new IllegalArgumentException(store + " does not keep " + inputType + " values");
+            }
+            percentileStore = mode.newStore();
+        }
+        // at least twice the window, so that the values leaving the window are not the ones entering it
+        Object[] generated = inputType.values(Integer.highestOneBit(windowSize) << 2, 0);
+        values = new double[generated.length];
+        for (int i = 0; i < generated.length; i++) {
+            values[i] = ((Number) generated[i]).doubleValue();
+        }
+        for (next = 0; next < windowSize; next++) {
+            percentileStore.add(values[next]);
+        }
+    }
+
+    @Benchmark
+    public double slide() {
+        int mask = values.length - 1;
+        percentileStore.remove(values[(next - windowSize) & mask]);
+        percentileStore.add(values[next & mask]);
+        next++;
+        return percentileStore.percentile(PERCENTILE);
+    }
+}
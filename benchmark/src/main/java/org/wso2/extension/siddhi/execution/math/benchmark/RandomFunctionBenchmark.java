@@ -0,0 +1,81 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import io.siddhi.core.config.SiddhiAppContext;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEvent;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.query.api.definition.Attribute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.extension.siddhi.execution.math.RandomFunctionExtension;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls one math:rand() executor from several threads at once, as the worker threads of an async junction do,
+ * comparing the shared generator with the per thread generators. The scaling is seen by running with different
+ * numbers of threads, e.g. {@code -t 1} and {@code -t 8}, on a machine with as many cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class RandomFunctionBenchmark {
+
+    @Param({"shared", "perThread"})
+    private String generator;
+
+    @Param({"true"})
+    private boolean seeded;
+
+    private FunctionExecutor executor;
+
+    @Setup
+    public void setUp() {
+        ExpressionExecutor[] arguments = seeded ?
+                new ExpressionExecutor[]{new ConstantExpressionExecutor(42L, Attribute.Type.LONG)} :
+                new ExpressionExecutor[0];
+        executor = new RandomFunctionExtension();
+        executor.initExecutor(arguments, ProcessingMode.BATCH, new MapConfigReader().with("generator", generator),
+                              false, new SiddhiQueryContext(new SiddhiAppContext(), "benchmark"));
+    }
+
+    @Benchmark
+    public Object execute() {
+        return executor.execute((ComplexEvent) null);
+    }
+}
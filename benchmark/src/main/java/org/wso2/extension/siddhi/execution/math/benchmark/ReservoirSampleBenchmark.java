@@ -0,0 +1,85 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.extension.siddhi.execution.math.util.ReservoirSample;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds values to the sample of math:reservoirSample(), against Algorithm R, which draws a random number for every
+ * value. Both run for the whole measurement, hence they measure a sample which has seen millions of values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReservoirSampleBenchmark {
+
+    @Param({"100", "10000"})
+    private int k;
+
+    private ReservoirSample sample;
+    private double[] algorithmRValues;
+    private SplittableRandom algorithmRRandom;
+    private long algorithmRCount;
+    private long value;
+
+    @Setup
+    public void setUp() {
+        sample = new ReservoirSample(k, new SplittableRandom(42));
+        algorithmRValues = new double[k];
+        algorithmRRandom = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public boolean algorithmL() {
+        return sample.add(value++);
+    }
+
+    @Benchmark
+    public boolean algorithmR() {
+        long index = algorithmRCount++;
+        if (index < k) {
+            algorithmRValues[(int) index] = value++;
+            return true;
+        }
+        long slot = algorithmRRandom.nextLong(index + 1);
+        if (slot < k) {
+            algorithmRValues[(int) slot] = value++;
+            return true;
+        }
+        value++;
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.extension.siddhi.execution.math.ApproxPercentileFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.LogFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.MaxFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.PercentileFunctionExtension;
+import org.wso2.extension.siddhi.execution.math.PowerFunctionExtension;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends events through Siddhi apps using the extension, measuring the throughput of whole pipelines, from the
+ * input handler through the windows and selectors to the stream callbacks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SiddhiAppBenchmark {
+
+    private static final int EVENT_COUNT = 1 << 16;
+
+    /**
+     * Query run by the app, see {@link #selection()}.
+     */
+    @Param({"PERCENTILE", "PERCENTILE_TREE", "APPROX_PERCENTILE", "STATELESS_FUNCTIONS"})
+    private String query;
+
+    /**
+     * Length of the sliding window of the query, ignored by the stateless functions.
+     */
+    @Param({"100", "10000"})
+    private int windowSize;
+
+    @Param({"INT", "DOUBLE"})
+    private InputType inputType;
+
+    private SiddhiManager siddhiManager;
+    private SiddhiAppRuntime siddhiAppRuntime;
+    private InputHandler inputHandler;
+    private Object[][] events;
+    private int next;
+    private long received;
+
+    @Setup
+    public void setUp() {
+        siddhiManager = new SiddhiManager();
+        siddhiManager.setExtension("math:percentile", PercentileFunctionExtension.class);
+        siddhiManager.setExtension("math:approxPercentile", ApproxPercentileFunctionExtension.class);
+        siddhiManager.setExtension("math:log", LogFunctionExtension.class);
+        siddhiManager.setExtension("math:max", MaxFunctionExtension.class);
+        siddhiManager.setExtension("math:power", PowerFunctionExtension.class);
+        String siddhiApp = "define stream InValueStream (sensorId int, value " + inputType.getStreamType() + "); " +
+                "from InValueStream" + ("STATELESS_FUNCTIONS".equals(query) ? "" :
+                "#window.length(" + windowSize + ")") + " " +
+                "select " + selection() + " " +
+                "insert into OutStream;";
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(siddhiApp);
+        siddhiAppRuntime.addCallback("OutStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                received += events.length;
+            }
+        });
+        inputHandler = siddhiAppRuntime.getInputHandler("InValueStream");
+        siddhiAppRuntime.start();
+
+        Object[] values = inputType.values(EVENT_COUNT, 0);
+        events = new Object[EVENT_COUNT][];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            events[i] = new Object[]{i % 16, values[i]};
+        }
+    }
+
+    private String selection() {
+        switch (query) {
+            case "PERCENTILE":
+                return "math:percentile(value, 99.0) as p99";
+            case "PERCENTILE_TREE":
+                return "math:percentile(value, 99.0, 'tree') as p99";
+            case "APPROX_PERCENTILE":
+                return "math:approxPercentile(value, 99.0) as p99";
+            case "STATELESS_FUNCTIONS":
+                return "math:log(value, 10) as magnitude, math:power(value, 2) as squared, " +
+                        "math:max(value, 100) as clamped";
+            default:
+                throw new IllegalArgumentException("Unknown query " + query);
+        }
+    }
+
+    @Benchmark
+    public void send() throws InterruptedException {
+        inputHandler.send(events[next]);
+        next = (next + 1) & (EVENT_COUNT - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (received == 0) {
+            throw new IllegalStateException("No output was received from " + query);
+        }
+        siddhiAppRuntime.shutdown();
+        siddhiManager.shutdown();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.benchmark;
+
+import io.siddhi.core.event.ComplexEvent;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.query.api.definition.Attribute;
+
+/**
+ * Argument executor cycling through pre-generated values, standing in for the variable executors of a query so that
+ * functions can be benchmarked without the events and the pipeline around them.
+ */
+public class ValuesExecutor implements ExpressionExecutor {
+
+    private final Object[] values;
+    private final Attribute.Type type;
+    private int index;
+
+    /**
+     * @param values values to cycle through, whose count must be a power of two
+     * @param type   type of the values
+     */
+    public ValuesExecutor(Object[] values, Attribute.Type type) {
+        if (Integer.bitCount(values.length) != 1) {
+            throw new IllegalArgumentException("Number of values should be a power of two, but found "
+                                                       + values.length);
+        }
+        this.values = values;
+        this.type = type;
+    }
+
+    @Override
+    public Object execute(ComplexEvent event) {
+        Object value = values[index];
+        index = (index + 1) & (values.length - 1);
+        return value;
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return type;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.OperationNotSupportedException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.selector.attribute.aggregator.AttributeAggregatorExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import org.wso2.extension.siddhi.execution.math.util.KllPercentileStore;
+import org.wso2.extension.siddhi.execution.math.util.KllSketch;
+import org.wso2.extension.siddhi.execution.math.util.PercentileAttributeState;
+
+import java.util.Map;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>approxPercentile(value, p)</code> or <code>approxPercentile(value, p, epsilon)</code>
+ * Returns an estimate for the pth percentile of the stored values, whose rank error is bounded by epsilon.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / p: DOUBLE / epsilon: DOUBLE
+ * Return Type: DOUBLE
+ */
+@Extension(
+        name = "approxPercentile",
+        namespace = "math",
+        description = "This functions returns an estimate of the pth percentile value of a given argument, using " +
+                "a KLL quantile sketch. The rank of the returned value is within 'epsilon' times the number of " +
+                "events of the rank of the exact percentile, with high probability, while the memory used only " +
+                "grows logarithmically with the number of events. Over a sliding window, whose events are held by " +
+                "the window anyway, the values of the events in the window are kept as well, and the sketch is " +
+                "rebuilt from them once more events have expired than are left, hence the error stays within " +
+                "about three times 'epsilon' times the number of events in the window.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter whose percentile should be found.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "p",
+                        description = "Estimate of the percentile to be found (pth percentile) where p is any " +
+                                "number greater than 0 or lesser than or equal to 100.",
+                        type = {DataType.DOUBLE}),
+                @Parameter(
+                        name = "epsilon",
+                        description = "The normalized rank error allowed, where epsilon is greater than 0 and " +
+                                "lesser than 1. Smaller values give more accurate percentiles at the cost of " +
+                                "memory, which grows inversely with it.",
+                        type = {DataType.DOUBLE},
+                        optional = true,
+                        defaultValue = "0.01")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "Estimate of the 'p'th percentile value of the 'arg' values.",
+                type = {DataType.DOUBLE}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, latency double); \n" +
+                                "from InValueStream \n" +
+                                "select math:approxPercentile(latency, 99.0, 0.001) as percentile \n" +
+                                "insert into OutMediationStream;",
+                        description = "This function returns an estimate of the 99th percentile of all the " +
+                                "latencies received so far, whose rank is within 0.1% of the number of events " +
+                                "of the rank of the exact 99th percentile.")
+        }
+)
+public class ApproxPercentileFunctionExtension extends AttributeAggregatorExecutor<PercentileAttributeState> {
+
+    private static final double DEFAULT_EPSILON = 0.01;
+    private double percentileValue;
+    private int k;
+    private boolean slidingWindow;
+    private boolean outputExpectsExpiredEvents;
+
+    @Override
+    protected StateFactory<PercentileAttributeState> init(ExpressionExecutor[] expressionExecutors,
+                                                          ProcessingMode processingMode,
+                                                          boolean outputExpectsExpiredEvents,
+                                                          ConfigReader configReader,
+                                                          SiddhiQueryContext siddhiQueryContext) {
+        this.outputExpectsExpiredEvents = outputExpectsExpiredEvents;
+        this.slidingWindow = processingMode == ProcessingMode.SLIDE;
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+            throw new OperationNotSupportedException("Approximate percentile function has to have 2 or 3 " +
+                                                             "parameters, currently " +
+                                                             attributeExpressionExecutors.length +
+                                                             " parameters provided.");
+        }
+
+        if (!(attributeExpressionExecutors[1] instanceof ConstantExpressionExecutor)) {
+            throw new OperationNotSupportedException("Percentile value has to be a constant.");
+        }
+        Object percentileValueObject = attributeExpressionExecutors[1].execute(null);
+        if (percentileValueObject instanceof Double) {
+            percentileValue = (Double) percentileValueObject;
+        } else {
+            throw new OperationNotSupportedException("Percentile value should be of type double. But found "
+                                                             + attributeExpressionExecutors[1].getReturnType());
+        }
+        if (percentileValue <= 0 || percentileValue > 100) {
+            throw new OperationNotSupportedException(
+                    "Percentile value should be in 0 < p <= 100 range. But found " + percentileValue);
+        }
+
+        double epsilon = DEFAULT_EPSILON;
+        if (attributeExpressionExecutors.length == 3) {
+            if (!(attributeExpressionExecutors[2] instanceof ConstantExpressionExecutor)) {
+                throw new OperationNotSupportedException("Epsilon value has to be a constant.");
+            }
+            Object epsilonObject = attributeExpressionExecutors[2].execute(null);
+            if (epsilonObject instanceof Double) {
+                epsilon = (Double) epsilonObject;
+            } else {
+                throw new OperationNotSupportedException("Epsilon value should be of type double. But found "
+                                                                 + attributeExpressionExecutors[2].getReturnType());
+            }
+            if (epsilon <= 0 || epsilon >= 1) {
+                throw new OperationNotSupportedException(
+                        "Epsilon value should be in 0 < epsilon < 1 range. But found " + epsilon);
+            }
+        }
+        k = KllSketch.kForEpsilon(epsilon);
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+
+        // This approach is used to avoid per event type check as it has a negative performance impact.
+        return () -> {
+            switch (attributeType) {
+                case FLOAT:
+                    return new FloatApproxPercentileAttributeState();
+                case INT:
+                    return new IntApproxPercentileAttributeState();
+                case LONG:
+                    return new LongApproxPercentileAttributeState();
+                case DOUBLE:
+                    return new DoubleApproxPercentileAttributeState();
+                default:
+                    throw new OperationNotSupportedException("Approximate percentile not supported for " +
+                                                                     attributeType);
+            }
+        };
+    }
+
+    @Override
+    public Object processAdd(Object data, PercentileAttributeState state) {
+        // will not occur
+        return new IllegalStateException("Approximate percentile need multiple input, but found " + data);
+    }
+
+    @Override
+    public Object processAdd(Object[] data, PercentileAttributeState state) {
+        if (data == null) {
+            return state.currentValue();
+        }
+        return state.processAdd(data[0]);
+    }
+
+    @Override
+    public Object processRemove(Object data, PercentileAttributeState state) {
+        // will not occur
+        return new IllegalStateException("Approximate percentile need multiple input, but found " + data);
+    }
+
+    @Override
+    public Object processRemove(Object[] data, PercentileAttributeState state) {
+        if (data == null) {
+            return state.currentValue();
+        }
+        return state.processRemove(data[0]);
+    }
+
+    @Override
+    public Object reset(PercentileAttributeState state) {
+        return state.reset();
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.DOUBLE;
+    }
+
+    private abstract class ApproxPercentileAttributeState extends PercentileAttributeState {
+
+        protected final KllPercentileStore sketch = new KllPercentileStore(k, slidingWindow);
+        private double lastPercentile;
+
+        protected Object added() {
+            lastPercentile = sketch.percentile(percentileValue);
+            return lastPercentile;
+        }
+
+        protected Object removed() {
+            if (outputExpectsExpiredEvents) {
+                return added();
+            }
+            // querying the sketch is skipped, as the output does not carry expired events
+            return lastPercentile;
+        }
+
+        @Override
+        public Object reset() {
+            sketch.clear();
+            lastPercentile = 0.0;
+            return 0.0;
+        }
+
+        @Override
+        public Object currentValue() {
+            return sketch.percentile(percentileValue);
+        }
+
+        @Override
+        public boolean canDestroy() {
+            return sketch.isEmpty();
+        }
+
+        @Override
+        public long size() {
+            return sketch.size();
+        }
+
+        @Override
+        public Map<String, Object> snapshot() {
+            return sketch.snapshot();
+        }
+
+        @Override
+        public void restore(Map<String, Object> map) {
+            sketch.restore(map);
+        }
+    }
+
+    private class DoubleApproxPercentileAttributeState extends ApproxPercentileAttributeState {
+
+        @Override
+        public Object processAdd(Object data) {
+            sketch.add((Double) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            sketch.remove((Double) obj);
+            return removed();
+        }
+    }
+
+    private class FloatApproxPercentileAttributeState extends ApproxPercentileAttributeState {
+
+        @Override
+        public Object processAdd(Object data) {
+            sketch.add((Float) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            sketch.remove((Float) obj);
+            return removed();
+        }
+    }
+
+    private class IntApproxPercentileAttributeState extends ApproxPercentileAttributeState {
+
+        @Override
+        public Object processAdd(Object data) {
+            sketch.add((Integer) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            sketch.remove((Integer) obj);
+            return removed();
+        }
+    }
+
+    private class LongApproxPercentileAttributeState extends ApproxPercentileAttributeState {
+
+        @Override
+        public Object processAdd(Object data) {
+            sketch.add((Long) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            sketch.remove((Long) obj);
+            return removed();
+        }
+    }
+}
@@ -32,6 +32,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.DoubleConverter;
 
 /**
  * atan(a); or atan(a,b);
@@ -79,6 +80,9 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class AtanFunctionExtension extends FunctionExecutor {
 
+    private DoubleConverter firstConverter;
+    private DoubleConverter secondConverter;
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -101,72 +105,32 @@ public class AtanFunctionExtension extends FunctionExecutor {
             }
             attributeIndex++;
         }
+        firstConverter = DoubleConverter.forType(attributeExpressionExecutors[0].getReturnType());
+        if (attributeExpressionExecutors.length == 2) {
+            secondConverter = DoubleConverter.forType(attributeExpressionExecutors[1].getReturnType());
+        }
         return null;
     }
 
     @Override
     protected Object execute(Object[] data, State state) {
-        double inputVal1 = 0d;
-        double inputVal2 = 0d;
-
-        if (data[0] != null) {
-            //type-conversion
-            if (data[0] instanceof Integer) {
-                int inputInt = (Integer) data[0];
-                inputVal1 = (double) inputInt;
-            } else if (data[0] instanceof Long) {
-                long inputLong = (Long) data[0];
-                inputVal1 = (double) inputLong;
-            } else if (data[0] instanceof Float) {
-                float inputLong = (Float) data[0];
-                inputVal1 = (double) inputLong;
-            } else if (data[0] instanceof Double) {
-                inputVal1 = (Double) data[0];
-            }
-        } else {
+        if (data[0] == null) {
             throw new SiddhiAppRuntimeException("Input to the math:atan() function cannot be null");
         }
-
-        if (data[1] != null) {
-            //type-conversion
-            if (data[1] instanceof Integer) {
-                int inputInt = (Integer) data[1];
-                inputVal2 = (double) inputInt;
-            } else if (data[1] instanceof Long) {
-                long inputLong = (Long) data[1];
-                inputVal2 = (double) inputLong;
-            } else if (data[1] instanceof Float) {
-                float inputLong = (Float) data[1];
-                inputVal2 = (double) inputLong;
-            } else if (data[1] instanceof Double) {
-                inputVal2 = (Double) data[1];
-            }
-        } else {
+        if (data[1] == null) {
             throw new SiddhiAppRuntimeException("Input to the math:atan() function cannot be null");
         }
-        return Math.atan2(inputVal1, inputVal2);
+        double first = firstConverter.toDouble(data[0]);
+        double second = secondConverter.toDouble(data[1]);
+        return Math.atan2(first, second);
     }
 
     @Override
     protected Object execute(Object data, State state) {
-        if (data != null) {
-            //type-conversion
-            if (data instanceof Integer) {
-                int inputInt = (Integer) data;
-                return Math.atan((double) inputInt);
-            } else if (data instanceof Long) {
-                long inputLong = (Long) data;
-                return Math.atan((double) inputLong);
-            } else if (data instanceof Float) {
-                float inputFloat = (Float) data;
-                return Math.atan((double) inputFloat);
-            } else if (data instanceof Double) {
-                return Math.atan((Double) data);
-            }
-        } else {
+        if (data == null) {
             throw new SiddhiAppRuntimeException("Input to the math:atan() function cannot be null");
         }
-        return null;
+        return Math.atan(firstConverter.toDouble(data));
     }
 
     @Override
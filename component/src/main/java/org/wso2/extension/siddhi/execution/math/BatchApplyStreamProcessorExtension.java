@@ -0,0 +1,221 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.event.ComplexEventChunk;
+import io.siddhi.core.event.stream.MetaStreamEvent;
+import io.siddhi.core.event.stream.StreamEvent;
+import io.siddhi.core.event.stream.StreamEventCloner;
+import io.siddhi.core.event.stream.holder.StreamEventClonerHolder;
+import io.siddhi.core.event.stream.populater.ComplexEventPopulater;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.processor.Processor;
+import io.siddhi.core.query.processor.stream.StreamProcessor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.AbstractDefinition;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.BatchFunction;
+import org.wso2.extension.siddhi.execution.math.util.DoubleConverter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * #math:batchApply(function, arg, attributeName);
+ * Applies a single argument math function to the arg values of each chunk of events at once, and appends the
+ * results to the events.
+ * Accept Type(s): function: STRING / arg: INT,LONG,FLOAT,DOUBLE / attributeName: STRING
+ * Return Type(s): DOUBLE
+ */
+@Extension(
+        name = "batchApply",
+        namespace = "math",
+        description = "This stream processor applies a single argument math function to the 'arg' values of each " +
+                "chunk of events arriving together, such as the events of an input handler batch or of a batch " +
+                "window, and appends the results to the events as a double attribute. The values of a chunk are " +
+                "read into a primitive array and the function runs over it in a single loop, without boxing the " +
+                "intermediate values, which suits streams received in large batches. The results of non null " +
+                "values are the same as the ones of the math functions of the same names. The supported " +
+                "functions are abs, acos, asin, atan, cbrt, ceil, cos, cosh, exp, floor, ln, log10, log2, sin, " +
+                "sinh, sqrt, tan, tanh, toDegrees and toRadians. Unlike those functions, which fail on a null " +
+                "value, null values give null results, so that a single null value does not fail the whole chunk.",
+        parameters = {
+                @Parameter(
+                        name = "function",
+                        description = "Name of the math function to apply.",
+                        type = {DataType.STRING}),
+                @Parameter(
+                        name = "arg",
+                        description = "The value the function is applied to.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "attribute.name",
+                        description = "Name of the attribute holding the results.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "The name of the function")
+        },
+        returnAttributes = @ReturnAttribute(
+                name = "attribute.name",
+                description = "Result of the function for the 'arg' value of the event.",
+                type = {DataType.DOUBLE}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, reading double); \n" +
+                                "from InValueStream#math:batchApply('sqrt', reading) \n" +
+                                "select sensorId, sqrt \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query appends the square root of the reading of each event as the " +
+                                "'sqrt' attribute, computing the square roots of each chunk of events together."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, angle double); \n" +
+                                "from InValueStream#window.lengthBatch(1000)#math:batchApply('cos', angle, 'x') \n" +
+                                "select sensorId, x \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query computes the cosines of the angles of each batch of 1000 " +
+                                "events together, and appends them as the 'x' attribute.")
+        }
+)
+public class BatchApplyStreamProcessorExtension extends StreamProcessor<State> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private BatchFunction function;
+    private DoubleConverter converter;
+    private List<Attribute> returnAttributes;
+    // the processor is shared by the threads sending into the stream, hence each of them gathers its chunks into
+    // its own column buffers
+    private final ThreadLocal<Columns> columns = ThreadLocal.withInitial(Columns::new);
+
+    @Override
+    protected StateFactory<State> init(MetaStreamEvent metaStreamEvent, AbstractDefinition inputDefinition,
+                                       ExpressionExecutor[] attributeExpressionExecutors, ConfigReader configReader,
+                                       StreamEventClonerHolder streamEventClonerHolder,
+                                       boolean outputExpectsExpiredEvents, boolean findToBeExecuted,
+                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to math:batchApply() " +
+                    "function, required 2 or 3, but found " + attributeExpressionExecutors.length);
+        }
+        String functionName = constantString(attributeExpressionExecutors[0], "first");
+        function = BatchFunction.fromName(functionName);
+        if (function == null) {
+            throw new SiddhiAppValidationException("The function '" + functionName + "' cannot be applied by " +
+                    "math:batchApply(), the supported functions are " + BatchFunction.functionNames());
+        }
+        converter = DoubleConverter.forType(attributeExpressionExecutors[1].getReturnType());
+        if (converter == null) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the second argument of " +
+                    "math:batchApply() function, required " + Attribute.Type.INT + " or " + Attribute.Type.LONG +
+                    " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
+                    ", but found " + attributeExpressionExecutors[1].getReturnType());
+        }
+        String attributeName = attributeExpressionExecutors.length == 3
+                ? constantString(attributeExpressionExecutors[2], "third") : function.getFunctionName();
+        returnAttributes = Collections.singletonList(new Attribute(attributeName, Attribute.Type.DOUBLE));
+        return null;
+    }
+
+    private static String constantString(ExpressionExecutor executor, String position) {
+        if (!(executor instanceof ConstantExpressionExecutor) || executor.getReturnType() != Attribute.Type.STRING) {
+            throw new SiddhiAppValidationException("The " + position + " argument of math:batchApply() function " +
+                    "should be a constant string, but found " + executor.getReturnType());
+        }
+        return (String) ((ConstantExpressionExecutor) executor).getValue();
+    }
+
+    @Override
+    protected void process(ComplexEventChunk<StreamEvent> streamEventChunk, Processor nextProcessor,
+                           StreamEventCloner streamEventCloner, ComplexEventPopulater complexEventPopulater,
+                           State state) {
+        // gather the column, chunks are linked lists of events whose size is not known up front
+        Columns columns = this.columns.get();
+        int count = 0;
+        streamEventChunk.reset();
+        while (streamEventChunk.hasNext()) {
+            Object value = attributeExpressionExecutors[1].execute(streamEventChunk.next());
+            if (count == columns.values.length) {
+                columns.grow();
+            }
+            columns.nulls[count] = value == null;
+            if (value != null) {
+                columns.values[count] = converter.toDouble(value);
+            }
+            count++;
+        }
+        double[] values = columns.values;
+        boolean[] nulls = columns.nulls;
+        function.apply(values, count);
+        // scatter the results back in the same order
+        int index = 0;
+        streamEventChunk.reset();
+        while (streamEventChunk.hasNext()) {
+            complexEventPopulater.populateComplexEvent(streamEventChunk.next(),
+                    new Object[]{nulls[index] ? null : values[index]});
+            index++;
+        }
+        nextProcessor.process(streamEventChunk);
+    }
+
+    @Override
+    public List<Attribute> getReturnAttributes() {
+        return returnAttributes;
+    }
+
+    @Override
+    public ProcessingMode getProcessingMode() {
+        return ProcessingMode.BATCH;
+    }
+
+    @Override
+    public void start() {
+        // nothing to start
+    }
+
+    @Override
+    public void stop() {
+        // nothing to stop
+    }
+
+    /**
+     * Column buffers of a thread, grown to the size of the largest chunk it processed so far.
+     */
+    private static final class Columns {
+
+        private double[] values = new double[INITIAL_CAPACITY];
+        private boolean[] nulls = new boolean[INITIAL_CAPACITY];
+
+        private void grow() {
+            values = Arrays.copyOf(values, values.length << 1);
+            nulls = Arrays.copyOf(nulls, nulls.length << 1);
+        }
+    }
+}
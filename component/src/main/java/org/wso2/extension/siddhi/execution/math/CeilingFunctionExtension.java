@@ -32,6 +32,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.IntegralResultCache;
 
 /**
  * ceil(a)
@@ -69,6 +70,8 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class CeilingFunctionExtension extends FunctionExecutor {
 
+    private final IntegralResultCache resultCache = new IntegralResultCache(IntegralResultCache.DEFAULT_RANGE);
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -95,9 +98,9 @@ public class CeilingFunctionExtension extends FunctionExecutor {
     protected Object execute(Object data, State state) {
         if (data != null) {
             if (data instanceof Float) {
-                return Math.ceil((Float) data);
+                return resultCache.valueOf(Math.ceil((Float) data));
             } else {
-                return Math.ceil((Double) data);
+                return resultCache.valueOf(Math.ceil((Double) data));
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:ceil() function cannot be null");
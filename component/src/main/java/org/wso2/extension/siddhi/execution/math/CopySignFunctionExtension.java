@@ -32,6 +32,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.DoubleArgument;
 
 /**
  * copysign(magnitude,sign);
@@ -70,6 +71,10 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
                                "copySign(5.6d, -3.0d) returns -5.6.")
 )
 public class CopySignFunctionExtension extends FunctionExecutor {
+
+    private DoubleArgument magnitudeArgument;
+    private DoubleArgument signArgument;
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -97,49 +102,22 @@ public class CopySignFunctionExtension extends FunctionExecutor {
                     " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
                     ", but found " + attributeType.toString());
         }
+        magnitudeArgument = DoubleArgument.of(attributeExpressionExecutors[0]);
+        signArgument = DoubleArgument.of(attributeExpressionExecutors[1]);
         return null;
     }
 
     @Override
     protected Object execute(Object[] data, State state) {
-        double inputVal1 = 0d;
-        double inputVal2 = 0d;
-
-        if (data[0] != null) {
-            //type-conversion
-            if (data[0] instanceof Integer) {
-                int inputInt = (Integer) data[0];
-                inputVal1 = (double) inputInt;
-            } else if (data[0] instanceof Long) {
-                long inputLong = (Long) data[0];
-                inputVal1 = (double) inputLong;
-            } else if (data[0] instanceof Float) {
-                float inputLong = (Float) data[0];
-                inputVal1 = (double) inputLong;
-            } else if (data[0] instanceof Double) {
-                inputVal1 = (Double) data[0];
-            }
-        } else {
+        if (data[0] == null) {
             throw new SiddhiAppRuntimeException("Input to the math:copysign() function cannot be null");
         }
-        if (data[1] != null) {
-            //type-conversion
-            if (data[1] instanceof Integer) {
-                int inputInt = (Integer) data[1];
-                inputVal2 = (double) inputInt;
-            } else if (data[1] instanceof Long) {
-                long inputLong = (Long) data[1];
-                inputVal2 = (double) inputLong;
-            } else if (data[1] instanceof Float) {
-                float inputLong = (Float) data[1];
-                inputVal2 = (double) inputLong;
-            } else if (data[1] instanceof Double) {
-                inputVal2 = (Double) data[1];
-            }
-        } else {
+        if (data[1] == null) {
             throw new SiddhiAppRuntimeException("Input to the math:copysign() function cannot be null");
         }
-        return Math.copySign(inputVal1, inputVal2);
+        double magnitude = magnitudeArgument.toDouble(data[0]);
+        double sign = signArgument.toDouble(data[1]);
+        return Math.copySign(magnitude, sign);
     }
 
     @Override
@@ -22,6 +22,7 @@ import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -32,6 +33,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.ApproximateMath;
 
 /**
  * cosh(a);
@@ -53,6 +55,13 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
         returnAttributes = @ReturnAttribute(
                 description = "The hyperbolic cosine value of the input parameter.",
                 type = {DataType.DOUBLE}),
+        systemParameter = @SystemParameter(
+                name = "approximate",
+                description = "If set to true, the hyperbolic cosine is approximated by a table lookup instead of " +
+                        "`java.lang.Math.cosh()`, which is faster, and the relative error is at most 5e-16. " +
+                        "Values outside the range of the table are computed exactly.",
+                defaultValue = "false",
+                possibleParameters = {"true", "false"}),
         examples = @Example(
 
                 syntax = "define stream InValueStream (inValue double); \n" +
@@ -64,6 +73,8 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
                         "cosh (6d) returns 201.7156361224559.")
 )
 public class CoshFunctionExtension extends FunctionExecutor {
+
+    private boolean approximate;
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -81,6 +92,7 @@ public class CoshFunctionExtension extends FunctionExecutor {
                     " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
                     ", but found " + attributeType.toString());
         }
+        approximate = ApproximateMath.isEnabled(configReader, "cosh");
         return null;
     }
 
@@ -95,15 +107,15 @@ public class CoshFunctionExtension extends FunctionExecutor {
             //type-conversion
             if (data instanceof Integer) {
                 int inputInt = (Integer) data;
-                return Math.cosh((double) inputInt);
+                return cosh((double) inputInt);
             } else if (data instanceof Long) {
                 long inputLong = (Long) data;
-                return Math.cosh((double) inputLong);
+                return cosh((double) inputLong);
             } else if (data instanceof Float) {
                 float inputFloat = (Float) data;
-                return Math.cosh((double) inputFloat);
+                return cosh((double) inputFloat);
             } else if (data instanceof Double) {
-                return Math.cosh((Double) data);
+                return cosh((Double) data);
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:cosh() function cannot be null");
@@ -111,6 +123,10 @@ public class CoshFunctionExtension extends FunctionExecutor {
         return null;
     }
 
+    private double cosh(double value) {
+        return approximate ? ApproximateMath.cosh(value) : Math.cosh(value);
+    }
+
     @Override
     public Attribute.Type getReturnType() {
         return Attribute.Type.DOUBLE;
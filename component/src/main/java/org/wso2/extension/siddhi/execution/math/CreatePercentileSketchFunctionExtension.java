@@ -0,0 +1,111 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.KllSketch;
+
+/**
+ * createPercentileSketch(value);
+ * Returns a percentile sketch holding the given value, to be merged by mergePercentileSketch.
+ * Accept Type(s): INT/LONG/FLOAT/DOUBLE
+ * Return Type(s): OBJECT
+ */
+@Extension(
+        name = "createPercentileSketch",
+        namespace = "math",
+        description = "This function returns a KLL percentile sketch holding the given value. Sketches can be " +
+                "merged by `math:mergePercentileSketch`, and their percentiles are read by " +
+                "`math:percentileOfSketch`. It is used by the `percentileSketch` incremental aggregator to " +
+                "summarise each event.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value to be held by the sketch.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A percentile sketch holding the value.",
+                type = {DataType.OBJECT}),
+        examples = @Example(
+                syntax = "define stream InValueStream (sensorId int, latency double); \n" +
+                        "from InValueStream \n" +
+                        "select sensorId, math:createPercentileSketch(latency) as latencySketch \n" +
+                        "insert into SketchStream;",
+                description = "This function returns a percentile sketch holding the latency of each event.")
+)
+public class CreatePercentileSketchFunctionExtension extends FunctionExecutor {
+
+    static final int DEFAULT_K = KllSketch.kForEpsilon(0.01);
+
+    @Override
+    protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 1) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to " +
+                    "math:createPercentileSketch() function, required 1, but found " +
+                    attributeExpressionExecutors.length);
+        }
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+        if (!((attributeType == Attribute.Type.DOUBLE)
+                || (attributeType == Attribute.Type.INT)
+                || (attributeType == Attribute.Type.FLOAT)
+                || (attributeType == Attribute.Type.LONG))) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the argument of " +
+                    "math:createPercentileSketch() function, required " + Attribute.Type.INT + " or " +
+                    Attribute.Type.LONG + " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
+                    ", but found " + attributeType.toString());
+        }
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        return null;    // This method won't get called. Hence, unimplemented.
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        if (data == null) {
+            throw new SiddhiAppRuntimeException("Input to the math:createPercentileSketch() function cannot " +
+                    "be null");
+        }
+        KllSketch sketch = new KllSketch(DEFAULT_K);
+        sketch.update(((Number) data).doubleValue());
+        return sketch;
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.OBJECT;
+    }
+}
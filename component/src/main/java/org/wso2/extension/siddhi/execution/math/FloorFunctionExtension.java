@@ -32,6 +32,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.IntegralResultCache;
 
 /**
  * floor(a)
@@ -66,6 +67,8 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class FloorFunctionExtension extends FunctionExecutor {
 
+    private final IntegralResultCache resultCache = new IntegralResultCache(IntegralResultCache.DEFAULT_RANGE);
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -97,15 +100,15 @@ public class FloorFunctionExtension extends FunctionExecutor {
             //type-conversion
             if (data instanceof Integer) {
                 int inputInt = (Integer) data;
-                return Math.floor((double) inputInt);
+                return resultCache.valueOf(Math.floor((double) inputInt));
             } else if (data instanceof Long) {
                 long inputLong = (Long) data;
-                return Math.floor((double) inputLong);
+                return resultCache.valueOf(Math.floor((double) inputLong));
             } else if (data instanceof Float) {
                 float inputFloat = (Float) data;
-                return Math.floor((double) inputFloat);
+                return resultCache.valueOf(Math.floor((double) inputFloat));
             } else if (data instanceof Double) {
-                return Math.floor((Double) data);
+                return resultCache.valueOf(Math.floor((Double) data));
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:floor() function cannot be null");
@@ -32,6 +32,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.IntegralResultCache;
 
 /**
  * get_exponent(a)
@@ -64,6 +65,10 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
                         "For example, getExponent(60984.1) returns 15.")
 )
 public class GetExponentFunctionExtension extends FunctionExecutor {
+
+    // covers every exponent of a float or a double, from Double.MIN_EXPONENT - 1 to Double.MAX_EXPONENT + 1
+    private final IntegralResultCache resultCache = new IntegralResultCache(Double.MAX_EXPONENT + 1);
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -95,14 +100,14 @@ public class GetExponentFunctionExtension extends FunctionExecutor {
             //type-conversion
             if (data instanceof Integer) {
                 int inputInt = (Integer) data;
-                return Math.getExponent((double) inputInt);
+                return resultCache.valueOf(Math.getExponent((double) inputInt));
             } else if (data instanceof Long) {
                 long inputLong = (Long) data;
-                return Math.getExponent((double) inputLong);
+                return resultCache.valueOf(Math.getExponent((double) inputLong));
             } else if (data instanceof Float) {
-                return Math.getExponent((Float) data);
+                return resultCache.valueOf(Math.getExponent((Float) data));
             } else if (data instanceof Double) {
-                return Math.getExponent((Double) data);
+                return resultCache.valueOf(Math.getExponent((Double) data));
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:getExponent() function cannot be null");
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import org.wso2.extension.siddhi.execution.math.util.MomentsStatistic;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>kurtosis(value)</code> or <code>kurtosis(value, sample)</code>
+ * Returns the excess kurtosis of the stored values.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / sample: BOOL
+ * Return Type: DOUBLE
+ */
+@Extension(
+        name = "kurtosis",
+        namespace = "math",
+        description = "This function returns the excess kurtosis of a given argument, which is the fourth " +
+                "central moment of the values divided by the square of their variance, less 3, such that it is 0 " +
+                "for normally distributed values. It is positive when outliers are more frequent than for " +
+                "normally distributed values. The moments are kept in the same way as for `math:skewness`, hence " +
+                "each event is added and removed in constant time.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter whose kurtosis should be found. Null values " +
+                                "are skipped.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "sample",
+                        description = "If `true`, the excess kurtosis of a sample, as estimated from the unbiased " +
+                                "cumulants of the values, is returned. Otherwise the excess kurtosis of the " +
+                                "population is returned.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "The excess kurtosis of the 'arg' values, or null when they are all equal, or " +
+                        "there are fewer than four values for the sample kurtosis.",
+                type = {DataType.DOUBLE}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.length(100) \n" +
+                                "select sensorId, math:kurtosis(temperature) as kurtosis \n" +
+                                "group by sensorId \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the excess kurtosis of the temperatures of the last " +
+                                "100 events of each sensor."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.time(1 min) \n" +
+                                "select math:kurtosis(temperature, true) as kurtosis \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the sample excess kurtosis of the temperatures of the last " +
+                                "minute.")
+        }
+)
+public class KurtosisFunctionExtension extends MomentsFunctionExtension {
+
+    public KurtosisFunctionExtension() {
+        super(MomentsStatistic.KURTOSIS, "Kurtosis");
+    }
+}
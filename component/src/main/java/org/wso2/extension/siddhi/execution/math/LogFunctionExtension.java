@@ -32,6 +32,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.DoubleArgument;
 
 /**
  * log(number,base);
@@ -70,6 +71,10 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class LogFunctionExtension extends FunctionExecutor {
 
+    private DoubleArgument numberArgument;
+    private DoubleArgument baseArgument;
+    private double logOfConstantBase;
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -97,49 +102,33 @@ public class LogFunctionExtension extends FunctionExecutor {
                     " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
                     ", but found " + attributeType.toString());
         }
+        numberArgument = DoubleArgument.of(attributeExpressionExecutors[0]);
+        baseArgument = DoubleArgument.of(attributeExpressionExecutors[1]);
+        if (baseArgument.isConstant()) {
+            if (baseArgument.getConstantValue() == 1) {
+                throw new SiddhiAppValidationException("The base argument supplied to the math:log() function " +
+                        "is equal to 1. Since the logarithms to the base 1 is undefined, math:log() cannot be " +
+                        "used with a constant base of 1");
+            }
+            logOfConstantBase = Math.log(baseArgument.getConstantValue());
+        }
         return null;
     }
 
     @Override
     protected Object execute(Object[] data, State state) {
-        double number = 0d;
-        double base = 0d;
-        double outputValue;
-
-        if (data[0] != null) {
-            //type-conversion
-            if (data[0] instanceof Integer) {
-                int inputInt = (Integer) data[0];
-                number = (double) inputInt;
-            } else if (data[0] instanceof Long) {
-                long inputLong = (Long) data[0];
-                number = (double) inputLong;
-            } else if (data[0] instanceof Float) {
-                float inputLong = (Float) data[0];
-                number = (double) inputLong;
-            } else if (data[0] instanceof Double) {
-                number = (Double) data[0];
-            }
-        } else {
+        if (data[0] == null) {
             throw new SiddhiAppRuntimeException("The first argument to the math:log() function cannot be null");
         }
-        if (data[1] != null) {
-            //type-conversion
-            if (data[1] instanceof Integer) {
-                int inputInt = (Integer) data[1];
-                base = (double) inputInt;
-            } else if (data[1] instanceof Long) {
-                long inputLong = (Long) data[1];
-                base = (double) inputLong;
-            } else if (data[1] instanceof Float) {
-                float inputLong = (Float) data[1];
-                base = (double) inputLong;
-            } else if (data[1] instanceof Double) {
-                base = (Double) data[1];
-            }
-        } else {
+        if (data[1] == null) {
             throw new SiddhiAppRuntimeException("The second argument to the math:log() function cannot be null");
         }
+        double number = numberArgument.toDouble(data[0]);
+        if (baseArgument.isConstant()) {
+            // divided rather than multiplied by the reciprocal, to keep the results of the per event path
+            return Math.log(number) / logOfConstantBase;
+        }
+        double base = baseArgument.toDouble(data[1]);
         if (base == 1) {
             throw new SiddhiAppRuntimeException("The base argument supplied to the math:log() function is equal to " +
                     "zero. Since the logarithms to the base 1 is undefined, the result of math:log(" + number + "," +
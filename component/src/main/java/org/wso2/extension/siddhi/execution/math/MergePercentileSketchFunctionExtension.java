@@ -0,0 +1,186 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.OperationNotSupportedException;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.selector.attribute.aggregator.AttributeAggregatorExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import org.wso2.extension.siddhi.execution.math.util.KllSketch;
+
+import java.util.Map;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>mergePercentileSketch(sketch)</code>
+ * Returns a percentile sketch summarising all the given sketches, or values.
+ * Accept Type(s): OBJECT,INT,LONG,FLOAT,DOUBLE
+ * Return Type: OBJECT
+ */
+@Extension(
+        name = "mergePercentileSketch",
+        namespace = "math",
+        description = "This function merges the given KLL percentile sketches into a single sketch, whose " +
+                "percentiles are read by `math:percentileOfSketch`. Plain values are added to the sketch as they " +
+                "are. It is used by the `percentileSketch` incremental aggregator to roll the sketches of a time " +
+                "granularity up into the next one. As sketches cannot forget values, it is meant for batch windows " +
+                "and for streams without windows, and sliding windows are rejected. Each output is a copy of the " +
+                "sketch, which later events do not change, and which shares the levels of the sketch until they " +
+                "change.",
+        parameters = {
+                @Parameter(
+                        name = "sketch",
+                        description = "The percentile sketch to merge, or a value to add.",
+                        type = {DataType.OBJECT, DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A percentile sketch summarising the merged sketches and values.",
+                type = {DataType.OBJECT}),
+        examples = @Example(
+                syntax = "define stream SketchStream (sensorId int, latencySketch object); \n" +
+                        "from SketchStream#window.timeBatch(1 min) \n" +
+                        "select math:percentileOfSketch(math:mergePercentileSketch(latencySketch), 95.0) as p95 \n" +
+                        "insert into OutMediationStream;",
+                description = "This function merges the latency sketches received each minute and returns the " +
+                        "95th percentile of all the latencies they summarise.")
+)
+public class MergePercentileSketchFunctionExtension
+        extends AttributeAggregatorExecutor<MergePercentileSketchFunctionExtension.SketchState> {
+
+    @Override
+    protected StateFactory<SketchState> init(ExpressionExecutor[] expressionExecutors,
+                                             ProcessingMode processingMode, boolean outputExpectsExpiredEvents,
+                                             ConfigReader configReader, SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 1) {
+            throw new OperationNotSupportedException("Merge percentile sketch function has to have exactly 1 " +
+                                                             "parameter, currently " +
+                                                             attributeExpressionExecutors.length +
+                                                             " parameters provided.");
+        }
+        if (processingMode == ProcessingMode.SLIDE) {
+            throw new OperationNotSupportedException("Merge percentile sketch cannot be used with sliding " +
+                                                             "windows, as sketches cannot forget expired values.");
+        }
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+        if (attributeType == Attribute.Type.STRING || attributeType == Attribute.Type.BOOL) {
+            throw new OperationNotSupportedException("Merge percentile sketch not supported for " +
+                                                             attributeType);
+        }
+        return SketchState::new;
+    }
+
+    @Override
+    public Object processAdd(Object data, SketchState state) {
+        if (data instanceof KllSketch) {
+            state.mutableSketch().merge((KllSketch) data);
+        } else if (data instanceof Number) {
+            state.mutableSketch().update(((Number) data).doubleValue());
+        } else if (data != null) {
+            throw new SiddhiAppRuntimeException("Input to the math:mergePercentileSketch() function should be " +
+                                                        "a percentile sketch or a number, but found " +
+                                                        data.getClass().getName());
+        }
+        return state.output();
+    }
+
+    @Override
+    public Object processAdd(Object[] data, SketchState state) {
+        // will not occur
+        return new IllegalStateException("Merge percentile sketch need a single input, but found " +
+                                                 data.length);
+    }
+
+    @Override
+    public Object processRemove(Object data, SketchState state) {
+        // sketches cannot forget values, hence sliding windows are rejected, and the expired events of batch windows
+        // are followed by a reset
+        return state.output();
+    }
+
+    @Override
+    public Object processRemove(Object[] data, SketchState state) {
+        // will not occur
+        return new IllegalStateException("Merge percentile sketch need a single input, but found " +
+                                                 data.length);
+    }
+
+    @Override
+    public Object reset(SketchState state) {
+        state.mutableSketch().clear();
+        return state.output();
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.OBJECT;
+    }
+
+    class SketchState extends State {
+
+        private KllSketch sketch = new KllSketch(CreatePercentileSketchFunctionExtension.DEFAULT_K);
+        private KllSketch output;
+
+        /**
+         * @return the sketch to update, which is never one already emitted
+         */
+        private KllSketch mutableSketch() {
+            output = null;
+            return sketch;
+        }
+
+        /**
+         * Emitted events keep the sketch they were emitted with, hence each output is a copy of the sketch, which
+         * is shared by the following outputs until the sketch changes. The copy shares the levels of the sketch,
+         * hence the sketch only copies the levels it changes after an output, which mostly is its small first level.
+         */
+        private KllSketch output() {
+            if (output == null) {
+                output = sketch.copy();
+            }
+            return output;
+        }
+
+        @Override
+        public boolean canDestroy() {
+            return sketch.isEmpty();
+        }
+
+        @Override
+        public Map<String, Object> snapshot() {
+            return sketch.snapshot();
+        }
+
+        @Override
+        public void restore(Map<String, Object> state) {
+            sketch = KllSketch.fromSnapshot(state);
+            output = null;
+        }
+    }
+}
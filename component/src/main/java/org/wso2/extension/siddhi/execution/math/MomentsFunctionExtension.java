@@ -0,0 +1,130 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.OperationNotSupportedException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.selector.attribute.aggregator.AttributeAggregatorExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import org.wso2.extension.siddhi.execution.math.util.DoubleConverter;
+import org.wso2.extension.siddhi.execution.math.util.MomentsAttributeState;
+import org.wso2.extension.siddhi.execution.math.util.MomentsStatistic;
+
+/**
+ * AttributeAggregator which returns a statistic of the moments of the stored values, kept by Welford's algorithm.
+ * <code>statistic(value)</code> or <code>statistic(value, sample)</code>
+ * The aggregators extending it only differ in the statistic they return.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / sample: BOOL
+ */
+public abstract class MomentsFunctionExtension extends AttributeAggregatorExecutor<MomentsAttributeState> {
+
+    private final MomentsStatistic statistic;
+    private final String name;
+
+    /**
+     * @param statistic statistic returned by the aggregator
+     * @param name      name of the aggregator, used in the error messages
+     */
+    protected MomentsFunctionExtension(MomentsStatistic statistic, String name) {
+        this.statistic = statistic;
+        this.name = name;
+    }
+
+    @Override
+    protected StateFactory<MomentsAttributeState> init(ExpressionExecutor[] expressionExecutors,
+                                                       ProcessingMode processingMode,
+                                                       boolean outputExpectsExpiredEvents,
+                                                       ConfigReader configReader,
+                                                       SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 1 && attributeExpressionExecutors.length != 2) {
+            throw new OperationNotSupportedException(name + " function has to have 1 or 2 parameters, " +
+                                                             "currently " + attributeExpressionExecutors.length +
+                                                             " parameters provided.");
+        }
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+        if (DoubleConverter.forType(attributeType) == null) {
+            throw new OperationNotSupportedException(name + " not supported for " + attributeType);
+        }
+        boolean sample = attributeExpressionExecutors.length == 2 && readSample(attributeExpressionExecutors[1]);
+
+        // This approach is used to avoid per event type check as it has a negative performance impact.
+        return () -> MomentsAttributeState.create(attributeType, statistic, sample, outputExpectsExpiredEvents);
+    }
+
+    private boolean readSample(ExpressionExecutor executor) {
+        if (!(executor instanceof ConstantExpressionExecutor) || executor.getReturnType() != Attribute.Type.BOOL) {
+            throw new OperationNotSupportedException(name + " sample flag has to be a constant bool, but found " +
+                                                             executor.getReturnType());
+        }
+        Object sample = executor.execute(null);
+        if (sample == null) {
+            throw new OperationNotSupportedException(name + " sample flag has to be a constant bool, but found " +
+                                                             "null");
+        }
+        return (Boolean) sample;
+    }
+
+    @Override
+    public Object processAdd(Object data, MomentsAttributeState state) {
+        if (data == null) {
+            return state.currentValue();
+        }
+        return state.processAdd(data);
+    }
+
+    @Override
+    public Object processAdd(Object[] data, MomentsAttributeState state) {
+        if (data == null || data[0] == null) {
+            return state.currentValue();
+        }
+        return state.processAdd(data[0]);
+    }
+
+    @Override
+    public Object processRemove(Object data, MomentsAttributeState state) {
+        if (data == null) {
+            return state.currentValue();
+        }
+        return state.processRemove(data);
+    }
+
+    @Override
+    public Object processRemove(Object[] data, MomentsAttributeState state) {
+        if (data == null || data[0] == null) {
+            return state.currentValue();
+        }
+        return state.processRemove(data[0]);
+    }
+
+    @Override
+    public Object reset(MomentsAttributeState state) {
+        return state.reset();
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        // the statistics are returned together as a double array
+        return statistic == MomentsStatistic.STATS ? Attribute.Type.OBJECT : Attribute.Type.DOUBLE;
+    }
+}
@@ -23,27 +23,16 @@ import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ReturnAttribute;
 import io.siddhi.annotation.util.DataType;
-import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.OperationNotSupportedException;
 import io.siddhi.core.executor.ConstantExpressionExecutor;
-import io.siddhi.core.executor.ExpressionExecutor;
-import io.siddhi.core.query.processor.ProcessingMode;
-import io.siddhi.core.query.selector.attribute.aggregator.AttributeAggregatorExecutor;
-import io.siddhi.core.util.config.ConfigReader;
-import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
-import org.wso2.extension.siddhi.execution.math.util.PercentileAttributeState;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
 
 /**
  * AttributeAggregator which implements the following function.
- * <code>percentile(value, p)</code>
+ * <code>percentile(value, p)</code>, <code>percentile(value, p, mode)</code> or
+ * <code>percentile(value, p, mode, precision)</code>
  * Returns an estimate for the pth percentile of the stored values.
- * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / p: DOUBLE
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / p: DOUBLE / mode: STRING / precision: INT,LONG,FLOAT,DOUBLE
  * Return Type: DOUBLE
  */
 @Extension(
@@ -59,35 +48,85 @@ import java.util.Map;
                         name = "p",
                         description = "Estimate of the percentile to be found (pth percentile) " +
                                 "where p is any number greater than 0 or lesser than or equal to 100.",
-                        type = {DataType.DOUBLE})
+                        type = {DataType.DOUBLE}),
+                @Parameter(
+                        name = "mode",
+                        description = "The structure used to keep the values. `array` keeps a sorted array, " +
+                                "which is compact but costs O(n) per insertion and removal. `tree` keeps an " +
+                                "order statistic tree, which costs O(log n) per insertion, removal and lookup, " +
+                                "and is preferred for windows holding more than about 100,000 events. " +
+                                "`frequency` keeps each distinct value once with its count, costing O(log d) per " +
+                                "insertion, removal and lookup for d distinct values, and is preferred for values " +
+                                "with a few hundred distinct values, such as status codes or rounded latencies. " +
+                                "`tdigest` keeps a merging t-digest, which approximates the percentile using memory " +
+                                "bounded by the compression factor, and is preferred for unbounded streams and very " +
+                                "long windows. When events expire from a window, the t-digest removes them " +
+                                "approximately, by reducing the weight of the closest centroid. `hdr` keeps a " +
+                                "high dynamic range histogram of int or long values, which records and removes " +
+                                "values in O(1) time and returns them within the precision of the given number of " +
+                                "significant digits, and is preferred for latencies. Negative values are counted " +
+                                "by their magnitude in a second histogram, created with the first negative value.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "array"),
+                @Parameter(
+                        name = "precision",
+                        description = "The compression factor of the `tdigest` mode, or the number of " +
+                                "significant digits, from 1 to 5, of the `hdr` mode. Higher values give more " +
+                                "accurate percentiles at the cost of memory. The default is 100 for `tdigest` and 3 " +
+                                "for `hdr`.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE},
+                        optional = true,
+                        defaultValue = "100")
         },
         returnAttributes = @ReturnAttribute(
                 description = "Estimate of the 'p'th percentile value of the 'arg' values.",
                 type = {DataType.DOUBLE}),
-        examples = @Example(
-
-                syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
-                        "from InValueStream \n" +
-                        "select math:percentile(temperature, 97.0) as percentile \n" +
-                        "insert into OutMediationStream;",
-                description = "This function returns the percentile value based on the argument given." +
-                        " For example, math:percentile(temperature, 97.0) returns the 97th percentile " +
-                        "value of all the temperature events."
-        )
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream \n" +
+                                "select math:percentile(temperature, 97.0) as percentile \n" +
+                                "insert into OutMediationStream;",
+                        description = "This function returns the percentile value based on the argument given." +
+                                " For example, math:percentile(temperature, 97.0) returns the 97th percentile " +
+                                "value of all the temperature events."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, latency long); \n" +
+                                "from InValueStream#window.length(500000) \n" +
+                                "select math:percentile(latency, 99.0, 'tree') as percentile \n" +
+                                "insert into OutMediationStream;",
+                        description = "This function returns the 99th percentile of the latencies of the last " +
+                                "500000 events, keeping them in an order statistic tree so that each event is " +
+                                "processed in O(log n) time."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, latency double); \n" +
+                                "from InValueStream \n" +
+                                "select math:percentile(latency, 99.0, 'tdigest', 200) as percentile \n" +
+                                "insert into OutMediationStream;",
+                        description = "This function returns an estimate of the 99th percentile of all the " +
+                                "latencies received so far, using a t-digest with compression factor 200 so that " +
+                                "the memory used stays bounded."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, latencyMicros long); \n" +
+                                "from InValueStream#window.time(1 min) \n" +
+                                "select math:percentile(latencyMicros, 99.9, 'hdr', 2) as percentile \n" +
+                                "insert into OutMediationStream;",
+                        description = "This function returns the 99.9th percentile of the latencies of the last " +
+                                "minute within 1% precision, counting them in a histogram of two significant " +
+                                "digits.")
+        }
 )
-public class PercentileFunctionExtension extends AttributeAggregatorExecutor<PercentileAttributeState> {
+public class PercentileFunctionExtension extends PercentileStoreFunctionExtension {
 
-    private static final String VALUES_LIST = "VALUES_LIST";
-    private PercentileAttributeState percentileAttributeState;
-    private double percentileValue;
-    private List<Double> valuesList;
+    public PercentileFunctionExtension() {
+        super(false, "Percentile");
+    }
 
     @Override
-    protected StateFactory<PercentileAttributeState> init(ExpressionExecutor[] expressionExecutors,
-                                                          ProcessingMode processingMode, boolean b,
-                                ConfigReader configReader, SiddhiQueryContext siddhiQueryContext) {
-        if (attributeExpressionExecutors.length != 2) {
-            throw new OperationNotSupportedException("Percentile function has to have exactly 2 parameter, currently "
+    protected double[] readArguments() {
+        if (attributeExpressionExecutors.length < 2 || attributeExpressionExecutors.length > 4) {
+            throw new OperationNotSupportedException("Percentile function has to have 2 to 4 parameters, currently "
                                                              + attributeExpressionExecutors.length +
                                                              " parameters provided.");
         }
@@ -96,6 +135,7 @@ public class PercentileFunctionExtension extends AttributeAggregatorExecutor<Per
             throw new OperationNotSupportedException("Percentile value has to be a constant.");
         }
 
+        double percentileValue;
         Object percentileValueObject = attributeExpressionExecutors[1].execute(null);
         if (percentileValueObject instanceof Double) {
             percentileValue = ((Double) percentileValueObject);
@@ -108,273 +148,17 @@ public class PercentileFunctionExtension extends AttributeAggregatorExecutor<Per
             throw new OperationNotSupportedException(
                     "Percentile value should be in 0 < p <= 100 range. But found " + percentileValue);
         }
-        valuesList = new ArrayList<>();
-        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
-
-        // This approach is used to avoid per event type check as it has a negative performance impact.
-        return () -> {
-            switch (attributeType) {
-                case FLOAT:
-                    return new FloatPercentileAttributeState();
-                case INT:
-                    return new IntPercentileAttributeState();
-                case LONG:
-                    return new LongPercentileAttributeState();
-                case DOUBLE:
-                    return new DoublePercentileAttributeState();
-                default:
-                    throw new OperationNotSupportedException("Percentile not supported for " + attributeType);
+        if (attributeExpressionExecutors.length >= 3) {
+            if (!(attributeExpressionExecutors[2] instanceof ConstantExpressionExecutor)
+                    || attributeExpressionExecutors[2].getReturnType() != Attribute.Type.STRING) {
+                throw new OperationNotSupportedException("Percentile mode has to be a constant string, but found "
+                                                                 + attributeExpressionExecutors[2].getReturnType());
             }
-        };
-    }
-
-    @Override
-    public Object processAdd(Object data, PercentileAttributeState state) {
-        // will not occur
-        return new IllegalStateException("Percentile need multiple input, but found " + data);
-    }
-
-    @Override public Object processAdd(Object[] data, PercentileAttributeState state) {
-        if (data == null) {
-            return state.currentValue();
-        }
-        return state.processAdd(data[0]);
-
-    }
-
-    @Override public Object processRemove(Object data, PercentileAttributeState state) {
-        // will not occur
-        return new IllegalStateException("Percentile need multiple input, but found " + data);
-    }
-
-    @Override public Object processRemove(Object[] data, PercentileAttributeState state) {
-        if (data == null) {
-            return state.currentValue();
-        }
-        return state.processRemove(data[0]);
-    }
-
-    @Override public Object reset(PercentileAttributeState state) {
-        return state.reset();
-    }
-
-    /**
-     * Percentile calculation method.
-     * <p>
-     * To calculate the pth percentile (where p is any number greater than 0 or less than or equal to 100), do the
-     * following steps:
-     * 1. Order all the values in the data set from smallest to largest.
-     * 2. Multiply p percent by the total number of values, n. This number is called the index.
-     * 3. If the index obtained in Step 2 is not a whole number, round it up to the nearest whole number and go to Step
-     * 4a. If the index obtained in Step 2 is a whole number, go to Step 4b.
-     * 4a. Count the values in your data set from left to right (from the smallest to the largest value) until you reach
-     * the number indicated by Step 3. The corresponding value in your data set is the pth percentile.
-     * 4b. Count the values in your data set from left to right until you reach the number indicated by Step 2.
-     * The pth percentile is the average of that corresponding value in your data set and the value that directly
-     * follows it.
-     *
-     * @param valuesList values list
-     * @param percentile percentile (p)
-     * @return pth percentile value
-     */
-    private double getPercentileValue(List<Double> valuesList, double percentile) {
-
-        double percentileIndexTemp;
-        int percentileIndex;
-
-        // calculating percentile index
-        percentileIndexTemp = percentile * valuesList.size() / 100;
-
-        if (percentileIndexTemp % 1 == 0) {
-            percentileIndex = (int) percentileIndexTemp;
-            if (percentileIndex == valuesList.size()) {
-                return valuesList.get(percentileIndex - 1);
-            } else {
-                return (valuesList.get(percentileIndex - 1) + valuesList.get(percentileIndex)) / 2;
-            }
-        } else {
-            percentileIndex = (int) Math.round(percentileIndexTemp);
-            if (percentileIndex == 0) {
-                return valuesList.get(percentileIndex);
-            } else {
-                return valuesList.get(percentileIndex - 1);
-            }
-        }
-    }
-
-    /**
-     * Adding values to the sorted ArrayList.
-     *
-     * @param arrayList sorted ArrayList
-     * @param value     new value
-     */
-    private void sortedArrayListAdd(List<Double> arrayList, double value) {
-
-        int insertIndex = Collections.binarySearch(arrayList, value);
-        if (insertIndex < 0) {
-            arrayList.add(-insertIndex - 1, value);
-        } else {
-            arrayList.add(insertIndex + 1, value);
-        }
-    }
-
-    /**
-     * Removing values from the sorted ArrayList.
-     *
-     * @param arrayList Sorted ArrayList
-     * @param value     expired value
-     */
-    private void sortedArrayListRemove(List<Double> arrayList, double value) {
-        int removeIndex = Collections.binarySearch(arrayList, value);
-        arrayList.remove(removeIndex);
-    }
-
-    @Override public Attribute.Type getReturnType() {
-        return Attribute.Type.DOUBLE;
-    }
-
-    private class DoublePercentileAttributeState extends PercentileAttributeState {
-
-        @Override public Object processAdd(Object data) {
-            double value = (Double) data;
-            sortedArrayListAdd(valuesList, value);
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public Object processRemove(Object obj) {
-            double value = (Double) obj;
-            sortedArrayListRemove(valuesList, value);
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public Object reset() {
-            valuesList.clear();
-            return 0.0;
-        }
-
-        @Override public Object currentValue() {
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public boolean canDestroy() {
-            return valuesList.isEmpty();
-        }
-
-        @Override public Map<String, Object> snapshot() {
-            return Collections.singletonMap(VALUES_LIST, valuesList);
-        }
-
-        @Override public void restore(Map<String, Object> map) {
-            valuesList = (List<Double>) map.get(VALUES_LIST);
-        }
-    }
-
-    private class FloatPercentileAttributeState extends PercentileAttributeState {
-
-        @Override public Object processAdd(Object data) {
-            float value = (Float) data;
-            sortedArrayListAdd(valuesList, value);
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public Object processRemove(Object obj) {
-            double value = (Float) obj;
-            sortedArrayListRemove(valuesList, value);
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public Object reset() {
-            valuesList.clear();
-            return 0.0;
-        }
-
-        @Override public Object currentValue() {
-            return getPercentileValue(valuesList, percentileValue);
+            readMode(attributeExpressionExecutors[2]);
         }
-
-        @Override public boolean canDestroy() {
-            return valuesList.isEmpty();
-        }
-
-        @Override public Map<String, Object> snapshot() {
-            return Collections.singletonMap(VALUES_LIST, valuesList);
-        }
-
-        @Override public void restore(Map<String, Object> map) {
-            valuesList = (List<Double>) map.get(VALUES_LIST);
+        if (attributeExpressionExecutors.length == 4) {
+            readPrecision(attributeExpressionExecutors[3]);
         }
+        return new double[]{percentileValue};
     }
-
-    private class IntPercentileAttributeState extends PercentileAttributeState {
-
-        @Override public Object processAdd(Object data) {
-            float value = (Integer) data;
-            sortedArrayListAdd(valuesList, value);
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public Object processRemove(Object obj) {
-            double value = (Integer) obj;
-            sortedArrayListRemove(valuesList, value);
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public Object reset() {
-            valuesList.clear();
-            return 0.0;
-        }
-
-        @Override public Object currentValue() {
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public boolean canDestroy() {
-            return valuesList.isEmpty();
-        }
-
-        @Override public Map<String, Object> snapshot() {
-            return Collections.singletonMap(VALUES_LIST, valuesList);
-        }
-
-        @Override public void restore(Map<String, Object> map) {
-            valuesList = (List<Double>) map.get(VALUES_LIST);
-        }
-    }
-
-    private class LongPercentileAttributeState extends PercentileAttributeState {
-
-        @Override public Object processAdd(Object data) {
-            float value = (Long) data;
-            sortedArrayListAdd(valuesList, value);
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public Object processRemove(Object obj) {
-            double value = (Long) obj;
-            sortedArrayListRemove(valuesList, value);
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public Object reset() {
-            valuesList.clear();
-            return 0.0;
-        }
-
-        @Override public Object currentValue() {
-            return getPercentileValue(valuesList, percentileValue);
-        }
-
-        @Override public boolean canDestroy() {
-            return valuesList.isEmpty();
-        }
-
-        @Override public Map<String, Object> snapshot() {
-            return Collections.singletonMap(VALUES_LIST, valuesList);
-        }
-
-        @Override public void restore(Map<String, Object> map) {
-            valuesList = (List<Double>) map.get(VALUES_LIST);
-        }
-    }
-
 }
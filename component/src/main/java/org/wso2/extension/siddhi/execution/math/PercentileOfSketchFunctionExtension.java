@@ -0,0 +1,140 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.KllSketch;
+
+/**
+ * percentileOfSketch(sketch, p);
+ * Returns an estimate for the pth percentile of the values summarised by a percentile sketch.
+ * Accept Type(s): sketch: OBJECT / p: DOUBLE
+ * Return Type(s): DOUBLE
+ */
+@Extension(
+        name = "percentileOfSketch",
+        namespace = "math",
+        description = "This function returns an estimate of the pth percentile of the values summarised by a " +
+                "percentile sketch, such as the ones returned by the `percentileSketch` incremental aggregator " +
+                "and by `math:mergePercentileSketch`. The rank of the returned value is within 1% of the number " +
+                "of summarised values of the rank of the exact percentile, with high probability.",
+        parameters = {
+                @Parameter(
+                        name = "sketch",
+                        description = "The percentile sketch.",
+                        type = {DataType.OBJECT}),
+                @Parameter(
+                        name = "p",
+                        description = "Estimate of the percentile to be found (pth percentile) where p is any " +
+                                "number greater than 0 or lesser than or equal to 100.",
+                        type = {DataType.DOUBLE})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "Estimate of the 'p'th percentile of the values summarised by the sketch, or null " +
+                        "if the sketch is empty.",
+                type = {DataType.DOUBLE}),
+        examples = @Example(
+                syntax = "define stream InValueStream (sensorId int, latency double, timestamp long); \n" +
+                        "define aggregation LatencyAggregation \n" +
+                        "from InValueStream \n" +
+                        "select sensorId, percentileSketch(latency) as latencySketch \n" +
+                        "group by sensorId \n" +
+                        "aggregate by timestamp every sec ... year; \n" +
+                        "\n" +
+                        "define stream QueryStream (sensorId int); \n" +
+                        "from QueryStream as Q join LatencyAggregation as A \n" +
+                        "on Q.sensorId == A.sensorId \n" +
+                        "within '2026-10-01 00:00:00 +05:30', '2026-10-08 00:00:00 +05:30' \n" +
+                        "per 'days' \n" +
+                        "select A.sensorId, A.AGG_TIMESTAMP, math:percentileOfSketch(A.latencySketch, 99.0) " +
+                        "as p99 \n" +
+                        "insert into DailyLatencyStream;",
+                description = "This function returns the daily 99th percentile latency of each sensor for a week, " +
+                        "read from the sketches of the aggregation, which are built by merging the sketches of " +
+                        "the finer granularities.")
+)
+public class PercentileOfSketchFunctionExtension extends FunctionExecutor {
+
+    private double percentileValue;
+
+    @Override
+    protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 2) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to math:percentileOfSketch() " +
+                    "function, required 2, but found " + attributeExpressionExecutors.length);
+        }
+        if (attributeExpressionExecutors[0].getReturnType() != Attribute.Type.OBJECT) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the first argument of " +
+                    "math:percentileOfSketch() function, required " + Attribute.Type.OBJECT + ", but found " +
+                    attributeExpressionExecutors[0].getReturnType());
+        }
+        if (!(attributeExpressionExecutors[1] instanceof ConstantExpressionExecutor)
+                || attributeExpressionExecutors[1].getReturnType() != Attribute.Type.DOUBLE) {
+            throw new SiddhiAppValidationException("The second argument of math:percentileOfSketch() function " +
+                    "should be a constant double, but found " + attributeExpressionExecutors[1].getReturnType());
+        }
+        percentileValue = (Double) attributeExpressionExecutors[1].execute(null);
+        if (percentileValue <= 0 || percentileValue > 100) {
+            throw new SiddhiAppValidationException("Percentile value of math:percentileOfSketch() function " +
+                    "should be in 0 < p <= 100 range. But found " + percentileValue);
+        }
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        if (data[0] == null) {
+            return null;
+        }
+        if (!(data[0] instanceof KllSketch)) {
+            throw new SiddhiAppRuntimeException("The first argument of math:percentileOfSketch() function " +
+                    "should be a percentile sketch, but found " + data[0].getClass().getName());
+        }
+        KllSketch sketch = (KllSketch) data[0];
+        if (sketch.isEmpty()) {
+            return null;
+        }
+        return sketch.quantile(percentileValue / 100);
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        return null;    // This method won't get called. Hence, unimplemented.
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.DOUBLE;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.query.selector.attribute.aggregator.incremental.IncrementalAttributeAggregator;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.expression.Expression;
+
+/**
+ * Incremental aggregator which implements the following function.
+ * <code>percentileSketch(value)</code>
+ * Keeps a mergeable percentile sketch of the values of each duration, built by merging the sketches of the finer
+ * durations.
+ * Accept Type(s): INT,LONG,FLOAT,DOUBLE
+ * Return Type: OBJECT
+ */
+@Extension(
+        name = "percentileSketch",
+        namespace = "incrementalAggregator",
+        description = "Keeps a KLL percentile sketch of the values of each duration of an incremental aggregation. " +
+                "A sketch is created for each event by `math:createPercentileSketch`, and the sketches of each " +
+                "duration are merged by `math:mergePercentileSketch` into the sketch of the duration, which in " +
+                "turn is merged into the sketch of the next coarser duration. Hence the percentiles of days or " +
+                "years of events are read from a few merged sketches instead of the events themselves. The " +
+                "percentiles are read from the sketches by `math:percentileOfSketch`, within 1% of the number of " +
+                "values of the rank of the exact percentiles, with high probability.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter whose percentiles should be found.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE})
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A percentile sketch of the 'arg' values of the duration.",
+                type = {DataType.OBJECT}),
+        examples = @Example(
+                syntax = "define stream InValueStream (sensorId int, latency double, timestamp long); \n" +
+                        "define aggregation LatencyAggregation \n" +
+                        "from InValueStream \n" +
+                        "select sensorId, percentileSketch(latency) as latencySketch \n" +
+                        "group by sensorId \n" +
+                        "aggregate by timestamp every sec ... year;",
+                description = "This aggregation keeps a percentile sketch of the latencies of each sensor for " +
+                        "every second, minute, hour, day, month and year, from which percentiles are read by " +
+                        "`math:percentileOfSketch(latencySketch, 99.0)` when the aggregation is queried.")
+)
+public class PercentileSketchIncrementalAttributeAggregator extends IncrementalAttributeAggregator {
+
+    private Attribute[] baseAttributes;
+    private Expression[] baseAttributesInitialValues;
+
+    @Override
+    public void init(String attributeName, Attribute.Type attributeType) {
+        if (attributeName == null) {
+            throw new SiddhiAppRuntimeException("Percentile sketch aggregation cannot be executed on null " +
+                                                        "attribute name");
+        }
+        if (attributeType != Attribute.Type.INT && attributeType != Attribute.Type.LONG
+                && attributeType != Attribute.Type.FLOAT && attributeType != Attribute.Type.DOUBLE) {
+            throw new SiddhiAppRuntimeException("Percentile sketch aggregation cannot be executed on attribute " +
+                                                        "type " + attributeType);
+        }
+        Attribute sketch = new Attribute("AGG_PERCENTILE_SKETCH_".concat(attributeName), Attribute.Type.OBJECT);
+        baseAttributes = new Attribute[]{sketch};
+        baseAttributesInitialValues = new Expression[]{Expression.function("math", "createPercentileSketch",
+                Expression.variable(attributeName))};
+    }
+
+    @Override
+    public Expression aggregate() {
+        return Expression.variable(baseAttributes[0].getName());
+    }
+
+    @Override
+    public Attribute[] getBaseAttributes() {
+        return baseAttributes;
+    }
+
+    @Override
+    public Expression[] getBaseAttributeInitialValues() {
+        return baseAttributesInitialValues;
+    }
+
+    @Override
+    public Expression[] getBaseAggregators() {
+        return new Expression[]{Expression.function("math", "mergePercentileSketch",
+                Expression.variable(baseAttributes[0].getName()))};
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.OBJECT;
+    }
+}
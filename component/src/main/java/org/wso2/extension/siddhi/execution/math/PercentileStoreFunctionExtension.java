@@ -0,0 +1,185 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.OperationNotSupportedException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.selector.attribute.aggregator.AttributeAggregatorExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import org.wso2.extension.siddhi.execution.math.util.DualHeap;
+import org.wso2.extension.siddhi.execution.math.util.IncrementalPercentileStore;
+import org.wso2.extension.siddhi.execution.math.util.OrderStatisticTree;
+import org.wso2.extension.siddhi.execution.math.util.PercentileMode;
+import org.wso2.extension.siddhi.execution.math.util.PercentileStore;
+import org.wso2.extension.siddhi.execution.math.util.PercentileStoreAttributeState;
+
+/**
+ * AttributeAggregator which returns percentiles of the stored values, kept in the percentile store of the mode.
+ * The aggregators extending it only differ in their arguments, and in returning a single percentile or an array.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / p: DOUBLE / mode: STRING / precision: INT,LONG,FLOAT,DOUBLE
+ */
+public abstract class PercentileStoreFunctionExtension
+        extends AttributeAggregatorExecutor<PercentileStoreAttributeState> {
+
+    private final boolean arrayOutput;
+    private final String name;
+    private double[] percentileValues;
+    private PercentileMode mode;
+    private double precision;
+    private boolean batchProcessing;
+    private boolean incrementalPersistence;
+
+    /**
+     * @param arrayOutput whether the percentiles are returned as a double array, rather than a single percentile
+     * @param name        name of the aggregator, used in the error messages
+     */
+    protected PercentileStoreFunctionExtension(boolean arrayOutput, String name) {
+        this.arrayOutput = arrayOutput;
+        this.name = name;
+    }
+
+    @Override
+    protected StateFactory<PercentileStoreAttributeState> init(ExpressionExecutor[] expressionExecutors,
+                                                               ProcessingMode processingMode,
+                                                               boolean outputExpectsExpiredEvents,
+                                                               ConfigReader configReader,
+                                                               SiddhiQueryContext siddhiQueryContext) {
+        mode = PercentileMode.ARRAY;
+        precision = mode.getDefaultPrecision();
+        percentileValues = readArguments();
+        try {
+            // each state creates its own store, hence this one only validates the precision
+            mode.newStore(precision);
+        } catch (IllegalArgumentException e) {
+            throw new OperationNotSupportedException("Invalid percentile precision for the '" +
+                                                             mode.getModeName() + "' mode. " + e.getMessage());
+        }
+        // batch windows reset the values of each chunk and add them back one by one, hence the sorted array is
+        // replaced by a store taking each value in O(log n) time
+        batchProcessing = processingMode == ProcessingMode.BATCH && mode == PercentileMode.ARRAY;
+        incrementalPersistence = siddhiQueryContext.getSiddhiAppContext().getSiddhiContext()
+                .getIncrementalPersistenceStore() != null;
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+        if (!mode.supports(attributeType)) {
+            throw new OperationNotSupportedException("Percentile mode '" + mode.getModeName() + "' does not support " +
+                                                             "values of type " + attributeType);
+        }
+
+        // This approach is used to avoid per event type check as it has a negative performance impact.
+        return () -> PercentileStoreAttributeState.create(attributeType, newStore(), percentileValues, arrayOutput,
+                                                          outputExpectsExpiredEvents);
+    }
+
+    /**
+     * Reads the arguments following the value, reading the mode and the precision by {@link #readMode} and
+     * {@link #readPrecision}.
+     *
+     * @return the percentiles returned by the aggregator
+     */
+    protected abstract double[] readArguments();
+
+    /**
+     * @param executor executor of the mode argument, which should be a constant string
+     */
+    protected void readMode(ExpressionExecutor executor) {
+        String modeName = (String) executor.execute(null);
+        mode = PercentileMode.fromName(modeName);
+        if (mode == null) {
+            throw new OperationNotSupportedException("Percentile mode should be one of " +
+                                                             PercentileMode.modeNames() + ". But found " +
+                                                             modeName);
+        }
+        precision = mode.getDefaultPrecision();
+    }
+
+    /**
+     * @param executor executor of the precision argument, which follows the mode argument
+     */
+    protected void readPrecision(ExpressionExecutor executor) {
+        if (!mode.isPrecisionSupported()) {
+            throw new OperationNotSupportedException("Percentile precision is not supported for the '" +
+                                                             mode.getModeName() + "' mode.");
+        }
+        if (!(executor instanceof ConstantExpressionExecutor)) {
+            throw new OperationNotSupportedException("Percentile precision has to be a constant.");
+        }
+        Object precisionObject = executor.execute(null);
+        if (!(precisionObject instanceof Number)) {
+            throw new OperationNotSupportedException("Percentile precision should be of type int, long, float or " +
+                                                             "double. But found " + executor.getReturnType());
+        }
+        precision = ((Number) precisionObject).doubleValue();
+    }
+
+    private PercentileStore newStore() {
+        PercentileStore store;
+        if (batchProcessing) {
+            // a single percentile is kept by heaps split at it, while an order statistic tree looks each of several
+            // percentiles up in O(log n) time
+            store = arrayOutput ? new OrderStatisticTree() : new DualHeap(percentileValues[0]);
+        } else {
+            store = mode.newStore(precision);
+        }
+        return incrementalPersistence ? IncrementalPercentileStore.wrap(store) : store;
+    }
+
+    @Override
+    public Object processAdd(Object data, PercentileStoreAttributeState state) {
+        // will not occur
+        return new IllegalStateException(name + " need multiple input, but found " + data);
+    }
+
+    @Override
+    public Object processAdd(Object[] data, PercentileStoreAttributeState state) {
+        if (data == null) {
+            return state.currentValue();
+        }
+        return state.processAdd(data[0]);
+    }
+
+    @Override
+    public Object processRemove(Object data, PercentileStoreAttributeState state) {
+        // will not occur
+        return new IllegalStateException(name + " need multiple input, but found " + data);
+    }
+
+    @Override
+    public Object processRemove(Object[] data, PercentileStoreAttributeState state) {
+        if (data == null) {
+            return state.currentValue();
+        }
+        return state.processRemove(data[0]);
+    }
+
+    @Override
+    public Object reset(PercentileStoreAttributeState state) {
+        return state.reset();
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        // several percentiles are returned together as a double array
+        return arrayOutput ? Attribute.Type.OBJECT : Attribute.Type.DOUBLE;
+    }
+}
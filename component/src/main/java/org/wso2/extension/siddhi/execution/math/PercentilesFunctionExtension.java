@@ -0,0 +1,145 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.exception.OperationNotSupportedException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.query.api.definition.Attribute;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>percentiles(value, p1, p2, ...)</code>, <code>percentiles(value, p1, p2, ..., mode)</code> or
+ * <code>percentiles(value, p1, p2, ..., mode, precision)</code>
+ * Returns estimates for several percentiles of the stored values, computed from a single store.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / p: DOUBLE / mode: STRING / precision: INT,LONG,FLOAT,DOUBLE
+ * Return Type: OBJECT
+ */
+@Extension(
+        name = "percentiles",
+        namespace = "math",
+        description = "This functions returns several percentile values of a given argument at once, as a " +
+                "double array holding the percentiles in the order they are given. All the percentiles are " +
+                "looked up from a single store of the values, hence it is cheaper than calling " +
+                "`math:percentile` once for each percentile, which keeps a copy of the values for each call.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter whose percentiles should be found.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "p",
+                        description = "One or more percentiles to be found, where each p is any number greater " +
+                                "than 0 or lesser than or equal to 100.",
+                        type = {DataType.DOUBLE}),
+                @Parameter(
+                        name = "mode",
+                        description = "The structure used to keep the values, which is one of `array`, `tree`, " +
+                                "`frequency`, `tdigest` or `hdr`, as described for `math:percentile`.",
+                        type = {DataType.STRING},
+                        optional = true,
+                        defaultValue = "array"),
+                @Parameter(
+                        name = "precision",
+                        description = "The compression factor of the `tdigest` mode, or the number of " +
+                                "significant digits of the `hdr` mode, as described for `math:percentile`.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE},
+                        optional = true,
+                        defaultValue = "100")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A double array holding the estimates of the percentile values of the 'arg' " +
+                        "values, in the order of the given percentiles.",
+                type = {DataType.OBJECT}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, latency double); \n" +
+                                "from InValueStream#window.length(10000) \n" +
+                                "select math:percentiles(latency, 50.0, 90.0, 99.0, 99.9, 'tree') as percentiles \n" +
+                                "insert into OutMediationStream;",
+                        description = "This function returns the 50th, 90th, 99th and 99.9th percentiles of the " +
+                                "latencies of the last 10000 events, as a double array of four elements, keeping " +
+                                "a single order statistic tree of the latencies."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, latency long); \n" +
+                                "from InValueStream \n" +
+                                "select math:percentiles(latency, 50.0, 99.0, 'hdr', 2) as percentiles \n" +
+                                "insert into OutMediationStream;",
+                        description = "This function returns the median and the 99th percentile of all the " +
+                                "latencies received so far, within 1% precision, from a single histogram of two " +
+                                "significant digits.")
+        }
+)
+public class PercentilesFunctionExtension extends PercentileStoreFunctionExtension {
+
+    public PercentilesFunctionExtension() {
+        super(true, "Percentiles");
+    }
+
+    @Override
+    protected double[] readArguments() {
+        int percentileCount = attributeExpressionExecutors.length - 1;
+        ExpressionExecutor precisionExecutor = null;
+        if (percentileCount > 1 && isConstantString(attributeExpressionExecutors[percentileCount - 1])
+                && !isConstantString(attributeExpressionExecutors[percentileCount])) {
+            precisionExecutor = attributeExpressionExecutors[percentileCount];
+            percentileCount--;
+        }
+        if (percentileCount > 0 && isConstantString(attributeExpressionExecutors[percentileCount])) {
+            readMode(attributeExpressionExecutors[percentileCount]);
+            percentileCount--;
+        }
+        if (precisionExecutor != null) {
+            readPrecision(precisionExecutor);
+        }
+        if (percentileCount < 1) {
+            throw new OperationNotSupportedException("Percentiles function has to have at least one percentile " +
+                                                             "value, but found none.");
+        }
+
+        double[] percentileValues = new double[percentileCount];
+        for (int i = 0; i < percentileCount; i++) {
+            ExpressionExecutor executor = attributeExpressionExecutors[i + 1];
+            if (!(executor instanceof ConstantExpressionExecutor)) {
+                throw new OperationNotSupportedException("Percentile values have to be constants.");
+            }
+            Object percentileValueObject = executor.execute(null);
+            if (!(percentileValueObject instanceof Double)) {
+                throw new OperationNotSupportedException("Percentile values should be of type double. But found "
+                                                                 + executor.getReturnType());
+            }
+            double percentileValue = (Double) percentileValueObject;
+            if (percentileValue <= 0 || percentileValue > 100) {
+                throw new OperationNotSupportedException(
+                        "Percentile values should be in 0 < p <= 100 range. But found " + percentileValue);
+            }
+            percentileValues[i] = percentileValue;
+        }
+        return percentileValues;
+    }
+
+    private static boolean isConstantString(ExpressionExecutor executor) {
+        return executor instanceof ConstantExpressionExecutor && executor.getReturnType() == Attribute.Type.STRING;
+    }
+}
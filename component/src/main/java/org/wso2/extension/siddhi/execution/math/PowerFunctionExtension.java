@@ -32,6 +32,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.DoubleArgument;
 
 /**
  * power(value,toPower);
@@ -70,6 +71,10 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class PowerFunctionExtension extends FunctionExecutor {
 
+    private DoubleArgument valueArgument;
+    private DoubleArgument toPowerArgument;
+    private ExponentForm exponentForm = ExponentForm.GENERAL;
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -97,50 +102,39 @@ public class PowerFunctionExtension extends FunctionExecutor {
                     " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
                     ", but found " + attributeType.toString());
         }
+        valueArgument = DoubleArgument.of(attributeExpressionExecutors[0]);
+        toPowerArgument = DoubleArgument.of(attributeExpressionExecutors[1]);
+        if (toPowerArgument.isConstant()) {
+            if (toPowerArgument.getConstantValue() == 2d) {
+                exponentForm = ExponentForm.SQUARE;
+            } else if (toPowerArgument.getConstantValue() == 0.5d) {
+                exponentForm = ExponentForm.SQUARE_ROOT;
+            }
+        }
         return null;
     }
 
     @Override
     protected Object execute(Object[] data, State state) {
-        double inputVal1 = 0d;
-        double inputVal2 = 0d;
-        double outputValue = 0d;
-
-        if (data[0] != null) {
-            //type-conversion
-            if (data[0] instanceof Integer) {
-                int inputInt = (Integer) data[0];
-                inputVal1 = (double) inputInt;
-            } else if (data[0] instanceof Long) {
-                long inputLong = (Long) data[0];
-                inputVal1 = (double) inputLong;
-            } else if (data[0] instanceof Float) {
-                float inputLong = (Float) data[0];
-                inputVal1 = (double) inputLong;
-            } else if (data[0] instanceof Double) {
-                inputVal1 = (Double) data[0];
-            }
-        } else {
+        if (data[0] == null) {
             throw new SiddhiAppRuntimeException("Input to the math:power() function cannot be null");
         }
-        if (data[1] != null) {
-            //type-conversion
-            if (data[1] instanceof Integer) {
-                int inputInt = (Integer) data[1];
-                inputVal2 = (double) inputInt;
-            } else if (data[1] instanceof Long) {
-                long inputLong = (Long) data[1];
-                inputVal2 = (double) inputLong;
-            } else if (data[1] instanceof Float) {
-                float inputLong = (Float) data[1];
-                inputVal2 = (double) inputLong;
-            } else if (data[1] instanceof Double) {
-                inputVal2 = (Double) data[1];
-            }
-        } else {
+        if (data[1] == null) {
             throw new SiddhiAppRuntimeException("Input to the math:power() function cannot be null");
         }
-        return Math.pow(inputVal1, inputVal2);
+        double value = valueArgument.toDouble(data[0]);
+        switch (exponentForm) {
+            case SQUARE:
+                return value * value;
+            case SQUARE_ROOT:
+                // Math.pow() gives +0.0 for -0.0, which the addition restores, and +Infinity for -Infinity
+                if (value == Double.NEGATIVE_INFINITY) {
+                    return Double.POSITIVE_INFINITY;
+                }
+                return Math.sqrt(value) + 0d;
+            default:
+                return Math.pow(value, toPowerArgument.toDouble(data[1]));
+        }
     }
 
     @Override
@@ -153,4 +147,10 @@ public class PowerFunctionExtension extends FunctionExecutor {
         return Attribute.Type.DOUBLE;
     }
 
+    /**
+     * Forms of constant exponents computed without Math.pow().
+     */
+    private enum ExponentForm {
+        GENERAL, SQUARE, SQUARE_ROOT
+    }
 }
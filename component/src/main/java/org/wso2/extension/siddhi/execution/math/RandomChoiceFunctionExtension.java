@@ -0,0 +1,149 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.AliasTable;
+import org.wso2.extension.siddhi.execution.math.util.IntegralResultCache;
+import org.wso2.extension.siddhi.execution.math.util.RandomSource;
+
+/**
+ * randChoice(weight1, weight2, ...) or randChoice(weight1, weight2, ..., seed);
+ * Returns the index of a weight, drawn with a probability proportional to the weight.
+ * weight - Accept Type(s): DOUBLE
+ * seed - Accept Type(s): INT/LONG
+ * Return Type(s): INT
+ */
+@Extension(
+        name = "randChoice",
+        namespace = "math",
+        description = "This returns the index of one of the given weights for each call, starting from 0, drawn " +
+                "with a probability proportional to the weight, e.g. to route or shed events by weight. The " +
+                "weights are laid out in an alias table when the function is initialised, from which each index " +
+                "is drawn in constant time with a single uniform number. Optionally, a `seed` can be given after " +
+                "the weights, so that the same sequence of indexes is generated on every run.",
+        parameters = {
+                @Parameter(
+                        name = "weight",
+                        description = "One or more non negative constant weights, at least one of them positive.",
+                        type = {DataType.DOUBLE}),
+                @Parameter(
+                        name = "seed",
+                        description = "A constant seed of the sequence of indexes.",
+                        type = {DataType.INT, DataType.LONG},
+                        optional = true,
+                        defaultValue = "defaultSeed")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "The index of the chosen weight.",
+                type = {DataType.INT}),
+        systemParameter = @SystemParameter(
+                name = "generator",
+                description = "The generator of the underlying uniform numbers, `shared` by the threads executing " +
+                        "the function, or one `perThread`, as described for `math:rand`.",
+                defaultValue = "shared",
+                possibleParameters = {"shared", "perThread"}),
+        examples = @Example(
+                syntax = "define stream RequestStream (requestId string); \n" +
+                        "from RequestStream \n" +
+                        "select requestId, math:randChoice(0.7, 0.2, 0.1) as backend \n" +
+                        "insert into RoutedRequestStream;",
+                description = "This query routes 70% of the requests to backend 0, 20% to backend 1 and 10% to " +
+                        "backend 2, and directs them to 'RoutedRequestStream'.")
+)
+public class RandomChoiceFunctionExtension extends FunctionExecutor {
+
+    private final IntegralResultCache resultCache = new IntegralResultCache(IntegralResultCache.DEFAULT_RANGE);
+    private AliasTable aliasTable;
+    private RandomSource random;
+
+    @Override
+    protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        int length = attributeExpressionExecutors.length;
+        if (length == 0) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to math:randChoice() function, " +
+                    "required one or more weights, but found none");
+        }
+        Attribute.Type lastType = attributeExpressionExecutors[length - 1].getReturnType();
+        boolean seeded = lastType == Attribute.Type.INT || lastType == Attribute.Type.LONG;
+        int weightCount = seeded ? length - 1 : length;
+        if (weightCount == 0) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to math:randChoice() function, " +
+                    "required one or more weights before the seed, but found none");
+        }
+        double[] weights = new double[weightCount];
+        for (int i = 0; i < weightCount; i++) {
+            ExpressionExecutor executor = attributeExpressionExecutors[i];
+            if (executor.getReturnType() != Attribute.Type.DOUBLE) {
+                throw new SiddhiAppValidationException("Invalid parameter type found for the weight argument " +
+                        (i + 1) + " of math:randChoice() function, required " + Attribute.Type.DOUBLE +
+                        ", but found " + executor.getReturnType().toString());
+            }
+            if (!(executor instanceof ConstantExpressionExecutor)
+                    || ((ConstantExpressionExecutor) executor).getValue() == null) {
+                throw new SiddhiAppValidationException("The weight argument " + (i + 1) + " of math:randChoice() " +
+                        "function should be a non null constant");
+            }
+            weights[i] = (Double) ((ConstantExpressionExecutor) executor).getValue();
+        }
+        try {
+            aliasTable = new AliasTable(weights);
+        } catch (IllegalArgumentException e) {
+            throw new SiddhiAppValidationException("Invalid weights passed to math:randChoice() function. " +
+                    e.getMessage(), e);
+        }
+        Long seed = null;
+        if (seeded) {
+            seed = RandomSource.readSeed(attributeExpressionExecutors[length - 1], "randChoice");
+        }
+        random = RandomSource.create(configReader, seed, "randChoice");
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        // the arguments are constants, which are folded into the alias table
+        return resultCache.valueOf(aliasTable.sample(random.nextDouble()));
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        return resultCache.valueOf(aliasTable.sample(random.nextDouble()));
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.INT;
+    }
+}
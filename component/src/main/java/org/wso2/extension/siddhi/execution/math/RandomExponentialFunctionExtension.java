@@ -0,0 +1,141 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.DoubleArgument;
+import org.wso2.extension.siddhi.execution.math.util.RandomSource;
+
+/**
+ * randExponential(rate) or randExponential(rate, seed);
+ * Returns a pseudo-random number of the exponential distribution of the given rate.
+ * rate - Accept Type(s): INT/LONG/FLOAT/DOUBLE
+ * seed - Accept Type(s): INT/LONG
+ * Return Type(s): DOUBLE
+ */
+@Extension(
+        name = "randExponential",
+        namespace = "math",
+        description = "This returns a pseudo-random number of the exponential distribution of the given `rate` " +
+                "for each call, such as the time between the events of a Poisson process of that rate. The " +
+                "numbers are drawn by inverting the distribution of a single uniform number. Optionally, a `seed` " +
+                "can be given, so that the same sequence of numbers is generated on every run.",
+        parameters = {
+                @Parameter(
+                        name = "rate",
+                        description = "The rate of the distribution, which should be positive. The mean of the " +
+                                "numbers is 1/rate.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "seed",
+                        description = "A constant seed of the sequence of numbers.",
+                        type = {DataType.INT, DataType.LONG},
+                        optional = true,
+                        defaultValue = "defaultSeed")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A pseudo-random number of the exponential distribution.",
+                type = {DataType.DOUBLE}),
+        systemParameter = @SystemParameter(
+                name = "generator",
+                description = "The generator of the underlying uniform numbers, `shared` by the threads executing " +
+                        "the function, or one `perThread`, as described for `math:rand`.",
+                defaultValue = "shared",
+                possibleParameters = {"shared", "perThread"}),
+        examples = @Example(
+                syntax = "define stream RequestStream (requestId string, load double); \n" +
+                        "from RequestStream \n" +
+                        "select requestId, math:randExponential(0.1) as delay \n" +
+                        "insert into DelayedRequestStream;",
+                description = "This query assigns each request a random delay of the exponential distribution " +
+                        "of rate 0.1, that is, of mean 10, and directs it to 'DelayedRequestStream'.")
+)
+public class RandomExponentialFunctionExtension extends FunctionExecutor {
+
+    private DoubleArgument rateArgument;
+    private RandomSource random;
+
+    @Override
+    protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 1 && attributeExpressionExecutors.length != 2) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to math:randExponential() " +
+                    "function, required 1 or 2, but found " + attributeExpressionExecutors.length);
+        }
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+        if (!((attributeType == Attribute.Type.DOUBLE)
+                || (attributeType == Attribute.Type.INT)
+                || (attributeType == Attribute.Type.FLOAT)
+                || (attributeType == Attribute.Type.LONG))) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the rate argument of " +
+                    "math:randExponential() function, required " + Attribute.Type.INT + " or " +
+                    Attribute.Type.LONG + " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
+                    ", but found " + attributeType.toString());
+        }
+        rateArgument = DoubleArgument.of(attributeExpressionExecutors[0]);
+        if (rateArgument.isConstant() && !(rateArgument.getConstantValue() > 0)) {
+            throw new SiddhiAppValidationException("The rate argument of math:randExponential() function should " +
+                    "be positive, but found " + rateArgument.getConstantValue());
+        }
+        Long seed = null;
+        if (attributeExpressionExecutors.length == 2) {
+            seed = RandomSource.readSeed(attributeExpressionExecutors[1], "randExponential");
+        }
+        random = RandomSource.create(configReader, seed, "randExponential");
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        return execute(data[0], state);
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        if (data == null) {
+            throw new SiddhiAppRuntimeException("The rate argument of math:randExponential() function cannot be " +
+                    "null");
+        }
+        double rate = rateArgument.toDouble(data);
+        if (!(rate > 0)) {
+            throw new SiddhiAppRuntimeException("The rate argument of math:randExponential() function should be " +
+                    "positive, but found " + rate);
+        }
+        return random.nextExponential() / rate;
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.DOUBLE;
+    }
+}
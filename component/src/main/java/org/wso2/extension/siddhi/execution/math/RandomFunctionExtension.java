@@ -22,6 +22,7 @@ import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.executor.ConstantExpressionExecutor;
@@ -32,8 +33,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
-
-import java.util.Random;
+import org.wso2.extension.siddhi.execution.math.util.RandomSource;
 
 /**
  * rand() or rand(seed);
@@ -59,6 +59,19 @@ import java.util.Random;
         returnAttributes = @ReturnAttribute(
                 description = "A stream of pseudo-random numbers",
                 type = {DataType.DOUBLE}),
+        systemParameter = @SystemParameter(
+                name = "generator",
+                description = "The generator of the random numbers. With `shared`, all threads executing the " +
+                        "function draw from one `java.util.Random`, contending with each other for it. With " +
+                        "`perThread`, each thread draws from its own generator, so the throughput scales with the " +
+                        "number of threads, as with `@async` junctions. When a seed is given, the generator of " +
+                        "each thread is split from a `java.util.SplittableRandom` of the seed, in the order in " +
+                        "which the threads first call the function. Hence the numbers are only reproduced across " +
+                        "runs when a single thread executes the function: with `@async` junctions or other " +
+                        "concurrent callers, that order, and thereby the numbers each thread gets, differs from " +
+                        "run to run.",
+                defaultValue = "shared",
+                possibleParameters = {"shared", "perThread"}),
         examples = @Example(
 
                 syntax = "define stream InValueStream (symbol string, price long, volume long); \n" +
@@ -72,7 +85,7 @@ public class RandomFunctionExtension extends FunctionExecutor {
 
     private static final String RANDOM = "RANDOM";
     //state-variables
-    private Random random;
+    private RandomSource random;
 
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
@@ -108,9 +121,9 @@ public class RandomFunctionExtension extends FunctionExecutor {
                 //This should be a constant because the instantiation of
                 // java.util.Random should be done in the init() method.
             }
-            random = new Random(seed);
+            random = RandomSource.create(configReader, seed, "rand");
         } else {
-            random = new Random();
+            random = RandomSource.create(configReader, null, "rand");
         }
         return null;
     }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.DoubleArgument;
+import org.wso2.extension.siddhi.execution.math.util.RandomSource;
+
+/**
+ * randGaussian(mean, stdDev) or randGaussian(mean, stdDev, seed);
+ * Returns a pseudo-random number of the normal distribution of the given mean and standard deviation.
+ * mean - Accept Type(s): INT/LONG/FLOAT/DOUBLE
+ * stdDev - Accept Type(s): INT/LONG/FLOAT/DOUBLE
+ * seed - Accept Type(s): INT/LONG
+ * Return Type(s): DOUBLE
+ */
+@Extension(
+        name = "randGaussian",
+        namespace = "math",
+        description = "This returns a pseudo-random number of the normal (Gaussian) distribution of the given " +
+                "`mean` and `stdDev` for each call. The numbers are drawn by the ziggurat method, which takes a " +
+                "single draw of the underlying generator for most numbers. Optionally, a `seed` can be given, so " +
+                "that the same sequence of numbers is generated on every run.",
+        parameters = {
+                @Parameter(
+                        name = "mean",
+                        description = "The mean of the distribution.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "std.dev",
+                        description = "The standard deviation of the distribution, which cannot be negative.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "seed",
+                        description = "A constant seed of the sequence of numbers.",
+                        type = {DataType.INT, DataType.LONG},
+                        optional = true,
+                        defaultValue = "defaultSeed")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A pseudo-random number of the normal distribution.",
+                type = {DataType.DOUBLE}),
+        systemParameter = @SystemParameter(
+                name = "generator",
+                description = "The generator of the underlying uniform numbers, `shared` by the threads executing " +
+                        "the function, or one `perThread`, as described for `math:rand`.",
+                defaultValue = "shared",
+                possibleParameters = {"shared", "perThread"}),
+        examples = @Example(
+                syntax = "define stream SensorStream (sensorId string, reading double); \n" +
+                        "from SensorStream \n" +
+                        "select sensorId, reading + math:randGaussian(0, 0.5) as noisyReading \n" +
+                        "insert into NoisySensorStream;",
+                description = "This query adds Gaussian noise of mean 0 and standard deviation 0.5 to each " +
+                        "reading, and directs the noisy readings to 'NoisySensorStream'.")
+)
+public class RandomGaussianFunctionExtension extends FunctionExecutor {
+
+    private DoubleArgument meanArgument;
+    private DoubleArgument stdDevArgument;
+    private RandomSource random;
+
+    @Override
+    protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to math:randGaussian() " +
+                    "function, required 2 or 3, but found " + attributeExpressionExecutors.length);
+        }
+        String[] argumentNames = {"mean", "std.dev"};
+        for (int i = 0; i < 2; i++) {
+            Attribute.Type attributeType = attributeExpressionExecutors[i].getReturnType();
+            if (!((attributeType == Attribute.Type.DOUBLE)
+                    || (attributeType == Attribute.Type.INT)
+                    || (attributeType == Attribute.Type.FLOAT)
+                    || (attributeType == Attribute.Type.LONG))) {
+                throw new SiddhiAppValidationException("Invalid parameter type found for the " + argumentNames[i] +
+                        " argument of math:randGaussian() function, required " + Attribute.Type.INT + " or " +
+                        Attribute.Type.LONG + " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
+                        ", but found " + attributeType.toString());
+            }
+        }
+        meanArgument = DoubleArgument.of(attributeExpressionExecutors[0]);
+        stdDevArgument = DoubleArgument.of(attributeExpressionExecutors[1]);
+        if (stdDevArgument.isConstant() && !(stdDevArgument.getConstantValue() >= 0)) {
+            throw new SiddhiAppValidationException("The std.dev argument of math:randGaussian() function cannot " +
+                    "be negative, but found " + stdDevArgument.getConstantValue());
+        }
+        Long seed = null;
+        if (attributeExpressionExecutors.length == 3) {
+            seed = RandomSource.readSeed(attributeExpressionExecutors[2], "randGaussian");
+        }
+        random = RandomSource.create(configReader, seed, "randGaussian");
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        if (data[0] == null) {
+            throw new SiddhiAppRuntimeException("The mean argument of math:randGaussian() function cannot be null");
+        }
+        if (data[1] == null) {
+            throw new SiddhiAppRuntimeException("The std.dev argument of math:randGaussian() function cannot be " +
+                    "null");
+        }
+        double stdDev = stdDevArgument.toDouble(data[1]);
+        if (!(stdDev >= 0)) {
+            throw new SiddhiAppRuntimeException("The std.dev argument of math:randGaussian() function cannot be " +
+                    "negative, but found " + stdDev);
+        }
+        return meanArgument.toDouble(data[0]) + stdDev * random.nextGaussian();
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        return null;    // This method won't get called. Hence, unimplemented.
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.DOUBLE;
+    }
+}
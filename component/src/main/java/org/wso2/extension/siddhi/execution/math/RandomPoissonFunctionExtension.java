@@ -0,0 +1,147 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.SiddhiAppRuntimeException;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.DoubleArgument;
+import org.wso2.extension.siddhi.execution.math.util.IntegralResultCache;
+import org.wso2.extension.siddhi.execution.math.util.RandomSource;
+
+/**
+ * randPoisson(mean) or randPoisson(mean, seed);
+ * Returns a pseudo-random count of the Poisson distribution of the given mean.
+ * mean - Accept Type(s): INT/LONG/FLOAT/DOUBLE
+ * seed - Accept Type(s): INT/LONG
+ * Return Type(s): LONG
+ */
+@Extension(
+        name = "randPoisson",
+        namespace = "math",
+        description = "This returns a pseudo-random count of the Poisson distribution of the given `mean` for " +
+                "each call, such as the number of events of a Poisson process in an interval in which `mean` " +
+                "events are expected. Counts of means below 10 are drawn by inversion, and the others by the " +
+                "transformed rejection method of Hormann, which takes about two uniform numbers for any mean. " +
+                "Optionally, a `seed` can be given, so that the same sequence of counts is generated on every run.",
+        parameters = {
+                @Parameter(
+                        name = "mean",
+                        description = "The mean of the distribution, which cannot be negative.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "seed",
+                        description = "A constant seed of the sequence of counts.",
+                        type = {DataType.INT, DataType.LONG},
+                        optional = true,
+                        defaultValue = "defaultSeed")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A pseudo-random count of the Poisson distribution.",
+                type = {DataType.LONG}),
+        systemParameter = @SystemParameter(
+                name = "generator",
+                description = "The generator of the underlying uniform numbers, `shared` by the threads executing " +
+                        "the function, or one `perThread`, as described for `math:rand`.",
+                defaultValue = "shared",
+                possibleParameters = {"shared", "perThread"}),
+        examples = @Example(
+                syntax = "define stream TickStream (symbol string, expectedTrades double); \n" +
+                        "from TickStream \n" +
+                        "select symbol, math:randPoisson(expectedTrades, 7) as trades \n" +
+                        "insert into SimulatedTradeStream;",
+                description = "This query simulates the number of trades of each tick as a Poisson count of the " +
+                        "expected number of trades, using the seed 7 so that the simulation can be repeated, and " +
+                        "directs the counts to 'SimulatedTradeStream'.")
+)
+public class RandomPoissonFunctionExtension extends FunctionExecutor {
+
+    private final IntegralResultCache resultCache = new IntegralResultCache(IntegralResultCache.DEFAULT_RANGE);
+    private DoubleArgument meanArgument;
+    private RandomSource random;
+
+    @Override
+    protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 1 && attributeExpressionExecutors.length != 2) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to math:randPoisson() " +
+                    "function, required 1 or 2, but found " + attributeExpressionExecutors.length);
+        }
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+        if (!((attributeType == Attribute.Type.DOUBLE)
+                || (attributeType == Attribute.Type.INT)
+                || (attributeType == Attribute.Type.FLOAT)
+                || (attributeType == Attribute.Type.LONG))) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the mean argument of " +
+                    "math:randPoisson() function, required " + Attribute.Type.INT + " or " + Attribute.Type.LONG +
+                    " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
+                    ", but found " + attributeType.toString());
+        }
+        meanArgument = DoubleArgument.of(attributeExpressionExecutors[0]);
+        if (meanArgument.isConstant() && !isValidMean(meanArgument.getConstantValue())) {
+            throw new SiddhiAppValidationException("The mean argument of math:randPoisson() function should be a " +
+                    "finite non negative number, but found " + meanArgument.getConstantValue());
+        }
+        Long seed = null;
+        if (attributeExpressionExecutors.length == 2) {
+            seed = RandomSource.readSeed(attributeExpressionExecutors[1], "randPoisson");
+        }
+        random = RandomSource.create(configReader, seed, "randPoisson");
+        return null;
+    }
+
+    private static boolean isValidMean(double mean) {
+        return mean >= 0 && mean < Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        return execute(data[0], state);
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        if (data == null) {
+            throw new SiddhiAppRuntimeException("The mean argument of math:randPoisson() function cannot be null");
+        }
+        double mean = meanArgument.toDouble(data);
+        if (!isValidMean(mean)) {
+            throw new SiddhiAppRuntimeException("The mean argument of math:randPoisson() function should be a " +
+                    "finite non negative number, but found " + mean);
+        }
+        return resultCache.valueOf(random.nextPoisson(mean));
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.LONG;
+    }
+}
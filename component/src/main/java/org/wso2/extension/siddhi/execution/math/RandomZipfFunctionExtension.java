@@ -0,0 +1,172 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.executor.function.FunctionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.AliasTable;
+import org.wso2.extension.siddhi.execution.math.util.DoubleArgument;
+import org.wso2.extension.siddhi.execution.math.util.IntegralResultCache;
+import org.wso2.extension.siddhi.execution.math.util.RandomSource;
+
+/**
+ * randZipf(n, exponent) or randZipf(n, exponent, seed);
+ * Returns a pseudo-random rank from 1 to n of the Zipf distribution of the given exponent.
+ * n - Accept Type(s): INT/LONG
+ * exponent - Accept Type(s): INT/LONG/FLOAT/DOUBLE
+ * seed - Accept Type(s): INT/LONG
+ * Return Type(s): INT
+ */
+@Extension(
+        name = "randZipf",
+        namespace = "math",
+        description = "This returns a pseudo-random rank from 1 to `n` of the Zipf distribution of the given " +
+                "`exponent` for each call, where the rank k is drawn with a probability proportional to " +
+                "1/k^exponent, as the popularity of keys often is. The probabilities are laid out in an alias " +
+                "table when the function is initialised, from which each rank is drawn in constant time with a " +
+                "single uniform number. Optionally, a `seed` can be given, so that the same sequence of ranks is " +
+                "generated on every run.",
+        parameters = {
+                @Parameter(
+                        name = "n",
+                        description = "The number of ranks, which should be a constant from 1 to 1000000.",
+                        type = {DataType.INT, DataType.LONG}),
+                @Parameter(
+                        name = "exponent",
+                        description = "The exponent of the distribution, which should be a non negative constant. " +
+                                "The ranks are uniform when it is 0, and the larger it is, the more often the " +
+                                "first ranks are drawn.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "seed",
+                        description = "A constant seed of the sequence of ranks.",
+                        type = {DataType.INT, DataType.LONG},
+                        optional = true,
+                        defaultValue = "defaultSeed")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A pseudo-random rank of the Zipf distribution.",
+                type = {DataType.INT}),
+        systemParameter = @SystemParameter(
+                name = "generator",
+                description = "The generator of the underlying uniform numbers, `shared` by the threads executing " +
+                        "the function, or one `perThread`, as described for `math:rand`.",
+                defaultValue = "shared",
+                possibleParameters = {"shared", "perThread"}),
+        examples = @Example(
+                syntax = "define stream TriggerStream (triggerId string); \n" +
+                        "from TriggerStream \n" +
+                        "select triggerId, math:randZipf(1000, 1.1) as productRank \n" +
+                        "insert into SimulatedViewStream;",
+                description = "This query simulates views of 1000 products ranked by popularity, which follows a " +
+                        "Zipf distribution of exponent 1.1, and directs them to 'SimulatedViewStream'.")
+)
+public class RandomZipfFunctionExtension extends FunctionExecutor {
+
+    private static final int MAX_RANKS = 1000000;
+
+    private final IntegralResultCache resultCache = new IntegralResultCache(IntegralResultCache.DEFAULT_RANGE);
+    private AliasTable aliasTable;
+    private RandomSource random;
+
+    @Override
+    protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
+                                SiddhiQueryContext siddhiQueryContext) {
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+            throw new SiddhiAppValidationException("Invalid no of arguments passed to math:randZipf() function, " +
+                    "required 2 or 3, but found " + attributeExpressionExecutors.length);
+        }
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+        if (attributeType != Attribute.Type.INT && attributeType != Attribute.Type.LONG) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the n argument of " +
+                    "math:randZipf() function, required " + Attribute.Type.INT + " or " + Attribute.Type.LONG +
+                    ", but found " + attributeType.toString());
+        }
+        if (!(attributeExpressionExecutors[0] instanceof ConstantExpressionExecutor)
+                || ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue() == null) {
+            throw new SiddhiAppValidationException("The n argument of math:randZipf() function should be a non " +
+                    "null constant");
+        }
+        long n = ((Number) ((ConstantExpressionExecutor) attributeExpressionExecutors[0]).getValue()).longValue();
+        if (n < 1 || n > MAX_RANKS) {
+            throw new SiddhiAppValidationException("The n argument of math:randZipf() function should be from 1 " +
+                    "to " + MAX_RANKS + ", but found " + n);
+        }
+        attributeType = attributeExpressionExecutors[1].getReturnType();
+        if (!((attributeType == Attribute.Type.DOUBLE)
+                || (attributeType == Attribute.Type.INT)
+                || (attributeType == Attribute.Type.FLOAT)
+                || (attributeType == Attribute.Type.LONG))) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the exponent argument of " +
+                    "math:randZipf() function, required " + Attribute.Type.INT + " or " + Attribute.Type.LONG +
+                    " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
+                    ", but found " + attributeType.toString());
+        }
+        DoubleArgument exponentArgument = DoubleArgument.of(attributeExpressionExecutors[1]);
+        if (!exponentArgument.isConstant()) {
+            throw new SiddhiAppValidationException("The exponent argument of math:randZipf() function should be " +
+                    "a non null constant, as the probabilities of the ranks are computed when it is initialised");
+        }
+        double exponent = exponentArgument.getConstantValue();
+        if (!(exponent >= 0 && exponent < Double.POSITIVE_INFINITY)) {
+            throw new SiddhiAppValidationException("The exponent argument of math:randZipf() function should be " +
+                    "a finite non negative number, but found " + exponent);
+        }
+        double[] weights = new double[(int) n];
+        for (int k = 1; k <= n; k++) {
+            weights[k - 1] = Math.pow(k, -exponent);
+        }
+        aliasTable = new AliasTable(weights);
+        Long seed = null;
+        if (attributeExpressionExecutors.length == 3) {
+            seed = RandomSource.readSeed(attributeExpressionExecutors[2], "randZipf");
+        }
+        random = RandomSource.create(configReader, seed, "randZipf");
+        return null;
+    }
+
+    @Override
+    protected Object execute(Object[] data, State state) {
+        // the arguments are constants, which are folded into the alias table
+        return resultCache.valueOf(aliasTable.sample(random.nextDouble()) + 1);
+    }
+
+    @Override
+    protected Object execute(Object data, State state) {
+        return null;    // This method won't get called. Hence, unimplemented.
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.INT;
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import io.siddhi.core.config.SiddhiQueryContext;
+import io.siddhi.core.exception.OperationNotSupportedException;
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.query.processor.ProcessingMode;
+import io.siddhi.core.query.selector.attribute.aggregator.AttributeAggregatorExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.core.util.snapshot.state.StateFactory;
+import io.siddhi.query.api.definition.Attribute;
+import org.wso2.extension.siddhi.execution.math.util.ReservoirSample;
+import org.wso2.extension.siddhi.execution.math.util.ReservoirSampleAttributeState;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>reservoirSample(value, k)</code> or <code>reservoirSample(value, k, seed)</code>
+ * Returns a uniform sample of up to k of the stored values.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / k: INT,LONG / seed: INT,LONG
+ * Return Type: OBJECT
+ */
+@Extension(
+        name = "reservoirSample",
+        namespace = "math",
+        description = "This function returns a uniform random sample of up to `k` values of a given argument, as " +
+                "a double array in no particular order. The sample is kept by reservoir sampling with Li's " +
+                "Algorithm L, which draws the number of events to skip before the next sampled one, hence once " +
+                "`k` events have arrived, the events of streams without sliding windows cost a single comparison, " +
+                "and the memory used is bounded by `k` however many events arrive. When events expire from a " +
+                "sliding window, a sampled value equal to the expired one is removed from the sample, and the " +
+                "next events take its place, hence the sample then leans towards the recent events of the window. " +
+                "As expired events are matched by value, the sample counts the events of each distinct value in " +
+                "a sliding window, and only removes a sampled value once fewer events of that value are left in " +
+                "the window than in the sample. Each event of a sliding window hence costs a hash lookup, and the " +
+                "memory used grows with the number of distinct values in the window.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter to be sampled.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "k",
+                        description = "The maximum number of values in the sample, which should be a constant " +
+                                "from 1 to 1000000.",
+                        type = {DataType.INT, DataType.LONG}),
+                @Parameter(
+                        name = "seed",
+                        description = "A constant seed for the sampling, such that the same events give the same " +
+                                "sample. Each group of a `group by` is sampled with the same seed.",
+                        type = {DataType.INT, DataType.LONG},
+                        optional = true,
+                        defaultValue = "A random seed")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A double array holding a uniform sample of the 'arg' values, which holds every " +
+                        "value while there are at most 'k' of them.",
+                type = {DataType.OBJECT}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, latency double); \n" +
+                                "from InValueStream#window.time(1 hour) \n" +
+                                "select sensorId, math:reservoirSample(latency, 1000) as latencySample \n" +
+                                "group by sensorId \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns a sample of 1000 of the latencies of each sensor in " +
+                                "the last hour, from which histograms or percentiles can be estimated without " +
+                                "keeping every latency of the hour.")
+        }
+)
+public class ReservoirSampleFunctionExtension extends AttributeAggregatorExecutor<ReservoirSampleAttributeState> {
+
+    private static final int MAX_SAMPLE_SIZE = 1000000;
+    private static final double[] EMPTY_SAMPLE = new double[0];
+    private int sampleSize;
+    private Long seed;
+    private boolean slidingWindow;
+    private boolean outputExpectsExpiredEvents;
+
+    @Override
+    protected StateFactory<ReservoirSampleAttributeState> init(ExpressionExecutor[] expressionExecutors,
+                                                               ProcessingMode processingMode,
+                                                               boolean outputExpectsExpiredEvents,
+                                                               ConfigReader configReader,
+                                                               SiddhiQueryContext siddhiQueryContext) {
+        this.outputExpectsExpiredEvents = outputExpectsExpiredEvents;
+        if (attributeExpressionExecutors.length != 2 && attributeExpressionExecutors.length != 3) {
+            throw new OperationNotSupportedException("Reservoir sample function has to have 2 or 3 parameters, " +
+                                                             "currently " + attributeExpressionExecutors.length +
+                                                             " parameters provided.");
+        }
+        long k = readConstantLong(attributeExpressionExecutors[1], "Sample size");
+        if (k < 1 || k > MAX_SAMPLE_SIZE) {
+            throw new OperationNotSupportedException("Sample size should be in 1 <= k <= " + MAX_SAMPLE_SIZE +
+                                                             " range. But found " + k);
+        }
+        sampleSize = (int) k;
+        if (attributeExpressionExecutors.length == 3) {
+            seed = readConstantLong(attributeExpressionExecutors[2], "Seed");
+        }
+        // only sliding windows remove the expired events one by one, batch windows reset the sample instead
+        slidingWindow = processingMode == ProcessingMode.SLIDE;
+        Attribute.Type attributeType = attributeExpressionExecutors[0].getReturnType();
+
+        // This approach is used to avoid per event type check as it has a negative performance impact.
+        return () -> {
+            switch (attributeType) {
+                case FLOAT:
+                    return new FloatReservoirSampleAttributeState();
+                case INT:
+                    return new IntReservoirSampleAttributeState();
+                case LONG:
+                    return new LongReservoirSampleAttributeState();
+                case DOUBLE:
+                    return new DoubleReservoirSampleAttributeState();
+                default:
+                    throw new OperationNotSupportedException("Reservoir sample not supported for " +
+                                                                     attributeType);
+            }
+        };
+    }
+
+    private static long readConstantLong(ExpressionExecutor executor, String name) {
+        if (!(executor instanceof ConstantExpressionExecutor)) {
+            throw new OperationNotSupportedException(name + " has to be a constant.");
+        }
+        Object value = executor.execute(null);
+        if (value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        throw new OperationNotSupportedException(name + " should be of type int or long. But found " +
+                                                         executor.getReturnType());
+    }
+
+    @Override
+    public Object processAdd(Object data, ReservoirSampleAttributeState state) {
+        // will not occur
+        return new IllegalStateException("Reservoir sample need multiple input, but found " + data);
+    }
+
+    @Override
+    public Object processAdd(Object[] data, ReservoirSampleAttributeState state) {
+        if (data == null) {
+            return state.currentValue();
+        }
+        return state.processAdd(data[0]);
+    }
+
+    @Override
+    public Object processRemove(Object data, ReservoirSampleAttributeState state) {
+        // will not occur
+        return new IllegalStateException("Reservoir sample need multiple input, but found " + data);
+    }
+
+    @Override
+    public Object processRemove(Object[] data, ReservoirSampleAttributeState state) {
+        if (data == null) {
+            return state.currentValue();
+        }
+        return state.processRemove(data[0]);
+    }
+
+    @Override
+    public Object reset(ReservoirSampleAttributeState state) {
+        return state.reset();
+    }
+
+    @Override
+    public Attribute.Type getReturnType() {
+        return Attribute.Type.OBJECT;
+    }
+
+    private abstract class SampleAttributeState extends ReservoirSampleAttributeState {
+
+        protected final ReservoirSample sample = new ReservoirSample(
+                sampleSize, seed != null ? new SplittableRandom(seed) : new SplittableRandom(), slidingWindow);
+        private double[] lastSample = EMPTY_SAMPLE;
+        private boolean changed;
+
+        protected Object added(boolean sampled) {
+            // skipped events leave the sample as it is, hence the last copy is returned without copying it again
+            if (sampled || changed) {
+                lastSample = sample.values();
+                changed = false;
+            }
+            return lastSample;
+        }
+
+        protected Object removed(boolean sampled) {
+            changed |= sampled;
+            if (outputExpectsExpiredEvents) {
+                return added(false);
+            }
+            return lastSample;
+        }
+
+        @Override
+        public Object reset() {
+            sample.clear();
+            lastSample = EMPTY_SAMPLE;
+            changed = false;
+            return lastSample;
+        }
+
+        @Override
+        public Object currentValue() {
+            return added(false);
+        }
+
+        @Override
+        public boolean canDestroy() {
+            return sample.isEmpty();
+        }
+
+        @Override
+        public Map<String, Object> snapshot() {
+            return sample.snapshot();
+        }
+
+        @Override
+        public void restore(Map<String, Object> map) {
+            sample.restore(map);
+            changed = true;
+        }
+    }
+
+    private class DoubleReservoirSampleAttributeState extends SampleAttributeState {
+
+        @Override
+        public Object processAdd(Object data) {
+            return added(sample.add((Double) data));
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            return removed(sample.remove((Double) obj));
+        }
+    }
+
+    private class FloatReservoirSampleAttributeState extends SampleAttributeState {
+
+        @Override
+        public Object processAdd(Object data) {
+            return added(sample.add((Float) data));
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            return removed(sample.remove((Float) obj));
+        }
+    }
+
+    private class IntReservoirSampleAttributeState extends SampleAttributeState {
+
+        @Override
+        public Object processAdd(Object data) {
+            return added(sample.add((Integer) data));
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            return removed(sample.remove((Integer) obj));
+        }
+    }
+
+    private class LongReservoirSampleAttributeState extends SampleAttributeState {
+
+        @Override
+        public Object processAdd(Object data) {
+            return added(sample.add((Long) data));
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            return removed(sample.remove((Long) obj));
+        }
+    }
+}
@@ -22,6 +22,7 @@ import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -32,6 +33,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.IntegralResultCache;
 
 /**
  * round(a);
@@ -53,6 +55,13 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
         returnAttributes = @ReturnAttribute(
                 description = "The closest integer/long value to the input parameter.",
                 type = {DataType.INT, DataType.LONG}),
+        systemParameter = @SystemParameter(
+                name = "resultCacheRange",
+                description = "The rounded values from -resultCacheRange to resultCacheRange are boxed once and " +
+                        "reused for later events, instead of being boxed for every event. Setting it to 0 " +
+                        "leaves only the boxes cached by Java.",
+                defaultValue = "1024",
+                possibleParameters = "Any integer from 0 to 1048576"),
         examples = @Example(
 
                 syntax = "define stream InValueStream (inValue double); \n" +
@@ -66,6 +75,7 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 public class RoundFunctionExtension extends FunctionExecutor {
 
     private Attribute.Type returnType;
+    private IntegralResultCache resultCache;
 
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
@@ -86,6 +96,15 @@ public class RoundFunctionExtension extends FunctionExecutor {
         } else {
             returnType = Attribute.Type.LONG;
         }
+        String resultCacheRange = configReader.readConfig("resultCacheRange",
+                String.valueOf(IntegralResultCache.DEFAULT_RANGE));
+        try {
+            resultCache = new IntegralResultCache(Integer.parseInt(resultCacheRange.trim()));
+        } catch (IllegalArgumentException e) {
+            throw new SiddhiAppValidationException("Invalid resultCacheRange '" + resultCacheRange +
+                    "' configured for the math:round() function, required an integer from 0 to " +
+                    IntegralResultCache.MAX_RANGE, e);
+        }
         return null;
     }
 
@@ -100,10 +119,10 @@ public class RoundFunctionExtension extends FunctionExecutor {
             //type-conversion
             if (data instanceof Float) {
                 float inputValue = (Float) data;
-                return Math.round(inputValue);
+                return resultCache.valueOf(Math.round(inputValue));
             } else if (data instanceof Double) {
                 double inputValue = (Double) data;
-                return Math.round(inputValue);
+                return resultCache.valueOf(Math.round(inputValue));
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:round() function cannot be null");
@@ -22,6 +22,7 @@ import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -32,6 +33,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.ApproximateMath;
 
 /**
  * sin(a);
@@ -53,6 +55,14 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
         returnAttributes = @ReturnAttribute(
                 description = "The sine value of the input parameter.",
                 type = {DataType.DOUBLE}),
+        systemParameter = @SystemParameter(
+                name = "approximate",
+                description = "If set to true, the sine is approximated by a table lookup instead of " +
+                        "`java.lang.Math.sin()`, which is faster, and the absolute error is at most 4e-16 for " +
+                        "values from -65536 to 65536. Values outside the range of the table are computed " +
+                        "exactly.",
+                defaultValue = "false",
+                possibleParameters = {"true", "false"}),
         examples = @Example(
 
                 syntax = "define stream InValueStream (inValue double); \n" +
@@ -65,6 +75,8 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class SinFunctionExtension extends FunctionExecutor {
 
+    private boolean approximate;
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -82,6 +94,7 @@ public class SinFunctionExtension extends FunctionExecutor {
                     " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
                     ", but found " + attributeType.toString());
         }
+        approximate = ApproximateMath.isEnabled(configReader, "sin");
         return null;
     }
 
@@ -96,15 +109,15 @@ public class SinFunctionExtension extends FunctionExecutor {
             //type-conversion
             if (data instanceof Integer) {
                 int inputInt = (Integer) data;
-                return Math.sin((double) inputInt);
+                return sin((double) inputInt);
             } else if (data instanceof Long) {
                 long inputLong = (Long) data;
-                return Math.sin((double) inputLong);
+                return sin((double) inputLong);
             } else if (data instanceof Float) {
                 float inputFloat = (Float) data;
-                return Math.sin((double) inputFloat);
+                return sin((double) inputFloat);
             } else if (data instanceof Double) {
-                return Math.sin((Double) data);
+                return sin((Double) data);
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:sin() function cannot be null");
@@ -112,6 +125,10 @@ public class SinFunctionExtension extends FunctionExecutor {
         return null;
     }
 
+    private double sin(double value) {
+        return approximate ? ApproximateMath.sin(value) : Math.sin(value);
+    }
+
     @Override
     public Attribute.Type getReturnType() {
         return Attribute.Type.DOUBLE;
@@ -22,6 +22,7 @@ import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -32,6 +33,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.ApproximateMath;
 
 /**
  * sinh(a);
@@ -53,6 +55,13 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
         returnAttributes = @ReturnAttribute(
                 description = "The hyperbolic sine value of the input parameter.",
                 type = {DataType.DOUBLE}),
+        systemParameter = @SystemParameter(
+                name = "approximate",
+                description = "If set to true, the hyperbolic sine is approximated by a table lookup instead of " +
+                        "`java.lang.Math.sinh()`, which is faster, and the relative error is at most 5e-15. " +
+                        "Values outside the range of the table are computed exactly.",
+                defaultValue = "false",
+                possibleParameters = {"true", "false"}),
         examples = @Example(
 
                 syntax = "define stream InValueStream (inValue double); \n" +
@@ -65,6 +74,8 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class SinhFunctionExtension extends FunctionExecutor {
 
+    private boolean approximate;
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -82,6 +93,7 @@ public class SinhFunctionExtension extends FunctionExecutor {
                     " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
                     ", but found " + attributeType.toString());
         }
+        approximate = ApproximateMath.isEnabled(configReader, "sinh");
         return null;
     }
 
@@ -96,15 +108,15 @@ public class SinhFunctionExtension extends FunctionExecutor {
             //type-conversion
             if (data instanceof Integer) {
                 int inputInt = (Integer) data;
-                return Math.sinh((double) inputInt);
+                return sinh((double) inputInt);
             } else if (data instanceof Long) {
                 long inputLong = (Long) data;
-                return Math.sinh((double) inputLong);
+                return sinh((double) inputLong);
             } else if (data instanceof Float) {
                 float inputFloat = (Float) data;
-                return Math.sinh((double) inputFloat);
+                return sinh((double) inputFloat);
             } else if (data instanceof Double) {
-                return Math.sinh((Double) data);
+                return sinh((Double) data);
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:sinh() function cannot be null");
@@ -112,6 +124,10 @@ public class SinhFunctionExtension extends FunctionExecutor {
         return null;
     }
 
+    private double sinh(double value) {
+        return approximate ? ApproximateMath.sinh(value) : Math.sinh(value);
+    }
+
     @Override
     public Attribute.Type getReturnType() {
         return Attribute.Type.DOUBLE;
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import org.wso2.extension.siddhi.execution.math.util.MomentsStatistic;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>skewness(value)</code> or <code>skewness(value, sample)</code>
+ * Returns the skewness of the stored values.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / sample: BOOL
+ * Return Type: DOUBLE
+ */
+@Extension(
+        name = "skewness",
+        namespace = "math",
+        description = "This function returns the skewness of a given argument, which is the third central " +
+                "moment of the values divided by the cube of their standard deviation. It is positive when the " +
+                "values have a longer tail above the mean than below it. The moments are kept by the online " +
+                "update of Welford's algorithm extended to the third and fourth moments, hence each event is " +
+                "added, and removed when it expires from a window, in constant time, without keeping the values.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter whose skewness should be found. Null values " +
+                                "are skipped.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "sample",
+                        description = "If `true`, the adjusted Fisher-Pearson skewness of a sample is returned, " +
+                                "which corrects the bias of the skewness of small samples. Otherwise the " +
+                                "skewness of the population is returned.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "The skewness of the 'arg' values, or null when they are all equal, or there are " +
+                        "fewer than three values for the sample skewness.",
+                type = {DataType.DOUBLE}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.length(100) \n" +
+                                "select sensorId, math:skewness(temperature) as skewness \n" +
+                                "group by sensorId \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the skewness of the temperatures of the last 100 " +
+                                "events of each sensor."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.time(1 min) \n" +
+                                "select math:skewness(temperature, true) as skewness \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the sample skewness of the temperatures of the last " +
+                                "minute.")
+        }
+)
+public class SkewnessFunctionExtension extends MomentsFunctionExtension {
+
+    public SkewnessFunctionExtension() {
+        super(MomentsStatistic.SKEWNESS, "Skewness");
+    }
+}
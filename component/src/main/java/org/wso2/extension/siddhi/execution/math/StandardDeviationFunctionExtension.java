@@ -0,0 +1,83 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import org.wso2.extension.siddhi.execution.math.util.MomentsStatistic;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>stddev(value)</code> or <code>stddev(value, sample)</code>
+ * Returns the standard deviation of the stored values.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / sample: BOOL
+ * Return Type: DOUBLE
+ */
+@Extension(
+        name = "stddev",
+        namespace = "math",
+        description = "This function returns the standard deviation of a given argument, which is the square " +
+                "root of the variance returned by `math:variance`, kept by Welford's algorithm in the same way.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter whose standard deviation should be found. " +
+                                "Null values are skipped.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "sample",
+                        description = "If `true`, the standard deviation is the square root of the sample " +
+                                "variance, which divides the sum of the squared deviations by the number of " +
+                                "values less one. Otherwise it is the square root of the population variance, " +
+                                "which divides it by the number of values, as the `stdDev` aggregator does.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "The standard deviation of the 'arg' values, or null when there are no values, " +
+                        "or only one value for the sample standard deviation.",
+                type = {DataType.DOUBLE}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.length(100) \n" +
+                                "select sensorId, math:stddev(temperature) as stddev \n" +
+                                "group by sensorId \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the population standard deviation of the " +
+                                "temperatures of the last 100 events of each sensor."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.time(1 min) \n" +
+                                "select math:stddev(temperature, true) as stddev \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the sample standard deviation of the temperatures of " +
+                                "the last minute.")
+        }
+)
+public class StandardDeviationFunctionExtension extends MomentsFunctionExtension {
+
+    public StandardDeviationFunctionExtension() {
+        super(MomentsStatistic.STANDARD_DEVIATION, "Standard deviation");
+    }
+}
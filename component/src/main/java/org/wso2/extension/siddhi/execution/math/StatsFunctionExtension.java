@@ -0,0 +1,79 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import org.wso2.extension.siddhi.execution.math.util.MomentsStatistic;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>stats(value)</code> or <code>stats(value, sample)</code>
+ * Returns the count, mean, variance and standard deviation of the stored values.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / sample: BOOL
+ * Return Type: OBJECT
+ */
+@Extension(
+        name = "stats",
+        namespace = "math",
+        description = "This function returns the count, mean, variance and standard deviation of a given " +
+                "argument at once, as a double array holding them in that order. They are computed from a " +
+                "single state kept by Welford's algorithm, as with `math:variance`, hence it is cheaper than " +
+                "calling `count`, `avg`, `math:variance` and `math:stddev` on the same argument.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter whose statistics should be found. Null values " +
+                                "are skipped.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "sample",
+                        description = "If `true`, the variance and the standard deviation are those of the " +
+                                "sample, dividing the sum of the squared deviations by the number of values less " +
+                                "one. Otherwise they are those of the population, dividing it by the number of " +
+                                "values.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "A double array holding the count, mean, variance and standard deviation of the " +
+                        "'arg' values, where the statistics which are undefined for too few values are NaN.",
+                type = {DataType.OBJECT}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.time(1 min) \n" +
+                                "select sensorId, math:stats(temperature, true) as stats \n" +
+                                "group by sensorId \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the count, mean, sample variance and sample standard " +
+                                "deviation of the temperatures of each sensor in the last minute, as a double " +
+                                "array of four elements.")
+        }
+)
+public class StatsFunctionExtension extends MomentsFunctionExtension {
+
+    public StatsFunctionExtension() {
+        super(MomentsStatistic.STATS, "Stats");
+    }
+}
@@ -22,6 +22,7 @@ import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -32,6 +33,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.ApproximateMath;
 
 /**
  * tan(a);
@@ -53,6 +55,14 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
         returnAttributes = @ReturnAttribute(
                 description = "The tan value of the input parameter.",
                 type = {DataType.DOUBLE}),
+        systemParameter = @SystemParameter(
+                name = "approximate",
+                description = "If set to true, the tangent is approximated by a table lookup instead of " +
+                        "`java.lang.Math.tan()`, which is faster, and the relative error is at most 1e-15 for " +
+                        "values from -10 to 10, and grows with the value to 2e-13 at 65536. Values outside " +
+                        "the range of the table are computed exactly.",
+                defaultValue = "false",
+                possibleParameters = {"true", "false"}),
         examples = @Example(
 
                 syntax = "define stream InValueStream (inValue double); \n" +
@@ -65,6 +75,8 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class TanFunctionExtension extends FunctionExecutor {
 
+    private boolean approximate;
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -82,6 +94,7 @@ public class TanFunctionExtension extends FunctionExecutor {
                     " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
                     ", but found " + attributeType.toString());
         }
+        approximate = ApproximateMath.isEnabled(configReader, "tan");
         return null;
     }
 
@@ -96,15 +109,15 @@ public class TanFunctionExtension extends FunctionExecutor {
             //type-conversion
             if (data instanceof Integer) {
                 int inputInt = (Integer) data;
-                return Math.tan((double) inputInt);
+                return tan((double) inputInt);
             } else if (data instanceof Long) {
                 long inputLong = (Long) data;
-                return Math.tan((double) inputLong);
+                return tan((double) inputLong);
             } else if (data instanceof Float) {
                 float inputFloat = (Float) data;
-                return Math.tan((double) inputFloat);
+                return tan((double) inputFloat);
             } else if (data instanceof Double) {
-                return Math.tan((Double) data);
+                return tan((Double) data);
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:tan() function cannot be null");
@@ -112,6 +125,10 @@ public class TanFunctionExtension extends FunctionExecutor {
         return null;
     }
 
+    private double tan(double value) {
+        return approximate ? ApproximateMath.tan(value) : Math.tan(value);
+    }
+
     @Override
     public Attribute.Type getReturnType() {
         return Attribute.Type.DOUBLE;
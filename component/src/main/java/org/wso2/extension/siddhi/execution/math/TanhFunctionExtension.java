@@ -22,6 +22,7 @@ import io.siddhi.annotation.Example;
 import io.siddhi.annotation.Extension;
 import io.siddhi.annotation.Parameter;
 import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.SystemParameter;
 import io.siddhi.annotation.util.DataType;
 import io.siddhi.core.config.SiddhiQueryContext;
 import io.siddhi.core.exception.SiddhiAppRuntimeException;
@@ -32,6 +33,7 @@ import io.siddhi.core.util.snapshot.state.State;
 import io.siddhi.core.util.snapshot.state.StateFactory;
 import io.siddhi.query.api.definition.Attribute;
 import io.siddhi.query.api.exception.SiddhiAppValidationException;
+import org.wso2.extension.siddhi.execution.math.util.ApproximateMath;
 
 /**
  * tanh(a);
@@ -53,6 +55,13 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
         returnAttributes = @ReturnAttribute(
                 description = "The hyperbolic tangent value of the input parameter.",
                 type = {DataType.DOUBLE}),
+        systemParameter = @SystemParameter(
+                name = "approximate",
+                description = "If set to true, the hyperbolic tangent is approximated by a table lookup instead of " +
+                        "`java.lang.Math.tanh()`, which is faster, and the relative error is at most 5e-15. " +
+                        "Values outside the range of the table are computed exactly.",
+                defaultValue = "false",
+                possibleParameters = {"true", "false"}),
         examples = @Example(
 
                 syntax = "define stream InValueStream (inValue double); \n" +
@@ -65,6 +74,8 @@ import io.siddhi.query.api.exception.SiddhiAppValidationException;
 )
 public class TanhFunctionExtension extends FunctionExecutor {
 
+    private boolean approximate;
+
     @Override
     protected StateFactory init(ExpressionExecutor[] expressionExecutors, ConfigReader configReader,
                                 SiddhiQueryContext siddhiQueryContext) {
@@ -82,6 +93,7 @@ public class TanhFunctionExtension extends FunctionExecutor {
                     " or " + Attribute.Type.FLOAT + " or " + Attribute.Type.DOUBLE +
                     ", but found " + attributeType.toString());
         }
+        approximate = ApproximateMath.isEnabled(configReader, "tanh");
         return null;
     }
 
@@ -96,16 +108,16 @@ public class TanhFunctionExtension extends FunctionExecutor {
             //type-conversion
             if (data instanceof Integer) {
                 int inputInt = (Integer) data;
-                return Math.tanh((double) inputInt);
+                return tanh((double) inputInt);
             } else if (data instanceof Long) {
                 long inputLong = (Long) data;
-                return Math.tanh((double) inputLong);
+                return tanh((double) inputLong);
             } else if (data instanceof Float) {
                 float inputFloat = (Float) data;
-                return Math.tanh((double) inputFloat);
+                return tanh((double) inputFloat);
             } else if (data instanceof Double) {
                 double inputValue = (Double) data;
-                return Math.tanh(inputValue);
+                return tanh(inputValue);
             }
         } else {
             throw new SiddhiAppRuntimeException("Input to the math:tanh() function cannot be null");
@@ -113,6 +125,10 @@ public class TanhFunctionExtension extends FunctionExecutor {
         return null;
     }
 
+    private double tanh(double value) {
+        return approximate ? ApproximateMath.tanh(value) : Math.tanh(value);
+    }
+
     @Override
     public Attribute.Type getReturnType() {
         return Attribute.Type.DOUBLE;
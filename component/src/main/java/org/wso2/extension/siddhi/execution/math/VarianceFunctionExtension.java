@@ -0,0 +1,85 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.annotation.Example;
+import io.siddhi.annotation.Extension;
+import io.siddhi.annotation.Parameter;
+import io.siddhi.annotation.ReturnAttribute;
+import io.siddhi.annotation.util.DataType;
+import org.wso2.extension.siddhi.execution.math.util.MomentsStatistic;
+
+/**
+ * AttributeAggregator which implements the following function.
+ * <code>variance(value)</code> or <code>variance(value, sample)</code>
+ * Returns the variance of the stored values.
+ * Accept Type(s): value: FLOAT,INT,LONG,DOUBLE / sample: BOOL
+ * Return Type: DOUBLE
+ */
+@Extension(
+        name = "variance",
+        namespace = "math",
+        description = "This function returns the variance of a given argument. The variance is kept by " +
+                "Welford's algorithm, which updates the mean and the sum of the squared deviations from it with " +
+                "each event, hence it stays accurate for values far from zero, unlike the difference between " +
+                "`avg(arg * arg)` and the square of `avg(arg)`. Events expiring from a window are removed by " +
+                "reversing their update, in constant time.",
+        parameters = {
+                @Parameter(
+                        name = "arg",
+                        description = "The value of the parameter whose variance should be found. Null values " +
+                                "are skipped.",
+                        type = {DataType.INT, DataType.LONG, DataType.FLOAT, DataType.DOUBLE}),
+                @Parameter(
+                        name = "sample",
+                        description = "If `true`, the sample variance is returned, which divides the sum of the " +
+                                "squared deviations by the number of values less one. Otherwise the population " +
+                                "variance is returned, which divides it by the number of values.",
+                        type = {DataType.BOOL},
+                        optional = true,
+                        defaultValue = "false")
+        },
+        returnAttributes = @ReturnAttribute(
+                description = "The variance of the 'arg' values, or null when there are no values, or only one " +
+                        "value for the sample variance.",
+                type = {DataType.DOUBLE}),
+        examples = {
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.length(100) \n" +
+                                "select sensorId, math:variance(temperature) as variance \n" +
+                                "group by sensorId \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the population variance of the temperatures of the " +
+                                "last 100 events of each sensor."),
+                @Example(
+                        syntax = "define stream InValueStream (sensorId int, temperature double); \n" +
+                                "from InValueStream#window.time(1 min) \n" +
+                                "select math:variance(temperature, true) as variance \n" +
+                                "insert into OutMediationStream;",
+                        description = "This query returns the sample variance of the temperatures of the last " +
+                                "minute.")
+        }
+)
+public class VarianceFunctionExtension extends MomentsFunctionExtension {
+
+    public VarianceFunctionExtension() {
+        super(MomentsStatistic.VARIANCE, "Variance");
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+/**
+ * Table based approximations of the trigonometric and hyperbolic functions of {@link Math}, used by the functions
+ * that are configured to trade accuracy for speed. Each function looks up the value of the nearest point of a table
+ * and corrects it by a short polynomial of the distance to that point.
+ * <p>
+ * The errors against the exactly rounded results are at most
+ * <ul>
+ * <li>sin, cos: 4e-16 absolute, for arguments from -65536 to 65536</li>
+ * <li>tan: 1e-15 relative for arguments from -10 to 10, growing with the argument to 2e-13 at 65536</li>
+ * <li>exp, cosh: 5e-16 relative</li>
+ * <li>sinh, tanh: 5e-15 relative</li>
+ * </ul>
+ * Arguments outside the ranges of the tables, including NaN and the infinities, are delegated to {@link Math}.
+ */
+public final class ApproximateMath {
+
+    public static final String CONFIG_NAME = "approximate";
+
+    private static final int SIN_TABLE_BITS = 12;
+    private static final int SIN_TABLE_SIZE = 1 << SIN_TABLE_BITS;
+    private static final int QUARTER_TURN = SIN_TABLE_SIZE / 4;
+    private static final double SIN_ARGUMENT_LIMIT = 65536d;
+    // the difference between pi and Math.PI
+    private static final double PI_LOW = 1.2246467991473532e-16;
+    // pi / 2048, split so that the product of the high part and any index within the argument limit is exact
+    private static final double SIN_STEP_HIGH = Double.longBitsToDouble(
+            Double.doubleToRawLongBits(Math.PI / (SIN_TABLE_SIZE / 2)) & 0xFFFFFFFFF8000000L);
+    private static final double SIN_STEP_LOW = (Math.PI - SIN_STEP_HIGH * (SIN_TABLE_SIZE / 2) + PI_LOW)
+            / (SIN_TABLE_SIZE / 2);
+    private static final double SIN_STEPS_PER_RADIAN = (SIN_TABLE_SIZE / 2) / Math.PI;
+    private static final double[] SIN_TABLE = new double[SIN_TABLE_SIZE];
+
+    private static final int EXP_TABLE_BITS = 10;
+    private static final int EXP_TABLE_SIZE = 1 << EXP_TABLE_BITS;
+    private static final double EXP_LOWER_LIMIT = -708d;
+    private static final double EXP_UPPER_LIMIT = 709d;
+    private static final double LN2 = Math.log(2d);
+    // the difference between ln(2) and LN2
+    private static final double LN2_REMAINDER = 2.319046813846299558e-17;
+    // ln(2) / 1024, split so that the product of the high part and any index within the limits is exact
+    private static final double EXP_STEP_HIGH = Double.longBitsToDouble(
+            Double.doubleToRawLongBits(LN2 / EXP_TABLE_SIZE) & 0xFFFFFFFFFF000000L);
+    private static final double EXP_STEP_LOW = (LN2 - EXP_STEP_HIGH * EXP_TABLE_SIZE + LN2_REMAINDER)
+            / EXP_TABLE_SIZE;
+    private static final double EXP_STEPS_PER_UNIT = EXP_TABLE_SIZE / LN2;
+    private static final double[] EXP_TABLE = new double[EXP_TABLE_SIZE];
+
+    private static final double HYPERBOLIC_SERIES_LIMIT = 1d / 16;
+    private static final double HYPERBOLIC_UPPER_LIMIT = 700d;
+    private static final double TANH_SATURATION = 22d;
+
+    static {
+        // the first quadrant is computed, and mirrored into the others so that the zeros and ones are exact
+        for (int i = 0; i <= QUARTER_TURN; i++) {
+            double sin = i == QUARTER_TURN ? 1d : Math.sin(i * (Math.PI / (SIN_TABLE_SIZE / 2)));
+            SIN_TABLE[i] = sin;
+            SIN_TABLE[2 * QUARTER_TURN - i] = sin;
+            if (i > 0) {
+                SIN_TABLE[2 * QUARTER_TURN + i] = -sin;
+                if (i < QUARTER_TURN) {
+                    SIN_TABLE[SIN_TABLE_SIZE - i] = -sin;
+                }
+            }
+        }
+        for (int i = 0; i < EXP_TABLE_SIZE; i++) {
+            EXP_TABLE[i] = Math.pow(2d, (double) i / EXP_TABLE_SIZE);
+        }
+    }
+
+    private ApproximateMath() {
+    }
+
+    /**
+     * @param configReader config reader of a function
+     * @param functionName name of the function, used in the error message
+     * @return whether the function is configured to approximate its results
+     */
+    public static boolean isEnabled(ConfigReader configReader, String functionName) {
+        String approximate = configReader.readConfig(CONFIG_NAME, "false").trim();
+        if ("true".equalsIgnoreCase(approximate)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(approximate)) {
+            return false;
+        }
+        throw new SiddhiAppValidationException("Invalid " + CONFIG_NAME + " '" + approximate + "' configured " +
+                "for the math:" + functionName + "() function, required true or false");
+    }
+
+    public static double sin(double x) {
+        if (!(Math.abs(x) <= SIN_ARGUMENT_LIMIT)) {
+            return Math.sin(x);
+        }
+        long index = Math.round(x * SIN_STEPS_PER_RADIAN);
+        double d = (x - index * SIN_STEP_HIGH) - index * SIN_STEP_LOW;
+        int i = (int) index & (SIN_TABLE_SIZE - 1);
+        return SIN_TABLE[i] * cosOfSmall(d) + SIN_TABLE[(i + QUARTER_TURN) & (SIN_TABLE_SIZE - 1)] * sinOfSmall(d);
+    }
+
+    public static double cos(double x) {
+        if (!(Math.abs(x) <= SIN_ARGUMENT_LIMIT)) {
+            return Math.cos(x);
+        }
+        long index = Math.round(x * SIN_STEPS_PER_RADIAN);
+        double d = (x - index * SIN_STEP_HIGH) - index * SIN_STEP_LOW;
+        int i = (int) index & (SIN_TABLE_SIZE - 1);
+        return SIN_TABLE[(i + QUARTER_TURN) & (SIN_TABLE_SIZE - 1)] * cosOfSmall(d) - SIN_TABLE[i] * sinOfSmall(d);
+    }
+
+    public static double tan(double x) {
+        if (!(Math.abs(x) <= SIN_ARGUMENT_LIMIT)) {
+            return Math.tan(x);
+        }
+        long index = Math.round(x * SIN_STEPS_PER_RADIAN);
+        double d = (x - index * SIN_STEP_HIGH) - index * SIN_STEP_LOW;
+        int i = (int) index & (SIN_TABLE_SIZE - 1);
+        double sinOfPoint = SIN_TABLE[i];
+        double cosOfPoint = SIN_TABLE[(i + QUARTER_TURN) & (SIN_TABLE_SIZE - 1)];
+        double cosOfD = cosOfSmall(d);
+        double sinOfD = sinOfSmall(d);
+        return (sinOfPoint * cosOfD + cosOfPoint * sinOfD) / (cosOfPoint * cosOfD - sinOfPoint * sinOfD);
+    }
+
+    public static double exp(double x) {
+        if (!(x > EXP_LOWER_LIMIT && x < EXP_UPPER_LIMIT)) {
+            return Math.exp(x);
+        }
+        long index = Math.round(x * EXP_STEPS_PER_UNIT);
+        double r = (x - index * EXP_STEP_HIGH) - index * EXP_STEP_LOW;
+        // 2^(index / 1024) is 2^(index >> 10) * 2^((index & 1023) / 1024), the first factor being set as an exponent
+        double scale = Double.longBitsToDouble((1023L + (index >> EXP_TABLE_BITS)) << 52);
+        double expOfR = 1d + r * (1d + r * (0.5d + r * (1d / 6 + r * (1d / 24))));
+        return scale * EXP_TABLE[(int) index & (EXP_TABLE_SIZE - 1)] * expOfR;
+    }
+
+    public static double sinh(double x) {
+        double absX = Math.abs(x);
+        if (absX < HYPERBOLIC_SERIES_LIMIT) {
+            double x2 = x * x;
+            return x + x * x2 * (1d / 6 + x2 * (1d / 120 + x2 * (1d / 5040 + x2 * (1d / 362880))));
+        }
+        if (!(absX < HYPERBOLIC_UPPER_LIMIT)) {
+            return Math.sinh(x);
+        }
+        double e = exp(x);
+        return 0.5d * (e - 1d / e);
+    }
+
+    public static double cosh(double x) {
+        if (!(Math.abs(x) < HYPERBOLIC_UPPER_LIMIT)) {
+            return Math.cosh(x);
+        }
+        double e = exp(x);
+        return 0.5d * (e + 1d / e);
+    }
+
+    public static double tanh(double x) {
+        double absX = Math.abs(x);
+        if (absX < HYPERBOLIC_SERIES_LIMIT) {
+            double x2 = x * x;
+            return x - x * x2 * (1d / 3 - x2 * (2d / 15 - x2 * (17d / 315 - x2 * (62d / 2835
+                    - x2 * (1382d / 155925)))));
+        }
+        if (!(absX < TANH_SATURATION)) {
+            // also passes NaN through
+            return Math.tanh(x);
+        }
+        double e = exp(2d * x);
+        return (e - 1d) / (e + 1d);
+    }
+
+    private static double sinOfSmall(double d) {
+        double d2 = d * d;
+        return d - d * d2 * (1d / 6 - d2 * (1d / 120));
+    }
+
+    private static double cosOfSmall(double d) {
+        double d2 = d * d;
+        return 1d - d2 * (0.5d - d2 * (1d / 24 - d2 * (1d / 720)));
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Locale;
+
+/**
+ * Single argument math functions applied to whole columns of values at once. Each function runs its own loop over
+ * a primitive array, free of boxing and of dispatch per value, so that the JIT compiler can unroll the loops and
+ * vectorise the ones of the functions it maps to vector instructions, such as abs, sqrt, floor and ceil.
+ * <p>
+ * The results are those of the math functions of the same names, which wrap the same java.lang.Math methods.
+ */
+public enum BatchFunction {
+
+    ABS("abs") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.abs(values[i]);
+            }
+        }
+    },
+    ACOS("acos") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.acos(values[i]);
+            }
+        }
+    },
+    ASIN("asin") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.asin(values[i]);
+            }
+        }
+    },
+    ATAN("atan") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.atan(values[i]);
+            }
+        }
+    },
+    CBRT("cbrt") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.cbrt(values[i]);
+            }
+        }
+    },
+    CEIL("ceil") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.ceil(values[i]);
+            }
+        }
+    },
+    COS("cos") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.cos(values[i]);
+            }
+        }
+    },
+    COSH("cosh") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.cosh(values[i]);
+            }
+        }
+    },
+    EXP("exp") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.exp(values[i]);
+            }
+        }
+    },
+    FLOOR("floor") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.floor(values[i]);
+            }
+        }
+    },
+    LN("ln") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.log(values[i]);
+            }
+        }
+    },
+    LOG10("log10") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.log10(values[i]);
+            }
+        }
+    },
+    LOG2("log2") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.log(values[i]) / LN_2;
+            }
+        }
+    },
+    SIN("sin") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.sin(values[i]);
+            }
+        }
+    },
+    SINH("sinh") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.sinh(values[i]);
+            }
+        }
+    },
+    SQRT("sqrt") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.sqrt(values[i]);
+            }
+        }
+    },
+    TAN("tan") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.tan(values[i]);
+            }
+        }
+    },
+    TANH("tanh") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.tanh(values[i]);
+            }
+        }
+    },
+    TO_DEGREES("toDegrees") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.toDegrees(values[i]);
+            }
+        }
+    },
+    TO_RADIANS("toRadians") {
+        @Override
+        public void apply(double[] values, int count) {
+            for (int i = 0; i < count; i++) {
+                values[i] = Math.toRadians(values[i]);
+            }
+        }
+    };
+
+    // math:log2() divides by Math.log(2d) rather than using a cached reciprocal
+    private static final double LN_2 = Math.log(2d);
+
+    private final String functionName;
+
+    BatchFunction(String functionName) {
+        this.functionName = functionName;
+    }
+
+    /**
+     * Replaces each of the first count values with the result of the function for it.
+     *
+     * @param values values, replaced by the results
+     * @param count  number of values
+     */
+    public abstract void apply(double[] values, int count);
+
+    public String getFunctionName() {
+        return functionName;
+    }
+
+    /**
+     * Looks a function up by its name in queries, ignoring the case.
+     *
+     * @param functionName name of the math function
+     * @return the function, or null if it is not applied in batches
+     */
+    public static BatchFunction fromName(String functionName) {
+        String name = functionName.toLowerCase(Locale.ENGLISH);
+        for (BatchFunction function : values()) {
+            if (function.functionName.toLowerCase(Locale.ENGLISH).equals(name)) {
+                return function;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return names of all the functions, separated for error messages
+     */
+    public static String functionNames() {
+        StringBuilder names = new StringBuilder();
+        for (BatchFunction function : values()) {
+            if (names.length() > 0) {
+                names.append(", ");
+            }
+            names.append(function.functionName);
+        }
+        return names.toString();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+
+/**
+ * A numeric argument of a function, read as a double. Constant arguments are converted once, when the function is
+ * initialised, and their value is returned for every event.
+ */
+public final class DoubleArgument {
+
+    private final DoubleConverter converter;
+    private final boolean constant;
+    private final double constantValue;
+
+    private DoubleArgument(DoubleConverter converter, boolean constant, double constantValue) {
+        this.converter = converter;
+        this.constant = constant;
+        this.constantValue = constantValue;
+    }
+
+    /**
+     * @param executor executor of a numeric argument
+     * @return the argument of the executor
+     */
+    public static DoubleArgument of(ExpressionExecutor executor) {
+        DoubleConverter converter = DoubleConverter.forType(executor.getReturnType());
+        if (executor instanceof ConstantExpressionExecutor) {
+            Object value = ((ConstantExpressionExecutor) executor).getValue();
+            // a null constant is left to the null checks of the function
+            if (value != null) {
+                return new DoubleArgument(converter, true, converter.toDouble(value));
+            }
+        }
+        return new DoubleArgument(converter, false, 0d);
+    }
+
+    public boolean isConstant() {
+        return constant;
+    }
+
+    public double getConstantValue() {
+        return constantValue;
+    }
+
+    /**
+     * @param value non null value of the argument
+     * @return the value as a double, or the converted constant if the argument is constant
+     */
+    public double toDouble(Object value) {
+        return constant ? constantValue : converter.toDouble(value);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.query.api.definition.Attribute;
+
+/**
+ * Converts the values of a numeric attribute to primitive doubles. A converter is resolved once from the type of
+ * the attribute when a function is initialised, so that the function does not check the type of every value.
+ * The conversion switches over the constants of this enum instead of dispatching to an implementation per type,
+ * as a function shared by queries of different attribute types would otherwise make the call megamorphic.
+ */
+public enum DoubleConverter {
+
+    INT, LONG, FLOAT, DOUBLE;
+
+    /**
+     * @param value non null value of the attribute
+     * @return the value as a double
+     */
+    public double toDouble(Object value) {
+        switch (this) {
+            case INT:
+                return (Integer) value;
+            case LONG:
+                return (Long) value;
+            case FLOAT:
+                return (Float) value;
+            default:
+                return (Double) value;
+        }
+    }
+
+    /**
+     * @param type type of the attribute
+     * @return converter for the values of the type, or null if the type is not numeric
+     */
+    public static DoubleConverter forType(Attribute.Type type) {
+        switch (type) {
+            case INT:
+                return INT;
+            case LONG:
+                return LONG;
+            case FLOAT:
+                return FLOAT;
+            case DOUBLE:
+                return DOUBLE;
+            default:
+                return null;
+        }
+    }
+}
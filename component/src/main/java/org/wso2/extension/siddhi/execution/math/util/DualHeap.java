@@ -0,0 +1,233 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+
+/**
+ * Store of primitive doubles tuned for a single percentile, which splits the values into a max heap of the lower
+ * values and a min heap of the upper ones, at the rank the percentile is read from. Adding a value costs
+ * O(log n) and reading the percentile O(1), hence a chunk of n values is ingested in O(n log n) time, instead of
+ * the O(n^2) time of inserting them into a sorted array one by one.
+ * <p>
+ * The percentile is computed as by {@link ExactPercentileStore#percentile(double)}, from the values at the two
+ * ranks around the split. Removing a value and looking up the other ranks cost O(n), hence this store is meant for
+ * batch windows, which reset the values instead of removing them.
+ */
+public class DualHeap extends ExactPercentileStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final double percentile;
+
+    // max heap of the lowest values, holding as many values as the rank of the percentile
+    private double[] lower = new double[DEFAULT_CAPACITY];
+    private int lowerSize;
+    // min heap of the remaining values
+    private double[] upper = new double[DEFAULT_CAPACITY];
+    private int upperSize;
+
+    // all values in ascending order, built on demand for the lookups of other ranks
+    private double[] sorted;
+
+    /**
+     * @param percentile percentile (p) the heaps are split for, where 0 < p <= 100
+     */
+    public DualHeap(double percentile) {
+        this.percentile = percentile;
+    }
+
+    @Override
+    public void add(double value) {
+        if (lowerSize > 0 && Double.compare(value, lower[0]) <= 0) {
+            lower = push(lower, lowerSize++, value, -1);
+        } else {
+            upper = push(upper, upperSize++, value, 1);
+        }
+        sorted = null;
+        rebalance();
+    }
+
+    @Override
+    public boolean remove(double value) {
+        int index = indexOf(lower, lowerSize, value);
+        if (index >= 0) {
+            lowerSize = removeAt(lower, lowerSize, index, -1);
+        } else {
+            index = indexOf(upper, upperSize, value);
+            if (index < 0) {
+                return false;
+            }
+            upperSize = removeAt(upper, upperSize, index, 1);
+        }
+        sorted = null;
+        rebalance();
+        return true;
+    }
+
+    @Override
+    public double get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (index == lowerSize - 1) {
+            return lower[0];
+        }
+        if (index == lowerSize) {
+            return upper[0];
+        }
+        if (sorted == null) {
+            sorted = toArray();
+        }
+        return sorted[index];
+    }
+
+    @Override
+    public long size() {
+        return lowerSize + upperSize;
+    }
+
+    @Override
+    public void clear() {
+        lowerSize = 0;
+        upperSize = 0;
+        sorted = null;
+    }
+
+    @Override
+    public double[] toArray() {
+        double[] values = new double[lowerSize + upperSize];
+        System.arraycopy(lower, 0, values, 0, lowerSize);
+        System.arraycopy(upper, 0, values, lowerSize, upperSize);
+        Arrays.sort(values, 0, lowerSize);
+        Arrays.sort(values, lowerSize, values.length);
+        return values;
+    }
+
+    @Override
+    public void setAll(double[] values) {
+        double[] ascending = values.clone();
+        Arrays.sort(ascending);
+        int split = splitRank(ascending.length);
+        // a descending array is a max heap and an ascending one a min heap, hence the halves need no sifting
+        lower = new double[Math.max(split, DEFAULT_CAPACITY)];
+        for (int i = 0; i < split; i++) {
+            lower[i] = ascending[split - 1 - i];
+        }
+        lowerSize = split;
+        upper = Arrays.copyOfRange(ascending, split, split + Math.max(ascending.length - split, DEFAULT_CAPACITY));
+        upperSize = ascending.length - split;
+        sorted = null;
+    }
+
+    /**
+     * Number of the lowest values the percentile is read from, following the steps of
+     * {@link ExactPercentileStore#percentile(double)}: the percentile is the largest of them, or its average with
+     * the next value when the index is a whole number.
+     */
+    private int splitRank(int size) {
+        double percentileIndex = percentile * size / 100;
+        if (percentileIndex % 1 == 0) {
+            return (int) percentileIndex;
+        }
+        return Math.max(1, (int) Math.round(percentileIndex));
+    }
+
+    private void rebalance() {
+        int split = splitRank(lowerSize + upperSize);
+        while (lowerSize > split) {
+            double value = lower[0];
+            lowerSize = removeAt(lower, lowerSize, 0, -1);
+            upper = push(upper, upperSize++, value, 1);
+        }
+        while (lowerSize < split) {
+            double value = upper[0];
+            upperSize = removeAt(upper, upperSize, 0, 1);
+            lower = push(lower, lowerSize++, value, -1);
+        }
+    }
+
+    private static int indexOf(double[] heap, int size, double value) {
+        for (int i = 0; i < size; i++) {
+            if (Double.compare(heap[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the value to the heap holding size values, growing it if needed.
+     *
+     * @param order 1 for a min heap and -1 for a max heap
+     */
+    private static double[] push(double[] heap, int size, double value, int order) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size + (size >> 1));
+        }
+        heap[size] = value;
+        siftUp(heap, size, order);
+        return heap;
+    }
+
+    /**
+     * Removes the value at the index of the heap holding size values.
+     *
+     * @return the new size of the heap
+     */
+    private static int removeAt(double[] heap, int size, int index, int order) {
+        size--;
+        if (index != size) {
+            heap[index] = heap[size];
+            siftDown(heap, size, index, order);
+            siftUp(heap, index, order);
+        }
+        return size;
+    }
+
+    private static void siftUp(double[] heap, int index, int order) {
+        double value = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (Double.compare(heap[parent], value) * order <= 0) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(double[] heap, int size, int index, int order) {
+        double value = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && Double.compare(heap[child + 1], heap[child]) * order < 0) {
+                child++;
+            }
+            if (Double.compare(value, heap[child]) * order <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Percentile store which keeps every value and can look values up by their rank, hence returning exact
+ * percentiles.
+ */
+public abstract class ExactPercentileStore extends PercentileStore {
+
+    private static final String VALUES_LIST = "VALUES_LIST";
+    private static final String PACKED_VALUES = "PACKED_VALUES";
+
+    /**
+     * Returns the value at the given position of the ascending order of the stored values.
+     *
+     * @param index zero based rank
+     * @return value at the rank
+     */
+    public abstract double get(int index);
+
+    /**
+     * @return all stored values in ascending order
+     */
+    public abstract double[] toArray();
+
+    /**
+     * Replaces the content of the store with the given values.
+     *
+     * @param values values to load, need not be sorted
+     */
+    public abstract void setAll(double[] values);
+
+    /**
+     * Replaces the content of the store with boxed values restored from the older list based snapshots.
+     *
+     * @param values values to load, need not be sorted
+     */
+    public void setAll(List<? extends Number> values) {
+        double[] unboxed = new double[values.size()];
+        for (int i = 0; i < unboxed.length; i++) {
+            unboxed[i] = values.get(i).doubleValue();
+        }
+        setAll(unboxed);
+    }
+
+    /**
+     * @return the values in ascending order, packed by {@link PackedDoubles}
+     */
+    @Override
+    public Map<String, Object> snapshot() {
+        return Collections.singletonMap(PACKED_VALUES, PackedDoubles.encode(toArray()));
+    }
+
+    /**
+     * Restores the values from a snapshot. Older snapshots hold the values as a plain double array, or as a boxed
+     * {@code List<Double>} if taken before the primitive stores were introduced, hence all the forms are accepted.
+     *
+     * @param snapshot snapshot returned by {@link #snapshot()}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restore(Map<String, Object> snapshot) {
+        Object packedValues = snapshot.get(PACKED_VALUES);
+        if (packedValues instanceof byte[]) {
+            setAll(PackedDoubles.decode((byte[]) packedValues));
+            return;
+        }
+        Object values = snapshot.get(VALUES_LIST);
+        if (values instanceof double[]) {
+            setAll((double[]) values);
+        } else if (values instanceof List) {
+            setAll((List<? extends Number>) values);
+        } else {
+            clear();
+        }
+    }
+
+    /**
+     * Percentile calculation method.
+     * <p>
+     * To calculate the pth percentile (where p is any number greater than 0 or less than or equal to 100), do the
+     * following steps:
+     * 1. Order all the values in the data set from smallest to largest.
+     * 2. Multiply p percent by the total number of values, n. This number is called the index.
+     * 3. If the index obtained in Step 2 is not a whole number, round it up to the nearest whole number and go to Step
+     * 4a. If the index obtained in Step 2 is a whole number, go to Step 4b.
+     * 4a. Count the values in your data set from left to right (from the smallest to the largest value) until you reach
+     * the number indicated by Step 3. The corresponding value in your data set is the pth percentile.
+     * 4b. Count the values in your data set from left to right until you reach the number indicated by Step 2.
+     * The pth percentile is the average of that corresponding value in your data set and the value that directly
+     * follows it.
+     *
+     * @param percentile percentile (p)
+     * @return pth percentile value
+     */
+    @Override
+    public double percentile(double percentile) {
+
+        double percentileIndexTemp;
+        int percentileIndex;
+        int size = (int) size();
+
+        // calculating percentile index
+        percentileIndexTemp = percentile * size / 100;
+
+        if (percentileIndexTemp % 1 == 0) {
+            percentileIndex = (int) percentileIndexTemp;
+            if (percentileIndex == size) {
+                return get(percentileIndex - 1);
+            } else {
+                return (get(percentileIndex - 1) + get(percentileIndex)) / 2;
+            }
+        } else {
+            percentileIndex = (int) Math.round(percentileIndexTemp);
+            if (percentileIndex == 0) {
+                return get(percentileIndex);
+            } else {
+                return get(percentileIndex - 1);
+            }
+        }
+    }
+}
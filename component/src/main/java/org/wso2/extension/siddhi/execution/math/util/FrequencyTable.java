@@ -0,0 +1,255 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Run-length store of primitive doubles, keeping each distinct value once along with its occurrence count, so that
+ * memory scales with the number of distinct values rather than with the number of values.
+ * <p>
+ * The distinct values are kept sorted and their counts are summed by a Fenwick tree, hence adding or removing an
+ * occurrence of a known value and looking a value up by rank are O(log d), d being the number of distinct values.
+ * A new distinct value costs O(d), as it is inserted in place. Values whose count drops to zero are kept until they
+ * make up half of the distinct values, so that values which come and go do not keep reshaping the table.
+ */
+public class FrequencyTable extends ExactPercentileStore {
+
+    private static final String DISTINCT_VALUES = "DISTINCT_VALUES";
+    private static final String COUNTS = "COUNTS";
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] keys;
+    private long[] counts;
+    // Fenwick tree over the counts, indexed from 1
+    private long[] tree;
+    private int distinct;
+    private int unusedKeys;
+    private long size;
+
+    public FrequencyTable() {
+        keys = new double[DEFAULT_CAPACITY];
+        counts = new long[DEFAULT_CAPACITY];
+        tree = new long[DEFAULT_CAPACITY + 1];
+    }
+
+    @Override
+    public void add(double value) {
+        int index = lowerBound(value);
+        if (index < distinct && Double.compare(keys[index], value) == 0) {
+            if (counts[index] == 0) {
+                unusedKeys--;
+            }
+            counts[index]++;
+            for (int i = index + 1; i <= distinct; i += i & -i) {
+                tree[i]++;
+            }
+        } else {
+            if (distinct == keys.length) {
+                int capacity = keys.length + (keys.length >> 1);
+                keys = Arrays.copyOf(keys, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+                tree = new long[capacity + 1];
+            }
+            System.arraycopy(keys, index, keys, index + 1, distinct - index);
+            System.arraycopy(counts, index, counts, index + 1, distinct - index);
+            keys[index] = value;
+            counts[index] = 1;
+            distinct++;
+            rebuildTree();
+        }
+        size++;
+    }
+
+    @Override
+    public boolean remove(double value) {
+        int index = lowerBound(value);
+        if (index == distinct || Double.compare(keys[index], value) != 0 || counts[index] == 0) {
+            return false;
+        }
+        counts[index]--;
+        for (int i = index + 1; i <= distinct; i += i & -i) {
+            tree[i]--;
+        }
+        size--;
+        if (counts[index] == 0) {
+            unusedKeys++;
+            if (unusedKeys > DEFAULT_CAPACITY && unusedKeys > distinct >> 1) {
+                compact();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        // descends the Fenwick tree to the first key whose cumulative count exceeds the index
+        int position = 0;
+        long remaining = index;
+        for (int step = Integer.highestOneBit(distinct); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= distinct && tree[next] <= remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        return keys[position];
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return number of distinct values held, including the ones whose count has dropped to zero
+     */
+    public int distinctCount() {
+        return distinct;
+    }
+
+    @Override
+    public void clear() {
+        distinct = 0;
+        unusedKeys = 0;
+        size = 0;
+    }
+
+    @Override
+    public double[] toArray() {
+        double[] values = new double[(int) size];
+        int position = 0;
+        for (int i = 0; i < distinct; i++) {
+            Arrays.fill(values, position, position + (int) counts[i], keys[i]);
+            position += counts[i];
+        }
+        return values;
+    }
+
+    @Override
+    public void setAll(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        clear();
+        ensureCapacity(sorted.length);
+        for (double value : sorted) {
+            if (distinct > 0 && Double.compare(keys[distinct - 1], value) == 0) {
+                counts[distinct - 1]++;
+            } else {
+                keys[distinct] = value;
+                counts[distinct] = 1;
+                distinct++;
+            }
+        }
+        size = sorted.length;
+        rebuildTree();
+    }
+
+    /**
+     * @return the distinct values and their counts, instead of one entry per value
+     */
+    @Override
+    public Map<String, Object> snapshot() {
+        compact();
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put(DISTINCT_VALUES, Arrays.copyOf(keys, distinct));
+        snapshot.put(COUNTS, Arrays.copyOf(counts, distinct));
+        return snapshot;
+    }
+
+    @Override
+    public void restore(Map<String, Object> snapshot) {
+        double[] restoredKeys = (double[]) snapshot.get(DISTINCT_VALUES);
+        long[] restoredCounts = (long[]) snapshot.get(COUNTS);
+        if (restoredKeys == null || restoredCounts == null) {
+            super.restore(snapshot);
+            return;
+        }
+        clear();
+        ensureCapacity(restoredKeys.length);
+        System.arraycopy(restoredKeys, 0, keys, 0, restoredKeys.length);
+        System.arraycopy(restoredCounts, 0, counts, 0, restoredCounts.length);
+        distinct = restoredKeys.length;
+        for (int i = 0; i < distinct; i++) {
+            size += counts[i];
+        }
+        rebuildTree();
+    }
+
+    /**
+     * Drops the values whose count has dropped to zero.
+     */
+    private void compact() {
+        if (unusedKeys == 0) {
+            return;
+        }
+        int write = 0;
+        for (int i = 0; i < distinct; i++) {
+            if (counts[i] != 0) {
+                keys[write] = keys[i];
+                counts[write] = counts[i];
+                write++;
+            }
+        }
+        distinct = write;
+        unusedKeys = 0;
+        rebuildTree();
+    }
+
+    private void rebuildTree() {
+        Arrays.fill(tree, 0, distinct + 1, 0);
+        for (int i = 1; i <= distinct; i++) {
+            tree[i] += counts[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= distinct) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (keys.length < capacity) {
+            keys = new double[capacity];
+            counts = new long[capacity];
+            tree = new long[capacity + 1];
+        }
+    }
+
+    /**
+     * Index of the first distinct value which is not less than the value.
+     */
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = distinct;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(keys[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
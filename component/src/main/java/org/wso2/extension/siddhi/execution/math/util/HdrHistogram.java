@@ -0,0 +1,251 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * High dynamic range histogram of integral values, in the layout of Gil Tene's HdrHistogram.
+ * <p>
+ * Values are counted in log-linear buckets: each bucket covers twice the range of the previous one with the same
+ * number of sub buckets, so that every value is recorded within a relative error of 10^-d, d being the number of
+ * significant digits. Values below 2 * 10^d are recorded exactly. Recording and removing a value are O(1), and the
+ * counts array only grows by a fixed number of slots for each doubling of the largest value recorded.
+ * <p>
+ * Each group of sub bucket counts also keeps its total, hence a percentile lookup only walks the group totals and
+ * a single group, whose sizes are bounded by the number of significant digits rather than by the number of values.
+ * <p>
+ * Negative values are recorded by their magnitude in a second histogram of the same precision, created with the
+ * first negative value, and the percentile lookup walks it from its largest magnitude down before this one.
+ */
+public class HdrHistogram extends PercentileStore {
+
+    private static final String SIGNIFICANT_DIGITS = "SIGNIFICANT_DIGITS";
+    private static final String COUNTS = "COUNTS";
+    private static final String NEGATIVE_COUNTS = "NEGATIVE_COUNTS";
+
+    private final int significantDigits;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+
+    private long[] counts;
+    private long[] groupTotals;
+    private long totalCount;
+    private HdrHistogram negatives;
+
+    public HdrHistogram(int significantDigits) {
+        if (significantDigits < 1 || significantDigits > 5) {
+            throw new IllegalArgumentException("Significant digits should be in 1 <= digits <= 5 range, but found "
+                                                       + significantDigits);
+        }
+        this.significantDigits = significantDigits;
+        long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largestValueWithSingleUnitResolution - 1);
+        this.subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        this.subBucketHalfCount = 1 << subBucketHalfCountMagnitude;
+        this.subBucketMask = (1L << subBucketCountMagnitude) - 1;
+        this.leadingZeroCountBase = 64 - subBucketCountMagnitude;
+        // the first group covers the values of the first bucket below its half count, the second one the rest
+        this.counts = new long[2 * subBucketHalfCount];
+        this.groupTotals = new long[2];
+    }
+
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    @Override
+    public void add(double value) {
+        record((long) value);
+    }
+
+    public void record(long value) {
+        if (value < 0) {
+            if (negatives == null) {
+                negatives = new HdrHistogram(significantDigits);
+            }
+            negatives.record(magnitude(value));
+            return;
+        }
+        int index = countsIndex(value);
+        if (index >= counts.length) {
+            resize(index);
+        }
+        counts[index]++;
+        groupTotals[index >> subBucketHalfCountMagnitude]++;
+        totalCount++;
+    }
+
+    @Override
+    public boolean remove(double value) {
+        long longValue = (long) value;
+        if (longValue < 0) {
+            return negatives != null && negatives.remove(magnitude(longValue));
+        }
+        int index = countsIndex(longValue);
+        if (index >= counts.length || counts[index] == 0) {
+            return false;
+        }
+        counts[index]--;
+        groupTotals[index >> subBucketHalfCountMagnitude]--;
+        totalCount--;
+        return true;
+    }
+
+    /**
+     * Returns the value at the given percentile, which is the highest value equivalent to the smallest recorded
+     * value whose rank is at least {@code p * n / 100}, as HdrHistogram does.
+     *
+     * @param percentile percentile (p), where 0 < p <= 100
+     * @return pth percentile value, NaN when the histogram is empty
+     */
+    @Override
+    public double percentile(double percentile) {
+        long negativeCount = negatives == null ? 0 : negatives.totalCount;
+        long count = totalCount + negativeCount;
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile * count / 100));
+        if (target <= negativeCount) {
+            // the highest equivalent value of a negative value is the one of the lowest equivalent magnitude
+            return -negatives.valueFromIndex(negatives.indexAtRank(negativeCount - target + 1));
+        }
+        return highestEquivalentValue(valueFromIndex(indexAtRank(target - negativeCount)));
+    }
+
+    @Override
+    public long size() {
+        return negatives == null ? totalCount : totalCount + negatives.totalCount;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(groupTotals, 0);
+        totalCount = 0;
+        negatives = null;
+    }
+
+    /**
+     * @return the counts up to the last non zero one, along with the significant digits they were recorded with
+     */
+    @Override
+    public Map<String, Object> snapshot() {
+        int length = counts.length;
+        while (length > 0 && counts[length - 1] == 0) {
+            length--;
+        }
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put(SIGNIFICANT_DIGITS, significantDigits);
+        snapshot.put(COUNTS, Arrays.copyOf(counts, length));
+        if (negatives != null && negatives.totalCount > 0) {
+            snapshot.put(NEGATIVE_COUNTS, negatives.snapshot().get(COUNTS));
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void restore(Map<String, Object> snapshot) {
+        clear();
+        long[] restoredCounts = (long[]) snapshot.get(COUNTS);
+        if (restoredCounts == null) {
+            return;
+        }
+        if (!Integer.valueOf(significantDigits).equals(snapshot.get(SIGNIFICANT_DIGITS))) {
+            throw new IllegalStateException("Cannot restore a histogram of " + snapshot.get(SIGNIFICANT_DIGITS) +
+                                                    " significant digits into one of " + significantDigits);
+        }
+        if (restoredCounts.length > counts.length) {
+            resize(restoredCounts.length - 1);
+        }
+        for (int i = 0; i < restoredCounts.length; i++) {
+            counts[i] = restoredCounts[i];
+            groupTotals[i >> subBucketHalfCountMagnitude] += restoredCounts[i];
+            totalCount += restoredCounts[i];
+        }
+        long[] restoredNegativeCounts = (long[]) snapshot.get(NEGATIVE_COUNTS);
+        if (restoredNegativeCounts != null) {
+            negatives = new HdrHistogram(significantDigits);
+            Map<String, Object> negativeSnapshot = new HashMap<>();
+            negativeSnapshot.put(SIGNIFICANT_DIGITS, significantDigits);
+            negativeSnapshot.put(COUNTS, restoredNegativeCounts);
+            negatives.restore(negativeSnapshot);
+        }
+    }
+
+    private static long magnitude(long value) {
+        return value == Long.MIN_VALUE ? Long.MAX_VALUE : -value;
+    }
+
+    /**
+     * @return the index of the smallest recorded value whose rank is at least the given one, 1 <= rank <= count
+     */
+    private int indexAtRank(long rank) {
+        int group = 0;
+        long countSoFar = 0;
+        while (countSoFar + groupTotals[group] < rank) {
+            countSoFar += groupTotals[group];
+            group++;
+        }
+        int index = group << subBucketHalfCountMagnitude;
+        while (true) {
+            countSoFar += counts[index];
+            if (countSoFar >= rank) {
+                return index;
+            }
+            index++;
+        }
+    }
+
+    private int countsIndex(long value) {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + subBucketIndex - subBucketHalfCount;
+    }
+
+    private long valueFromIndex(int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return ((long) subBucketIndex) << bucketIndex;
+    }
+
+    private long highestEquivalentValue(long value) {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        long lowestEquivalentValue = (value >>> bucketIndex) << bucketIndex;
+        return lowestEquivalentValue + (1L << bucketIndex) - 1;
+    }
+
+    /**
+     * Grows the counts to hold the given index, a whole group at a time.
+     */
+    private void resize(int index) {
+        int groups = (index >> subBucketHalfCountMagnitude) + 1;
+        counts = Arrays.copyOf(counts, groups << subBucketHalfCountMagnitude);
+        groupTotals = Arrays.copyOf(groupTotals, groups);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.core.util.snapshot.SnapshotRequest;
+import io.siddhi.core.util.snapshot.state.Snapshot;
+import io.siddhi.core.util.snapshot.state.SnapshotStateList;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Percentile store which records the changes made to another store since its last snapshot, so that it can be
+ * persisted through the incremental snapshots of Siddhi, whose size is proportional to the changes rather than to
+ * the number of values.
+ * <p>
+ * The snapshot holds a base snapshot of the underlying store when there is no earlier base, when Siddhi requests a
+ * full snapshot, or once the changes since the last base outnumber the values, so that restoring never replays
+ * more changes than there are values. Otherwise it holds the changes since the previous snapshot. Changes are not
+ * recorded while the next snapshot is known to be a base one, hence the log is bounded by the number of values.
+ */
+public class IncrementalPercentileStore extends PercentileStore {
+
+    private static final String STORE = "STORE";
+    private static final int MIN_BASE_INTERVAL = 1024;
+
+    private final PercentileStore store;
+    private ChangeLog changeLog = new ChangeLog();
+    private long changesSinceBase;
+    private boolean baseRequired = true;
+
+    public IncrementalPercentileStore(PercentileStore store) {
+        this.store = store;
+    }
+
+    /**
+     * @param store store of a percentile aggregator of an app persisted incrementally
+     * @return the store wrapped such that only its changes are persisted, if it keeps every value, or the store
+     * itself otherwise
+     */
+    public static PercentileStore wrap(PercentileStore store) {
+        // the sorted array, the tree and the dual heap grow with the window, hence only their changes are persisted
+        // between base snapshots, whereas a frequency table only holds the distinct values, whose full snapshot is
+        // usually smaller than the changes logged between two base snapshots
+        if (store instanceof ExactPercentileStore && !(store instanceof FrequencyTable)) {
+            return new IncrementalPercentileStore(store);
+        }
+        return store;
+    }
+
+    @Override
+    public void add(double value) {
+        store.add(value);
+        record(ChangeLog.ADD, value);
+    }
+
+    @Override
+    public boolean remove(double value) {
+        if (!store.remove(value)) {
+            return false;
+        }
+        record(ChangeLog.REMOVE, value);
+        return true;
+    }
+
+    @Override
+    public double percentile(double percentile) {
+        return store.percentile(percentile);
+    }
+
+    @Override
+    public double[] percentiles(double[] percentiles) {
+        return store.percentiles(percentiles);
+    }
+
+    @Override
+    public long size() {
+        return store.size();
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+        record(ChangeLog.CLEAR, 0);
+    }
+
+    /**
+     * @return a base snapshot of the underlying store, or the changes since the previous snapshot, wrapped in a
+     * Siddhi {@link Snapshot}
+     */
+    @Override
+    public Map<String, Object> snapshot() {
+        Snapshot snapshot;
+        if (baseRequired || SnapshotRequest.isRequestForFullSnapshot()) {
+            snapshot = new Snapshot(store.snapshot(), false);
+            changesSinceBase = 0;
+            baseRequired = false;
+        } else {
+            snapshot = new Snapshot(changeLog.trim(), true);
+        }
+        changeLog = new ChangeLog();
+        return Collections.singletonMap(STORE, snapshot);
+    }
+
+    /**
+     * Restores the store from the base snapshot and the changes which followed it, which Siddhi collects into a
+     * {@link SnapshotStateList}. Snapshots taken by the underlying store on its own are restored as they are.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restore(Map<String, Object> snapshot) {
+        Object state = snapshot.get(STORE);
+        if (state instanceof SnapshotStateList) {
+            for (Snapshot revision : ((SnapshotStateList) state).getSnapshotStates().values()) {
+                restore(revision);
+            }
+        } else if (state instanceof Snapshot) {
+            restore((Snapshot) state);
+        } else {
+            store.restore(snapshot);
+        }
+        changeLog = new ChangeLog();
+        // the next snapshot is a base one, as the revisions restored from may not be the latest ones
+        baseRequired = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void restore(Snapshot revision) {
+        if (revision.isIncrementalSnapshot()) {
+            ((ChangeLog) revision.getState()).replay(store);
+        } else {
+            store.restore((Map<String, Object>) revision.getState());
+        }
+    }
+
+    private void record(byte operation, double value) {
+        if (baseRequired) {
+            return;
+        }
+        if (++changesSinceBase > Math.max(store.size(), MIN_BASE_INTERVAL)) {
+            baseRequired = true;
+            changeLog = new ChangeLog();
+            return;
+        }
+        changeLog.append(operation, value);
+    }
+
+    /**
+     * Changes made to a store, kept as primitive arrays so that they serialize compactly.
+     */
+    private static final class ChangeLog implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        private static final byte ADD = 0;
+        private static final byte REMOVE = 1;
+        private static final byte CLEAR = 2;
+
+        private byte[] operations = new byte[0];
+        private double[] values = new double[0];
+        private int count;
+
+        private void append(byte operation, double value) {
+            if (count == operations.length) {
+                int capacity = Math.max(16, count + (count >> 1));
+                operations = Arrays.copyOf(operations, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            operations[count] = operation;
+            values[count] = value;
+            count++;
+        }
+
+        private void replay(PercentileStore store) {
+            for (int i = 0; i < count; i++) {
+                switch (operations[i]) {
+                    case ADD:
+                        store.add(values[i]);
+                        break;
+                    case REMOVE:
+                        store.remove(values[i]);
+                        break;
+                    default:
+                        store.clear();
+                }
+            }
+        }
+
+        /**
+         * Drops the unused capacity, so that only the recorded changes are serialized.
+         */
+        private ChangeLog trim() {
+            operations = Arrays.copyOf(operations, count);
+            values = Arrays.copyOf(values, count);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+/**
+ * Boxes the integral results of a function, returning the same box for a result whenever it is within the range of
+ * the cache, so that functions with small integral results do not allocate a new box for every event. The boxes are
+ * created on first use, and a box created concurrently by two threads only costs one extra allocation, as boxes are
+ * immutable. A cache boxes the results of one type, either ints, longs or doubles.
+ */
+public final class IntegralResultCache {
+
+    public static final int DEFAULT_RANGE = 1024;
+    public static final int MAX_RANGE = 1 << 20;
+
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0d);
+
+    private final int range;
+    private final Object[] boxes;
+
+    /**
+     * @param range results from -range to range, both inclusive, are cached
+     */
+    public IntegralResultCache(int range) {
+        if (range < 0 || range > MAX_RANGE) {
+            throw new IllegalArgumentException("Range of the cache should be from 0 to " + MAX_RANGE +
+                    ", but found " + range);
+        }
+        this.range = range;
+        this.boxes = new Object[2 * range + 1];
+    }
+
+    public Integer valueOf(int value) {
+        if (value < -range || value > range) {
+            return value;
+        }
+        Object box = boxes[value + range];
+        if (box == null) {
+            box = value;
+            boxes[value + range] = box;
+        }
+        return (Integer) box;
+    }
+
+    public Long valueOf(long value) {
+        if (value < -range || value > range) {
+            return value;
+        }
+        int index = (int) value + range;
+        Object box = boxes[index];
+        if (box == null) {
+            box = value;
+            boxes[index] = box;
+        }
+        return (Long) box;
+    }
+
+    /**
+     * @param value result of the function
+     * @return the cached box of the value if it is an integral value within the range, and a new box otherwise.
+     * Negative zero is never cached, so that it is not mistaken for positive zero.
+     */
+    public Double valueOf(double value) {
+        if (!(value >= -range && value <= range)) {
+            return value;
+        }
+        int integralValue = (int) value;
+        if (integralValue != value || Double.doubleToRawLongBits(value) == NEGATIVE_ZERO_BITS) {
+            return value;
+        }
+        Object box = boxes[integralValue + range];
+        if (box == null) {
+            box = value;
+            boxes[integralValue + range] = box;
+        }
+        return (Double) box;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Percentile store backed by KLL sketches, whose percentiles are within a rank error of epsilon times the number
+ * of values.
+ * <p>
+ * KLL sketches cannot forget values, hence expired values are summarised by a second sketch, and the rank of a
+ * value is estimated as its rank among the added values less its rank among the removed values. The rank error is
+ * then bounded by epsilon times the number of added and removed values, which keeps growing while a sliding
+ * window is in use. Both sketches are cleared whenever every added value has been removed.
+ * <p>
+ * When the live values are kept, as for sliding windows, whose events are held by the window anyway, the sketch
+ * of the added values is rebuilt from them once more values have been removed than are left, and the sketch of the
+ * removed values is cleared. The rank error is then bounded by about three times epsilon times the number of live
+ * values, however long the window slides, and rebuilding costs an amortized update per removed value.
+ */
+public class KllPercentileStore extends PercentileStore {
+
+    private static final String ADDED = "ADDED";
+    private static final String REMOVED = "REMOVED";
+    private static final String LIVE = "LIVE";
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final KllSketch added;
+    private final KllSketch removed;
+    private final boolean keepLive;
+    // ring buffer of the live values, in the order they were added, as windows mostly remove the oldest value
+    private double[] live;
+    private int head;
+    private int liveCount;
+
+    public KllPercentileStore(int k) {
+        this(k, false);
+    }
+
+    /**
+     * @param k        k of the sketches
+     * @param keepLive whether the values added and not yet removed are kept, so that the sketch of the added
+     *                 values can be rebuilt from them rather than growing with every removed value
+     */
+    public KllPercentileStore(int k, boolean keepLive) {
+        this.added = new KllSketch(k);
+        this.removed = new KllSketch(k);
+        this.keepLive = keepLive;
+        this.live = keepLive ? new double[INITIAL_CAPACITY] : null;
+    }
+
+    @Override
+    public void add(double value) {
+        added.update(value);
+        if (keepLive) {
+            if (liveCount == live.length) {
+                double[] grown = new double[liveCount << 1];
+                copyLive(grown);
+                live = grown;
+                head = 0;
+            }
+            live[(head + liveCount++) % live.length] = value;
+        }
+    }
+
+    @Override
+    public boolean remove(double value) {
+        if (size() == 0) {
+            return false;
+        }
+        if (size() == 1) {
+            clear();
+            return true;
+        }
+        removed.update(value);
+        if (keepLive && removeLive(value) && removed.getCount() > liveCount && liveCount == size()) {
+            rebuild();
+        }
+        return true;
+    }
+
+    /**
+     * @return whether the value was live
+     */
+    private boolean removeLive(double value) {
+        for (int i = 0; i < liveCount; i++) {
+            int index = (head + i) % live.length;
+            if (Double.compare(live[index], value) == 0) {
+                // the oldest value takes the place of the removed one, which it is for windows removing in order
+                live[index] = live[head];
+                head = (head + 1) % live.length;
+                liveCount--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuild() {
+        added.clear();
+        removed.clear();
+        for (int i = 0; i < liveCount; i++) {
+            added.update(live[(head + i) % live.length]);
+        }
+    }
+
+    private void copyLive(double[] target) {
+        int firstPart = Math.min(liveCount, live.length - head);
+        System.arraycopy(live, head, target, 0, firstPart);
+        System.arraycopy(live, 0, target, firstPart, liveCount - firstPart);
+    }
+    @Override
+    public double percentile(double percentile) {
+        if (removed.isEmpty()) {
+            return added.quantile(percentile / 100);
+        }
+        long size = size();
+        if (size == 0) {
+            return Double.NaN;
+        }
+        return added.search(Math.max(1, (long) Math.ceil(percentile * size / 100)), removed);
+    }
+
+    /**
+     * Merges the values summarised by the other store into this one.
+     *
+     * @param other store to merge
+     */
+    public void merge(KllPercentileStore other) {
+        added.merge(other.added);
+        removed.merge(other.removed);
+    }
+
+    @Override
+    public long size() {
+        return added.getCount() - removed.getCount();
+    }
+
+    @Override
+    public void clear() {
+        added.clear();
+        removed.clear();
+        head = 0;
+        liveCount = 0;
+    }
+
+    @Override
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put(ADDED, added.snapshot());
+        snapshot.put(REMOVED, removed.snapshot());
+        if (keepLive) {
+            double[] liveValues = new double[liveCount];
+            copyLive(liveValues);
+            snapshot.put(LIVE, liveValues);
+        }
+        return snapshot;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void restore(Map<String, Object> snapshot) {
+        Map<String, Object> addedSnapshot = (Map<String, Object>) snapshot.get(ADDED);
+        Map<String, Object> removedSnapshot = (Map<String, Object>) snapshot.get(REMOVED);
+        if (addedSnapshot == null || removedSnapshot == null) {
+            clear();
+            return;
+        }
+        added.restore(addedSnapshot);
+        removed.restore(removedSnapshot);
+        if (keepLive) {
+            // snapshots taken without the live values leave the sketches to grow until the store is emptied
+            double[] liveValues = (double[]) snapshot.get(LIVE);
+            liveCount = liveValues == null ? 0 : liveValues.length;
+            live = liveValues == null ? new double[INITIAL_CAPACITY]
+                    : Arrays.copyOf(liveValues, Math.max(INITIAL_CAPACITY, liveCount));
+            head = 0;
+        }
+    }
+}
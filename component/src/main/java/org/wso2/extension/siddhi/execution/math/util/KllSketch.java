@@ -0,0 +1,483 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * KLL quantile sketch (Karnin, Lang and Liberty) of primitive doubles.
+ * <p>
+ * Values are kept in a hierarchy of compactors, where a value at level h stands for 2^h of the original values.
+ * When the sketch is full, the lowest level which has reached its capacity is sorted and every other value of it,
+ * starting from a random offset, is promoted to the next level. Level capacities shrink geometrically towards the
+ * lower levels, hence the sketch retains O(k log(n / k)) values, and the rank of any value is known within
+ * {@code epsilon * n} with high probability, where epsilon is about {@code 2.3 / k}.
+ * <p>
+ * Every level is kept sorted, so that compaction and merging only need linear merges, and ranks are looked up by
+ * binary searches over the first level and a cached view of the levels above it.
+ * <p>
+ * Sketches are serializable, so that they can be kept as the base values of incremental aggregations, and start
+ * small, so that a sketch of a single value is cheap to create. Copies share the levels and the sorted view of the
+ * sketch they are taken from, and each sketch copies a shared level before changing it, hence a copy costs little
+ * more than the levels changed afterwards, which mostly is the small first level.
+ */
+public class KllSketch implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String K = "K";
+    private static final String COUNT = "COUNT";
+    private static final String LEVELS = "LEVELS";
+
+    private static final int MIN_K = 8;
+    private static final int MAX_K = 65535;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+    private static final double CAPACITY_RATIO = 2.0 / 3;
+
+    private final int k;
+
+    private double[][] levels;
+    private int[] levelSizes;
+    private int numLevels;
+    private int capacity;
+    private int retained;
+    private long count;
+    private int seed = 0x2545F491;
+    // levels whose arrays may be shared with a copy, hence are copied before being changed, one bit per level
+    private transient long sharedLevels;
+
+    // sorted view over the levels above the first one, which only change on compaction, with the cumulative
+    // weight up to and including each value
+    private transient double[] upperValues;
+    private transient long[] upperWeights;
+    private transient int upperSize;
+    private transient boolean upperViewValid;
+    // whether the arrays of the upper view may be shared with a copy, hence are not reused when it is rebuilt
+    private transient boolean upperViewShared;
+
+    // scratch space used while building the upper view
+    private transient double[] scratchValues;
+    private transient long[] scratchWeights;
+
+    public KllSketch(int k) {
+        if (k < MIN_K || k > MAX_K) {
+            throw new IllegalArgumentException("K should be in " + MIN_K + " <= k <= " + MAX_K + " range, " +
+                                                       "but found " + k);
+        }
+        this.k = k;
+        this.levels = new double[][]{new double[MIN_LEVEL_CAPACITY]};
+        this.levelSizes = new int[1];
+        this.numLevels = 1;
+        this.capacity = levelCapacity(0);
+    }
+
+    /**
+     * Returns the smallest k whose normalized rank error is at most the given epsilon, using the error bound
+     * measured for KLL sketches, epsilon = 2.296 / k^0.9723.
+     *
+     * @param epsilon normalized rank error, in 0 < epsilon < 1 range
+     * @return k for the sketch
+     */
+    public static int kForEpsilon(double epsilon) {
+        double k = Math.ceil(Math.pow(2.296 / epsilon, 1 / 0.9723));
+        return (int) Math.max(MIN_K, Math.min(MAX_K, k));
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * @return number of values added to the sketch
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return number of values physically retained by the sketch
+     */
+    public int getRetained() {
+        return retained;
+    }
+
+    public void update(double value) {
+        if (retained >= capacity) {
+            compress();
+        }
+        double[] level = ensureLevelCapacity(0, levelSizes[0] + 1);
+        int size = levelSizes[0];
+        int insertIndex = upperBound(level, size, value);
+        System.arraycopy(level, insertIndex, level, insertIndex + 1, size - insertIndex);
+        level[insertIndex] = value;
+        levelSizes[0]++;
+        retained++;
+        count++;
+    }
+
+    /**
+     * Merges the values summarised by the other sketch into this one. The other sketch is left unchanged.
+     *
+     * @param other sketch to merge
+     */
+    public void merge(KllSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        while (numLevels < other.numLevels) {
+            addLevel();
+        }
+        for (int h = 0; h < other.numLevels; h++) {
+            mergeIntoLevel(h, other.levels[h], 0, 1, other.levelSizes[h]);
+        }
+        retained += other.retained;
+        count += other.count;
+        while (retained > capacity) {
+            compress();
+        }
+        upperViewValid = false;
+    }
+
+    /**
+     * Estimates the number of added values which are less than or equal to the given value.
+     *
+     * @param value value to rank
+     * @return estimated rank
+     */
+    public long rank(double value) {
+        buildUpperView();
+        int index = upperBound(upperValues, upperSize, value);
+        return upperBound(levels[0], levelSizes[0], value) + (index == 0 ? 0 : upperWeights[index - 1]);
+    }
+
+    /**
+     * Estimates the value at the given quantile, which is the smallest retained value whose estimated rank is at
+     * least {@code q * n}.
+     *
+     * @param q quantile, in 0 <= q <= 1 range
+     * @return estimated value, NaN when the sketch is empty
+     */
+    public double quantile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return search(Math.max(1, (long) Math.ceil(q * count)), null);
+    }
+
+    /**
+     * Finds the smallest retained value whose estimated rank, less its estimated rank in the subtracted sketch,
+     * reaches the target. As both ranks are estimates, the difference need not grow with the value, in which case
+     * the result is approximate as well.
+     *
+     * @param target     rank to reach
+     * @param subtracted sketch of the values to discount, or null
+     * @return the value, or the largest retained value when the target is never reached
+     */
+    double search(long target, KllSketch subtracted) {
+        buildUpperView();
+        double[] firstLevel = levels[0];
+        int firstLevelSize = levelSizes[0];
+        int firstIndex = search(firstLevel, firstLevelSize, target, subtracted);
+        int upperIndex = search(upperValues, upperSize, target, subtracted);
+        if (firstIndex < firstLevelSize
+                && (upperIndex == upperSize || firstLevel[firstIndex] < upperValues[upperIndex])) {
+            return firstLevel[firstIndex];
+        }
+        if (upperIndex < upperSize) {
+            return upperValues[upperIndex];
+        }
+        if (upperSize == 0) {
+            return firstLevel[firstLevelSize - 1];
+        }
+        if (firstLevelSize == 0) {
+            return upperValues[upperSize - 1];
+        }
+        return Math.max(firstLevel[firstLevelSize - 1], upperValues[upperSize - 1]);
+    }
+
+    private int search(double[] values, int size, long target, KllSketch subtracted) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long rank = rank(values[mid]);
+            if (subtracted != null) {
+                rank -= subtracted.rank(values[mid]);
+            }
+            if (rank < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public void clear() {
+        Arrays.fill(levelSizes, 0);
+        numLevels = 1;
+        capacity = levelCapacity(0);
+        retained = 0;
+        count = 0;
+        upperViewValid = false;
+    }
+
+    public Map<String, Object> snapshot() {
+        double[][] retainedLevels = new double[numLevels][];
+        for (int h = 0; h < numLevels; h++) {
+            retainedLevels[h] = Arrays.copyOf(levels[h], levelSizes[h]);
+        }
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put(K, k);
+        snapshot.put(COUNT, count);
+        snapshot.put(LEVELS, retainedLevels);
+        return snapshot;
+    }
+
+    public void restore(Map<String, Object> snapshot) {
+        clear();
+        double[][] restoredLevels = (double[][]) snapshot.get(LEVELS);
+        if (restoredLevels == null) {
+            return;
+        }
+        while (numLevels < restoredLevels.length) {
+            addLevel();
+        }
+        for (int h = 0; h < restoredLevels.length; h++) {
+            double[] level = ensureLevelCapacity(h, restoredLevels[h].length);
+            System.arraycopy(restoredLevels[h], 0, level, 0, restoredLevels[h].length);
+            levelSizes[h] = restoredLevels[h].length;
+            retained += levelSizes[h];
+        }
+        count = (Long) snapshot.get(COUNT);
+        while (retained > capacity) {
+            compress();
+        }
+    }
+
+    /**
+     * Returns a copy of the sketch whose sorted view is already built, hence the copy can be read from several
+     * threads as long as nothing is added to it. The copy shares the levels of this sketch, which either sketch
+     * copies before changing them, hence it costs the number of levels rather than the number of retained values.
+     *
+     * @return copy of the sketch
+     */
+    public KllSketch copy() {
+        buildUpperView();
+        KllSketch copy = new KllSketch(k);
+        copy.levels = Arrays.copyOf(levels, numLevels);
+        copy.levelSizes = Arrays.copyOf(levelSizes, numLevels);
+        copy.numLevels = numLevels;
+        copy.capacity = capacity;
+        copy.retained = retained;
+        copy.count = count;
+        copy.seed = seed;
+        copy.upperValues = upperValues;
+        copy.upperWeights = upperWeights;
+        copy.upperSize = upperSize;
+        copy.upperViewValid = true;
+        copy.sharedLevels = -1L;
+        copy.upperViewShared = true;
+        sharedLevels = -1L;
+        upperViewShared = true;
+        return copy;
+    }
+
+    /**
+     * Creates a sketch from a snapshot returned by {@link #snapshot()}, keeping the k it was taken with.
+     *
+     * @param snapshot snapshot of a sketch
+     * @return restored sketch
+     */
+    public static KllSketch fromSnapshot(Map<String, Object> snapshot) {
+        KllSketch sketch = new KllSketch((Integer) snapshot.get(K));
+        sketch.restore(snapshot);
+        return sketch;
+    }
+
+    /**
+     * Compacts the lowest level which has reached its capacity. There is always one, as the sum of the level
+     * capacities has been reached.
+     */
+    private void compress() {
+        for (int h = 0; h < numLevels; h++) {
+            if (levelSizes[h] >= levelCapacity(h)) {
+                compactLevel(h);
+                return;
+            }
+        }
+    }
+
+    private void compactLevel(int h) {
+        if (h == numLevels - 1) {
+            addLevel();
+        }
+        int size = levelSizes[h];
+        // an odd value out stays at this level, hence the weight of the sketch is preserved
+        int kept = size & 1;
+        int offset = kept + nextBit();
+        int promoted = (size - kept) / 2;
+        mergeIntoLevel(h + 1, levels[h], offset, 2, promoted);
+        levelSizes[h] = kept;
+        retained -= size - kept - promoted;
+        upperViewValid = false;
+    }
+
+    /**
+     * Merges count values of the source, read from the offset with the given stride, into the sorted level.
+     */
+    private void mergeIntoLevel(int h, double[] source, int offset, int stride, int sourceCount) {
+        int size = levelSizes[h];
+        double[] level = ensureLevelCapacity(h, size + sourceCount);
+        int i = size - 1;
+        int j = sourceCount - 1;
+        int write = size + sourceCount - 1;
+        while (j >= 0) {
+            double value = source[offset + j * stride];
+            if (i >= 0 && level[i] > value) {
+                level[write--] = level[i--];
+            } else {
+                level[write--] = value;
+                j--;
+            }
+        }
+        levelSizes[h] = size + sourceCount;
+    }
+
+    private void addLevel() {
+        if (numLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numLevels * 2);
+            levelSizes = Arrays.copyOf(levelSizes, numLevels * 2);
+        }
+        if (levels[numLevels] == null) {
+            levels[numLevels] = new double[MIN_LEVEL_CAPACITY];
+        }
+        levelSizes[numLevels] = 0;
+        numLevels++;
+        capacity = 0;
+        for (int h = 0; h < numLevels; h++) {
+            capacity += levelCapacity(h);
+        }
+    }
+
+    private int levelCapacity(int h) {
+        int depth = numLevels - 1 - h;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)));
+    }
+
+    /**
+     * @return the array of the level, to be changed, which is not shared with a copy and holds at least the given
+     * number of values
+     */
+    private double[] ensureLevelCapacity(int h, int minCapacity) {
+        double[] level = levels[h];
+        long levelBit = 1L << h;
+        if (level.length < minCapacity) {
+            level = Arrays.copyOf(level, Math.max(level.length + (level.length >> 1), minCapacity));
+            levels[h] = level;
+        } else if ((sharedLevels & levelBit) != 0) {
+            level = level.clone();
+            levels[h] = level;
+        }
+        sharedLevels &= ~levelBit;
+        return level;
+    }
+
+    /**
+     * Merges the sorted levels above the first one into a single sorted view, weighting the values of level h by
+     * 2^h.
+     */
+    private void buildUpperView() {
+        if (upperViewValid) {
+            return;
+        }
+        if (upperViewShared || upperValues == null || upperValues.length < retained) {
+            upperValues = new double[retained];
+            upperWeights = new long[retained];
+            scratchValues = new double[retained];
+            scratchWeights = new long[retained];
+            upperViewShared = false;
+        }
+        int viewSize = 0;
+        for (int h = 1; h < numLevels; h++) {
+            int levelSize = levelSizes[h];
+            if (levelSize == 0) {
+                continue;
+            }
+            double[] level = levels[h];
+            long weight = 1L << h;
+            int i = 0;
+            int j = 0;
+            int write = 0;
+            while (i < viewSize || j < levelSize) {
+                if (j == levelSize || (i < viewSize && upperValues[i] <= level[j])) {
+                    scratchValues[write] = upperValues[i];
+                    scratchWeights[write++] = upperWeights[i++];
+                } else {
+                    scratchValues[write] = level[j++];
+                    scratchWeights[write++] = weight;
+                }
+            }
+            double[] swapValues = upperValues;
+            upperValues = scratchValues;
+            scratchValues = swapValues;
+            long[] swapWeights = upperWeights;
+            upperWeights = scratchWeights;
+            scratchWeights = swapWeights;
+            viewSize = write;
+        }
+        for (int i = 1; i < viewSize; i++) {
+            upperWeights[i] += upperWeights[i - 1];
+        }
+        upperSize = viewSize;
+        upperViewValid = true;
+    }
+
+    private int nextBit() {
+        // xorshift, the offsets only need to be unbiased, not unpredictable
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed & 1;
+    }
+
+    /**
+     * Index of the first of the size values which is greater than the value.
+     */
+    private static int upperBound(double[] values, int size, double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
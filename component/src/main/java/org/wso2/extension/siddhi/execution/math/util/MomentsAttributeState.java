@@ -0,0 +1,201 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.core.util.snapshot.state.State;
+import io.siddhi.query.api.definition.Attribute;
+
+import java.util.Map;
+
+/**
+ * State of the aggregators of the moments of the values, implemented for each type of the values, such that the
+ * type is resolved once when the state is created rather than for each event.
+ */
+public abstract class MomentsAttributeState extends State {
+
+    protected final WelfordMoments moments;
+    private final MomentsStatistic statistic;
+    private final boolean sample;
+    private final boolean outputExpectsExpiredEvents;
+    private Object lastValue;
+
+    protected MomentsAttributeState(MomentsStatistic statistic, boolean sample, boolean outputExpectsExpiredEvents) {
+        this.moments = new WelfordMoments(statistic.needsHigherMoments());
+        this.statistic = statistic;
+        this.sample = sample;
+        this.outputExpectsExpiredEvents = outputExpectsExpiredEvents;
+        this.lastValue = statistic.valueOf(moments, sample);
+    }
+
+    /**
+     * @param type                       type of the values, which should be numeric
+     * @param statistic                  statistic returned by the state
+     * @param sample                     whether the sample rather than the population variance is used
+     * @param outputExpectsExpiredEvents whether the statistic is emitted when values are removed
+     * @return state of the values of the type
+     */
+    public static MomentsAttributeState create(Attribute.Type type, MomentsStatistic statistic, boolean sample,
+                                               boolean outputExpectsExpiredEvents) {
+        switch (type) {
+            case INT:
+                return new IntMomentsAttributeState(statistic, sample, outputExpectsExpiredEvents);
+            case LONG:
+                return new LongMomentsAttributeState(statistic, sample, outputExpectsExpiredEvents);
+            case FLOAT:
+                return new FloatMomentsAttributeState(statistic, sample, outputExpectsExpiredEvents);
+            case DOUBLE:
+                return new DoubleMomentsAttributeState(statistic, sample, outputExpectsExpiredEvents);
+            default:
+                throw new IllegalArgumentException("Moments are not supported for values of type " + type);
+        }
+    }
+
+    public abstract Object processAdd(Object data);
+
+    public abstract Object processRemove(Object obj);
+
+    protected Object added() {
+        lastValue = statistic.valueOf(moments, sample);
+        return lastValue;
+    }
+
+    protected Object removed() {
+        if (outputExpectsExpiredEvents) {
+            return added();
+        }
+        // the statistic of an expired event is never emitted, hence it is computed only once a value is added
+        return lastValue;
+    }
+
+    public Object reset() {
+        moments.clear();
+        return added();
+    }
+
+    public Object currentValue() {
+        return statistic.valueOf(moments, sample);
+    }
+
+    @Override
+    public boolean canDestroy() {
+        return moments.isEmpty();
+    }
+
+    @Override
+    public Map<String, Object> snapshot() {
+        return moments.snapshot();
+    }
+
+    @Override
+    public void restore(Map<String, Object> state) {
+        moments.restore(state);
+    }
+
+    /**
+     * State of int values.
+     */
+    private static final class IntMomentsAttributeState extends MomentsAttributeState {
+
+        private IntMomentsAttributeState(MomentsStatistic statistic, boolean sample,
+                                         boolean outputExpectsExpiredEvents) {
+            super(statistic, sample, outputExpectsExpiredEvents);
+        }
+
+        @Override
+        public Object processAdd(Object data) {
+            moments.add((Integer) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            moments.remove((Integer) obj);
+            return removed();
+        }
+    }
+
+    /**
+     * State of long values.
+     */
+    private static final class LongMomentsAttributeState extends MomentsAttributeState {
+
+        private LongMomentsAttributeState(MomentsStatistic statistic, boolean sample,
+                                          boolean outputExpectsExpiredEvents) {
+            super(statistic, sample, outputExpectsExpiredEvents);
+        }
+
+        @Override
+        public Object processAdd(Object data) {
+            moments.add((Long) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            moments.remove((Long) obj);
+            return removed();
+        }
+    }
+
+    /**
+     * State of float values.
+     */
+    private static final class FloatMomentsAttributeState extends MomentsAttributeState {
+
+        private FloatMomentsAttributeState(MomentsStatistic statistic, boolean sample,
+                                           boolean outputExpectsExpiredEvents) {
+            super(statistic, sample, outputExpectsExpiredEvents);
+        }
+
+        @Override
+        public Object processAdd(Object data) {
+            moments.add((Float) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            moments.remove((Float) obj);
+            return removed();
+        }
+    }
+
+    /**
+     * State of double values.
+     */
+    private static final class DoubleMomentsAttributeState extends MomentsAttributeState {
+
+        private DoubleMomentsAttributeState(MomentsStatistic statistic, boolean sample,
+                                            boolean outputExpectsExpiredEvents) {
+            super(statistic, sample, outputExpectsExpiredEvents);
+        }
+
+        @Override
+        public Object processAdd(Object data) {
+            moments.add((Double) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            moments.remove((Double) obj);
+            return removed();
+        }
+    }
+}
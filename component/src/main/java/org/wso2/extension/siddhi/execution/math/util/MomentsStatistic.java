@@ -0,0 +1,63 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+/**
+ * Statistics returned by the aggregators of the moments of the values, computed from their {@link WelfordMoments}.
+ * Like {@link DoubleConverter}, the statistic is computed by a switch over the constants of this enum, so that the
+ * states shared by the aggregators do not make the call megamorphic.
+ */
+public enum MomentsStatistic {
+
+    VARIANCE, STANDARD_DEVIATION, STATS, SKEWNESS, KURTOSIS;
+
+    /**
+     * @return whether the statistic needs the third and fourth moments of the values
+     */
+    public boolean needsHigherMoments() {
+        return this == SKEWNESS || this == KURTOSIS;
+    }
+
+    /**
+     * @param moments moments of the values
+     * @param sample  whether the sample rather than the population variance is used
+     * @return the statistic, where a variance or a standard deviation of too few values is null, as is the
+     * skewness or the kurtosis of too few or equal values, and the statistics are a double array holding the count,
+     * mean, variance and standard deviation of the values
+     */
+    public Object valueOf(WelfordMoments moments, boolean sample) {
+        switch (this) {
+            case VARIANCE:
+                return moments.count() > (sample ? 1 : 0) ? moments.variance(sample) : null;
+            case STANDARD_DEVIATION:
+                return moments.count() > (sample ? 1 : 0) ? Math.sqrt(moments.variance(sample)) : null;
+            case SKEWNESS:
+                return nullIfUndefined(moments.skewness(sample));
+            case KURTOSIS:
+                return nullIfUndefined(moments.kurtosis(sample));
+            default:
+                double variance = moments.variance(sample);
+                return new double[]{moments.count(), moments.mean(), variance, Math.sqrt(variance)};
+        }
+    }
+
+    private static Double nullIfUndefined(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+
+/**
+ * Order statistic tree of primitive doubles, implemented as a treap whose nodes are kept in parallel arrays.
+ * Each node holds a distinct value with its occurrence count and the number of values in its subtree, so that
+ * add, remove and rank lookups are all O(log n) expected, instead of the O(n) element shifting of
+ * {@link SortedDoubleArray}. This pays off for windows holding a large number of events.
+ */
+public class OrderStatisticTree extends ExactPercentileStore {
+
+    private static final int NIL = 0;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // Node 0 is a sentinel with zero subtree size, hence the arrays are indexed from 1.
+    private double[] keys;
+    private int[] counts;
+    private int[] subtreeSizes;
+    private int[] priorities;
+    private int[] left;
+    private int[] right;
+
+    private int root = NIL;
+    private int nodeCount;
+    private int freeList = NIL;
+    private int seed = 0x2545F491;
+
+    public OrderStatisticTree() {
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public void add(double value) {
+        root = insert(root, value);
+    }
+
+    @Override
+    public boolean remove(double value) {
+        int node = root;
+        while (node != NIL) {
+            int comparison = Double.compare(value, keys[node]);
+            if (comparison == 0) {
+                break;
+            }
+            node = comparison < 0 ? left[node] : right[node];
+        }
+        if (node == NIL) {
+            return false;
+        }
+        root = delete(root, value);
+        return true;
+    }
+
+    @Override
+    public double get(int index) {
+        if (index < 0 || index >= subtreeSizes[root]) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + subtreeSizes[root]);
+        }
+        int node = root;
+        while (true) {
+            int leftSize = subtreeSizes[left[node]];
+            if (index < leftSize) {
+                node = left[node];
+            } else if (index < leftSize + counts[node]) {
+                return keys[node];
+            } else {
+                index -= leftSize + counts[node];
+                node = right[node];
+            }
+        }
+    }
+
+    @Override
+    public long size() {
+        return subtreeSizes[root];
+    }
+
+    @Override
+    public void clear() {
+        root = NIL;
+        nodeCount = 0;
+        freeList = NIL;
+    }
+
+    @Override
+    public double[] toArray() {
+        double[] result = new double[subtreeSizes[root]];
+        int[] stack = new int[16];
+        int stackSize = 0;
+        int position = 0;
+        int node = root;
+        while (node != NIL || stackSize > 0) {
+            while (node != NIL) {
+                if (stackSize == stack.length) {
+                    stack = Arrays.copyOf(stack, stackSize * 2);
+                }
+                stack[stackSize++] = node;
+                node = left[node];
+            }
+            node = stack[--stackSize];
+            Arrays.fill(result, position, position + counts[node], keys[node]);
+            position += counts[node];
+            node = right[node];
+        }
+        return result;
+    }
+
+    @Override
+    public void setAll(double[] values) {
+        clear();
+        for (double value : values) {
+            add(value);
+        }
+    }
+
+    private int insert(int node, double value) {
+        if (node == NIL) {
+            return newNode(value);
+        }
+        int comparison = Double.compare(value, keys[node]);
+        if (comparison == 0) {
+            counts[node]++;
+        } else if (comparison < 0) {
+            // The child is resolved before the assignment, as the insertion may reallocate the node arrays.
+            int child = insert(left[node], value);
+            left[node] = child;
+            if (priorities[child] > priorities[node]) {
+                node = rotateRight(node);
+            }
+        } else {
+            int child = insert(right[node], value);
+            right[node] = child;
+            if (priorities[child] > priorities[node]) {
+                node = rotateLeft(node);
+            }
+        }
+        subtreeSizes[node]++;
+        return node;
+    }
+
+    /**
+     * Removes one occurrence of a value which is known to be present in the subtree.
+     */
+    private int delete(int node, double value) {
+        int comparison = Double.compare(value, keys[node]);
+        if (comparison < 0) {
+            left[node] = delete(left[node], value);
+        } else if (comparison > 0) {
+            right[node] = delete(right[node], value);
+        } else if (counts[node] > 1) {
+            counts[node]--;
+        } else if (left[node] == NIL || right[node] == NIL) {
+            int child = left[node] == NIL ? right[node] : left[node];
+            freeNode(node);
+            return child;
+        } else {
+            // Rotate the node down towards the child with the higher priority and retry from there.
+            if (priorities[left[node]] > priorities[right[node]]) {
+                node = rotateRight(node);
+                right[node] = delete(right[node], value);
+            } else {
+                node = rotateLeft(node);
+                left[node] = delete(left[node], value);
+            }
+        }
+        subtreeSizes[node]--;
+        return node;
+    }
+
+    private int rotateRight(int node) {
+        int pivot = left[node];
+        left[node] = right[pivot];
+        right[pivot] = node;
+        subtreeSizes[pivot] = subtreeSizes[node];
+        updateSize(node);
+        return pivot;
+    }
+
+    private int rotateLeft(int node) {
+        int pivot = right[node];
+        right[node] = left[pivot];
+        left[pivot] = node;
+        subtreeSizes[pivot] = subtreeSizes[node];
+        updateSize(node);
+        return pivot;
+    }
+
+    private void updateSize(int node) {
+        subtreeSizes[node] = subtreeSizes[left[node]] + subtreeSizes[right[node]] + counts[node];
+    }
+
+    private int newNode(double value) {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = left[node];
+        } else {
+            node = ++nodeCount;
+            if (node == keys.length) {
+                allocate(keys.length + (keys.length >> 1));
+            }
+        }
+        keys[node] = value;
+        counts[node] = 1;
+        subtreeSizes[node] = 1;
+        priorities[node] = nextPriority();
+        left[node] = NIL;
+        right[node] = NIL;
+        return node;
+    }
+
+    private void freeNode(int node) {
+        left[node] = freeList;
+        freeList = node;
+    }
+
+    private int nextPriority() {
+        // xorshift, priorities only need to be well spread, not unpredictable
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+        return seed;
+    }
+
+    private void allocate(int capacity) {
+        if (keys == null) {
+            keys = new double[capacity];
+            counts = new int[capacity];
+            subtreeSizes = new int[capacity];
+            priorities = new int[capacity];
+            left = new int[capacity];
+            right = new int[capacity];
+        } else {
+            keys = Arrays.copyOf(keys, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            subtreeSizes = Arrays.copyOf(subtreeSizes, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+        }
+    }
+}
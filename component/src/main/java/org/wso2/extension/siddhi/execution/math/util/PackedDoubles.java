@@ -0,0 +1,139 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+
+/**
+ * Compact binary encoding of sorted doubles, used by the snapshots of the percentile stores.
+ * <p>
+ * Each value is written as the difference from the previous one, in a variable length encoding which spends one
+ * byte per seven bits of the difference. When all values are whole numbers, as with int and long attributes, the
+ * differences are taken between the numbers themselves, so a window of close values costs one or two bytes per
+ * value. Otherwise they are taken between the bits of the values, ordered such that their order matches the order
+ * of the values, which still collapses duplicates to a single byte.
+ */
+public final class PackedDoubles {
+
+    private static final byte WHOLE_NUMBERS = 0;
+    private static final byte DOUBLE_BITS = 1;
+
+    private PackedDoubles() {
+    }
+
+    /**
+     * @param sorted values in ascending order
+     * @return encoded values
+     */
+    public static byte[] encode(double[] sorted) {
+        boolean wholeNumbers = true;
+        for (double value : sorted) {
+            if (!isWholeNumber(value)) {
+                wholeNumbers = false;
+                break;
+            }
+        }
+        // a difference takes up to ten bytes, next to the mode byte and the count
+        Writer writer = new Writer(11 + sorted.length * 10);
+        writer.bytes[writer.position++] = wholeNumbers ? WHOLE_NUMBERS : DOUBLE_BITS;
+        writer.writeVarLong(sorted.length);
+        long previous = 0;
+        for (double value : sorted) {
+            long key = wholeNumbers ? (long) value : sortableBits(value);
+            // the differences of sorted keys are non negative, hence they are written unsigned even on overflow
+            writer.writeVarLong(key - previous);
+            previous = key;
+        }
+        return Arrays.copyOf(writer.bytes, writer.position);
+    }
+
+    /**
+     * @param encoded values returned by {@link #encode(double[])}
+     * @return values in ascending order
+     */
+    public static double[] decode(byte[] encoded) {
+        Reader reader = new Reader(encoded);
+        boolean wholeNumbers = encoded[reader.position++] == WHOLE_NUMBERS;
+        double[] values = new double[(int) reader.readVarLong()];
+        long key = 0;
+        for (int i = 0; i < values.length; i++) {
+            key += reader.readVarLong();
+            values[i] = wholeNumbers ? (double) key : fromSortableBits(key);
+        }
+        return values;
+    }
+
+    private static boolean isWholeNumber(double value) {
+        // -0.0 is excluded as it would be restored as 0.0
+        return value >= Long.MIN_VALUE && value < Long.MAX_VALUE && value == (long) value
+                && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0);
+    }
+
+    /**
+     * Maps the bits of a double to a long whose unsigned order matches {@link Double#compare(double, double)}.
+     */
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits < 0 ? ~bits : bits | Long.MIN_VALUE;
+    }
+
+    private static double fromSortableBits(long key) {
+        return Double.longBitsToDouble(key < 0 ? key & Long.MAX_VALUE : ~key);
+    }
+
+    private static final class Writer {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Writer(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                bytes[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[position++] = (byte) value;
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
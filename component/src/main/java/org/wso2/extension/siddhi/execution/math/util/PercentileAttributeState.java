@@ -31,4 +31,9 @@ public abstract class PercentileAttributeState extends State {
     public abstract Object reset();
 
     public abstract Object currentValue();
+
+    /**
+     * @return number of values summarised by this state, which is the number of values held by the exact stores
+     */
+    public abstract long size();
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.query.api.definition.Attribute;
+
+import java.util.Locale;
+
+/**
+ * Percentile modes, naming the {@link PercentileStore} used to keep the values of the percentile aggregators.
+ */
+public enum PercentileMode {
+
+    ARRAY("array", false, 0) {
+        @Override
+        public PercentileStore newStore(double precision) {
+            return new SortedDoubleArray();
+        }
+    },
+    TREE("tree", false, 0) {
+        @Override
+        public PercentileStore newStore(double precision) {
+            return new OrderStatisticTree();
+        }
+    },
+    FREQUENCY("frequency", false, 0) {
+        @Override
+        public PercentileStore newStore(double precision) {
+            return new FrequencyTable();
+        }
+    },
+    TDIGEST("tdigest", true, 100) {
+        @Override
+        public PercentileStore newStore(double precision) {
+            return new TDigest(precision);
+        }
+    },
+    HDR("hdr", true, 3) {
+        @Override
+        public PercentileStore newStore(double precision) {
+            if (precision % 1 != 0) {
+                throw new IllegalArgumentException("Significant digits should be a whole number, but found "
+                                                           + precision);
+            }
+            return new HdrHistogram((int) precision);
+        }
+
+        @Override
+        public boolean supports(Attribute.Type type) {
+            return type == Attribute.Type.INT || type == Attribute.Type.LONG;
+        }
+    };
+
+    private final String modeName;
+    private final boolean precisionSupported;
+    private final double defaultPrecision;
+
+    PercentileMode(String modeName, boolean precisionSupported, double defaultPrecision) {
+        this.modeName = modeName;
+        this.precisionSupported = precisionSupported;
+        this.defaultPrecision = defaultPrecision;
+    }
+
+    /**
+     * Creates an empty store for the mode.
+     *
+     * @param precision precision of the approximating stores, ignored by the exact ones
+     * @return new store
+     * @throws IllegalArgumentException if the precision is not valid for the mode
+     */
+    public abstract PercentileStore newStore(double precision);
+
+    public PercentileStore newStore() {
+        return newStore(defaultPrecision);
+    }
+
+    /**
+     * @param type type of the values to keep
+     * @return true if the stores of the mode can keep values of the type
+     */
+    public boolean supports(Attribute.Type type) {
+        return true;
+    }
+
+    public String getModeName() {
+        return modeName;
+    }
+
+    public boolean isPrecisionSupported() {
+        return precisionSupported;
+    }
+
+    public double getDefaultPrecision() {
+        return defaultPrecision;
+    }
+
+    /**
+     * Looks a mode up by its name, ignoring the case.
+     *
+     * @param modeName name given in the query
+     * @return the mode, or null if there is no such mode
+     */
+    public static PercentileMode fromName(String modeName) {
+        String name = modeName.toLowerCase(Locale.ENGLISH);
+        for (PercentileMode mode : values()) {
+            if (mode.modeName.equals(name)) {
+                return mode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return names of all the modes, quoted and separated for error messages
+     */
+    public static String modeNames() {
+        StringBuilder names = new StringBuilder();
+        PercentileMode[] modes = values();
+        for (int i = 0; i < modes.length; i++) {
+            if (i > 0) {
+                names.append(i == modes.length - 1 ? " or " : ", ");
+            }
+            names.append('\'').append(modes[i].modeName).append('\'');
+        }
+        return names.toString();
+    }
+}
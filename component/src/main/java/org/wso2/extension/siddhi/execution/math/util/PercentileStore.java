@@ -0,0 +1,87 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Map;
+
+/**
+ * Storage of the values seen by a percentile attribute state.
+ */
+public abstract class PercentileStore {
+
+    /**
+     * Adds a value to the store.
+     *
+     * @param value new value
+     */
+    public abstract void add(double value);
+
+    /**
+     * Removes a single occurrence of the given value from the store.
+     *
+     * @param value expired value
+     * @return true if the value was found and removed
+     */
+    public abstract boolean remove(double value);
+
+    /**
+     * Returns the pth percentile of the stored values.
+     *
+     * @param percentile percentile (p), where 0 < p <= 100
+     * @return pth percentile value
+     */
+    public abstract double percentile(double percentile);
+
+    /**
+     * Returns several percentiles of the stored values at once.
+     *
+     * @param percentiles percentiles, where 0 < p <= 100 for each
+     * @return the percentile values, in the order of the given percentiles
+     */
+    public double[] percentiles(double[] percentiles) {
+        double[] values = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            values[i] = percentile(percentiles[i]);
+        }
+        return values;
+    }
+
+    /**
+     * @return number of values held by the store
+     */
+    public abstract long size();
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public abstract void clear();
+
+    /**
+     * @return snapshot of the stored values, used as the snapshot of the owning state
+     */
+    public abstract Map<String, Object> snapshot();
+
+    /**
+     * Replaces the stored values with the ones in the given snapshot.
+     *
+     * @param snapshot snapshot returned by {@link #snapshot()}
+     */
+    public abstract void restore(Map<String, Object> snapshot);
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.query.api.definition.Attribute;
+
+import java.util.Map;
+
+/**
+ * State of the aggregators of the percentiles of the values kept by a percentile store, implemented for each type
+ * of the values, such that the type is resolved once when the state is created rather than for each event.
+ */
+public abstract class PercentileStoreAttributeState extends PercentileAttributeState {
+
+    protected final PercentileStore store;
+    private final double[] percentileValues;
+    private final boolean arrayOutput;
+    private final boolean outputExpectsExpiredEvents;
+    private Object lastValue;
+
+    protected PercentileStoreAttributeState(PercentileStore store, double[] percentileValues, boolean arrayOutput,
+                                            boolean outputExpectsExpiredEvents) {
+        this.store = store;
+        this.percentileValues = percentileValues;
+        this.arrayOutput = arrayOutput;
+        this.outputExpectsExpiredEvents = outputExpectsExpiredEvents;
+        this.lastValue = emptyValue();
+    }
+
+    /**
+     * @param type                       type of the values, which should be numeric
+     * @param store                      store of the values
+     * @param percentileValues           percentiles returned by the state
+     * @param arrayOutput                whether the percentiles are returned as a double array, rather than the
+     *                                   single percentile as a double
+     * @param outputExpectsExpiredEvents whether the percentiles are emitted when values are removed
+     * @return state of the values of the type
+     */
+    public static PercentileStoreAttributeState create(Attribute.Type type, PercentileStore store,
+                                                       double[] percentileValues, boolean arrayOutput,
+                                                       boolean outputExpectsExpiredEvents) {
+        switch (type) {
+            case INT:
+                return new IntPercentileStoreAttributeState(store, percentileValues, arrayOutput,
+                                                            outputExpectsExpiredEvents);
+            case LONG:
+                return new LongPercentileStoreAttributeState(store, percentileValues, arrayOutput,
+                                                             outputExpectsExpiredEvents);
+            case FLOAT:
+                return new FloatPercentileStoreAttributeState(store, percentileValues, arrayOutput,
+                                                              outputExpectsExpiredEvents);
+            case DOUBLE:
+                return new DoublePercentileStoreAttributeState(store, percentileValues, arrayOutput,
+                                                               outputExpectsExpiredEvents);
+            default:
+                throw new IllegalArgumentException("Percentiles are not supported for values of type " + type);
+        }
+    }
+
+    protected Object added() {
+        lastValue = currentValue();
+        return lastValue;
+    }
+
+    protected Object removed() {
+        if (outputExpectsExpiredEvents) {
+            return added();
+        }
+        // the percentiles of an expired event are never emitted, hence they are looked up only once a value is added
+        return lastValue;
+    }
+
+    @Override
+    public Object reset() {
+        store.clear();
+        lastValue = emptyValue();
+        return lastValue;
+    }
+
+    @Override
+    public Object currentValue() {
+        return arrayOutput ? store.percentiles(percentileValues) : (Object) store.percentile(percentileValues[0]);
+    }
+
+    private Object emptyValue() {
+        return arrayOutput ? new double[percentileValues.length] : (Object) 0.0;
+    }
+
+    @Override
+    public boolean canDestroy() {
+        return store.isEmpty();
+    }
+
+    @Override
+    public long size() {
+        return store.size();
+    }
+
+    @Override
+    public Map<String, Object> snapshot() {
+        return store.snapshot();
+    }
+
+    @Override
+    public void restore(Map<String, Object> state) {
+        store.restore(state);
+    }
+
+    /**
+     * State of int values.
+     */
+    private static final class IntPercentileStoreAttributeState extends PercentileStoreAttributeState {
+
+        private IntPercentileStoreAttributeState(PercentileStore store, double[] percentileValues,
+                                                 boolean arrayOutput, boolean outputExpectsExpiredEvents) {
+            super(store, percentileValues, arrayOutput, outputExpectsExpiredEvents);
+        }
+
+        @Override
+        public Object processAdd(Object data) {
+            store.add((Integer) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            store.remove((Integer) obj);
+            return removed();
+        }
+    }
+
+    /**
+     * State of long values.
+     */
+    private static final class LongPercentileStoreAttributeState extends PercentileStoreAttributeState {
+
+        private LongPercentileStoreAttributeState(PercentileStore store, double[] percentileValues,
+                                                  boolean arrayOutput, boolean outputExpectsExpiredEvents) {
+            super(store, percentileValues, arrayOutput, outputExpectsExpiredEvents);
+        }
+
+        @Override
+        public Object processAdd(Object data) {
+            store.add((Long) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            store.remove((Long) obj);
+            return removed();
+        }
+    }
+
+    /**
+     * State of float values.
+     */
+    private static final class FloatPercentileStoreAttributeState extends PercentileStoreAttributeState {
+
+        private FloatPercentileStoreAttributeState(PercentileStore store, double[] percentileValues,
+                                                   boolean arrayOutput, boolean outputExpectsExpiredEvents) {
+            super(store, percentileValues, arrayOutput, outputExpectsExpiredEvents);
+        }
+
+        @Override
+        public Object processAdd(Object data) {
+            store.add((Float) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            store.remove((Float) obj);
+            return removed();
+        }
+    }
+
+    /**
+     * State of double values.
+     */
+    private static final class DoublePercentileStoreAttributeState extends PercentileStoreAttributeState {
+
+        private DoublePercentileStoreAttributeState(PercentileStore store, double[] percentileValues,
+                                                    boolean arrayOutput, boolean outputExpectsExpiredEvents) {
+            super(store, percentileValues, arrayOutput, outputExpectsExpiredEvents);
+        }
+
+        @Override
+        public Object processAdd(Object data) {
+            store.add((Double) data);
+            return added();
+        }
+
+        @Override
+        public Object processRemove(Object obj) {
+            store.remove((Double) obj);
+            return removed();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.core.executor.ConstantExpressionExecutor;
+import io.siddhi.core.executor.ExpressionExecutor;
+import io.siddhi.core.util.config.ConfigReader;
+import io.siddhi.query.api.definition.Attribute;
+import io.siddhi.query.api.exception.SiddhiAppValidationException;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The generator of the random numbers of a function, drawing uniform, Gaussian, exponential and Poisson samples
+ * without allocating.
+ * <p>
+ * The generator is chosen by the {@value #CONFIG_NAME} system parameter of the function. With
+ * {@value #SHARED_GENERATOR}, the threads executing the function draw from one {@link Random}. With
+ * {@value #PER_THREAD_GENERATOR}, each thread draws from its own generator: seeded generators are split from a
+ * {@link SplittableRandom} of the seed, in the order in which the threads first draw, and unseeded ones are those
+ * of {@link ThreadLocalRandom}. As that order depends on thread scheduling, seeded numbers are only reproducible
+ * when a single thread executes the function.
+ */
+public final class RandomSource {
+
+    public static final String CONFIG_NAME = "generator";
+    public static final String SHARED_GENERATOR = "shared";
+    public static final String PER_THREAD_GENERATOR = "perThread";
+
+    private static final int ZIGGURAT_LAYERS = 128;
+    // the start of the tail, and the area of each layer, of the ziggurat of 128 layers of Marsaglia and Tsang
+    private static final double ZIGGURAT_TAIL = 3.442619855899;
+    private static final double ZIGGURAT_AREA = 9.91256303526217e-3;
+    private static final double[] ZIGGURAT_X = new double[ZIGGURAT_LAYERS + 1];
+    private static final double[] ZIGGURAT_RATIO = new double[ZIGGURAT_LAYERS];
+
+    private static final double POISSON_INVERSION_LIMIT = 10d;
+    private static final double[] LOG_FACTORIALS = new double[10];
+
+    static {
+        double f = Math.exp(-0.5d * ZIGGURAT_TAIL * ZIGGURAT_TAIL);
+        ZIGGURAT_X[0] = ZIGGURAT_AREA / f;
+        ZIGGURAT_X[1] = ZIGGURAT_TAIL;
+        ZIGGURAT_X[ZIGGURAT_LAYERS] = 0d;
+        for (int i = 2; i < ZIGGURAT_LAYERS; i++) {
+            ZIGGURAT_X[i] = Math.sqrt(-2d * Math.log(ZIGGURAT_AREA / ZIGGURAT_X[i - 1] + f));
+            f = Math.exp(-0.5d * ZIGGURAT_X[i] * ZIGGURAT_X[i]);
+        }
+        for (int i = 0; i < ZIGGURAT_LAYERS; i++) {
+            ZIGGURAT_RATIO[i] = ZIGGURAT_X[i + 1] / ZIGGURAT_X[i];
+        }
+        for (int k = 1; k < LOG_FACTORIALS.length; k++) {
+            LOG_FACTORIALS[k] = LOG_FACTORIALS[k - 1] + Math.log(k);
+        }
+    }
+
+    private final Random random;
+    private final ThreadLocal<SplittableRandom> threadRandom;
+
+    private RandomSource(Random random, ThreadLocal<SplittableRandom> threadRandom) {
+        this.random = random;
+        this.threadRandom = threadRandom;
+    }
+
+    /**
+     * @param configReader config reader of the function
+     * @param seed         constant seed given to the function, or null if it is not seeded
+     * @param functionName name of the function, used in the error message
+     * @return the generator configured for the function
+     */
+    public static RandomSource create(ConfigReader configReader, Long seed, String functionName) {
+        String generator = configReader.readConfig(CONFIG_NAME, SHARED_GENERATOR).trim();
+        if (SHARED_GENERATOR.equalsIgnoreCase(generator)) {
+            return new RandomSource(seed != null ? new Random(seed) : new Random(), null);
+        } else if (PER_THREAD_GENERATOR.equalsIgnoreCase(generator)) {
+            if (seed == null) {
+                return new RandomSource(null, null);
+            }
+            SplittableRandom seedRandom = new SplittableRandom(seed);
+            return new RandomSource(null, ThreadLocal.withInitial(() -> {
+                synchronized (seedRandom) {
+                    return seedRandom.split();
+                }
+            }));
+        }
+        throw new SiddhiAppValidationException("Invalid " + CONFIG_NAME + " '" + generator + "' configured for " +
+                "the math:" + functionName + "() function, required " + SHARED_GENERATOR + " or " +
+                PER_THREAD_GENERATOR);
+    }
+
+    /**
+     * @param executor     executor of the seed argument of a function
+     * @param functionName name of the function, used in the error messages
+     * @return the seed, which should be an int or long constant
+     */
+    public static long readSeed(ExpressionExecutor executor, String functionName) {
+        Attribute.Type type = executor.getReturnType();
+        if (type != Attribute.Type.INT && type != Attribute.Type.LONG) {
+            throw new SiddhiAppValidationException("Invalid parameter type found for the seed argument of math:" +
+                    functionName + "() function, required " + Attribute.Type.INT + " or " + Attribute.Type.LONG +
+                    ", but found " + type.toString());
+        }
+        if (!(executor instanceof ConstantExpressionExecutor)
+                || ((ConstantExpressionExecutor) executor).getValue() == null) {
+            throw new SiddhiAppValidationException("The seed argument of math:" + functionName + "() function " +
+                    "should be a non null constant");
+        }
+        return ((Number) ((ConstantExpressionExecutor) executor).getValue()).longValue();
+    }
+
+    /**
+     * @return a uniform sample from [0, 1)
+     */
+    public double nextDouble() {
+        if (random != null) {
+            return random.nextDouble();
+        } else if (threadRandom != null) {
+            return threadRandom.get().nextDouble();
+        }
+        return ThreadLocalRandom.current().nextDouble();
+    }
+
+    /**
+     * @return a uniform sample of all long values
+     */
+    public long nextLong() {
+        if (random != null) {
+            return random.nextLong();
+        } else if (threadRandom != null) {
+            return threadRandom.get().nextLong();
+        }
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Draws by the ziggurat method of Marsaglia and Tsang, with the improvements of Doornik, which accepts most
+     * samples from the rectangles of the layers after one uniform draw.
+     *
+     * @return a sample of the standard normal distribution
+     */
+    public double nextGaussian() {
+        while (true) {
+            long bits = nextLong();
+            int layer = (int) bits & (ZIGGURAT_LAYERS - 1);
+            // the upper 53 bits, independent of the 7 bits of the layer, as a uniform sample from [-1, 1)
+            double u = 2d * ((bits >>> 11) * 0x1.0p-53) - 1d;
+            if (Math.abs(u) < ZIGGURAT_RATIO[layer]) {
+                return u * ZIGGURAT_X[layer];
+            }
+            if (layer == 0) {
+                return nextGaussianTail(u < 0);
+            }
+            double x = u * ZIGGURAT_X[layer];
+            double f0 = Math.exp(-0.5d * (ZIGGURAT_X[layer] * ZIGGURAT_X[layer] - x * x));
+            double f1 = Math.exp(-0.5d * (ZIGGURAT_X[layer + 1] * ZIGGURAT_X[layer + 1] - x * x));
+            if (f1 + nextDouble() * (f0 - f1) < 1d) {
+                return x;
+            }
+        }
+    }
+
+    private double nextGaussianTail(boolean negative) {
+        double x;
+        double y;
+        do {
+            x = Math.log(nextDouble()) / ZIGGURAT_TAIL;
+            y = Math.log(nextDouble());
+        } while (-2d * y < x * x);
+        return negative ? x - ZIGGURAT_TAIL : ZIGGURAT_TAIL - x;
+    }
+
+    /**
+     * @return a sample of the exponential distribution of rate 1
+     */
+    public double nextExponential() {
+        // 1 - u is within (0, 1], so that the logarithm is finite
+        return -Math.log(1d - nextDouble());
+    }
+
+    /**
+     * Draws by inversion for means below 10, and by the transformed rejection with squeeze (PTRS) of Hormann
+     * otherwise, which takes about two uniform draws whatever the mean.
+     *
+     * @param mean non negative mean of the distribution
+     * @return a sample of the Poisson distribution of the mean
+     */
+    public long nextPoisson(double mean) {
+        if (mean < POISSON_INVERSION_LIMIT) {
+            double limit = Math.exp(-mean);
+            long k = 0;
+            double product = nextDouble();
+            while (product > limit) {
+                k++;
+                product *= nextDouble();
+            }
+            return k;
+        }
+        double sqrtMean = Math.sqrt(mean);
+        double logMean = Math.log(mean);
+        double b = 0.931d + 2.53d * sqrtMean;
+        double a = -0.059d + 0.02483d * b;
+        double logInverseAlpha = Math.log(1.1239d + 1.1328d / (b - 3.4d));
+        double vr = 0.9277d - 3.6224d / (b - 2d);
+        while (true) {
+            double u = nextDouble() - 0.5d;
+            double v = nextDouble();
+            double us = 0.5d - Math.abs(u);
+            double k = Math.floor((2d * a / us + b) * u + mean + 0.43d);
+            if (us >= 0.07d && v <= vr) {
+                return (long) k;
+            }
+            if (k < 0 || (us < 0.013d && v > us)) {
+                continue;
+            }
+            if (Math.log(v) + logInverseAlpha - Math.log(a / (us * us) + b)
+                    <= -mean + k * logMean - logFactorial(k)) {
+                return (long) k;
+            }
+        }
+    }
+
+    private static double logFactorial(double k) {
+        if (k < LOG_FACTORIALS.length) {
+            return LOG_FACTORIALS[(int) k];
+        }
+        // Stirling's series, accurate to 1e-12 from 10 on
+        double inverse = 1d / k;
+        double inverse2 = inverse * inverse;
+        return (k + 0.5d) * Math.log(k) - k + 0.5d * Math.log(2d * Math.PI)
+                + inverse * (1d / 12 - inverse2 * (1d / 360 - inverse2 * (1d / 1260)));
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Uniform sample of up to k values of a stream, kept by Li's Algorithm L.
+ * <p>
+ * Rather than drawing a random number for every value, the sample draws the number of values to skip before the
+ * next one it takes, hence once it is full the values in between cost a single comparison. A stream of n values
+ * replaces about k * ln(n / k) sampled values in total.
+ * <p>
+ * Values removed while they are sampled leave their slot to the next values added, before the skipping resumes.
+ * The sample then leans towards the recent values, as the expired values are not replaced by older ones.
+ * <p>
+ * Values are removed by value, hence an unsampled value may be removed while an equal one is sampled. When the
+ * live values are tracked, the sample counts the values added and not yet removed for each distinct value, and only
+ * drops a sampled value once fewer of its equal values are left than there are in the sample. The slots of each
+ * sampled value are indexed as well, hence removing a value costs a single lookup, whether it is sampled or not.
+ * This costs a lookup for each value added, and memory proportional to the distinct live values, hence it is meant
+ * for sliding windows. Otherwise the sample is a plain array, searched by the rare removals.
+ */
+public final class ReservoirSample {
+
+    private static final String VALUES = "VALUES";
+    private static final String COUNT = "COUNT";
+    private static final String NEXT_INDEX = "NEXT_INDEX";
+    private static final String WEIGHT = "WEIGHT";
+    private static final String SEED = "SEED";
+    private static final String LIVE_VALUES = "LIVE_VALUES";
+    private static final String LIVE_COUNTS = "LIVE_COUNTS";
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int k;
+    private final boolean trackLive;
+    // live count and sampled slots of each distinct value, only kept when the live values are tracked
+    private final Map<Double, Entry> entries;
+    private double[] values;
+    // position of each slot among the slots of the entry of its value, only kept when the live values are tracked
+    private int[] slotPositions;
+    private int size;
+    private long count;
+    private long nextIndex;
+    private double weight;
+    private SplittableRandom random;
+
+    /**
+     * @param k      maximum number of values in the sample
+     * @param random generator of the skips and the replaced slots
+     */
+    public ReservoirSample(int k, SplittableRandom random) {
+        this(k, random, false);
+    }
+
+    /**
+     * @param k         maximum number of values in the sample
+     * @param random    generator of the skips and the replaced slots
+     * @param trackLive whether the values added and not yet removed are counted, so that removing an unsampled
+     *                  value never drops an equal sampled one
+     */
+    public ReservoirSample(int k, SplittableRandom random, boolean trackLive) {
+        if (k < 1) {
+            throw new IllegalArgumentException("The sample size should be positive, but found " + k);
+        }
+        this.k = k;
+        this.random = random;
+        this.trackLive = trackLive;
+        this.entries = trackLive ? new HashMap<>() : null;
+        // grown up to k, so that groups seeing few values stay small
+        this.values = new double[Math.min(k, INITIAL_CAPACITY)];
+        this.slotPositions = trackLive ? new int[values.length] : null;
+        clear();
+    }
+
+    /**
+     * @param value value of the stream
+     * @return whether the sample changed
+     */
+    public boolean add(double value) {
+        long index = count++;
+        if (trackLive) {
+            entry(value).live++;
+        }
+        if (size < k) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(k, 2L * size));
+                if (trackLive) {
+                    slotPositions = Arrays.copyOf(slotPositions, values.length);
+                }
+            }
+            if (trackLive) {
+                addSlot(value, size);
+            }
+            values[size++] = value;
+            if (index == nextIndex) {
+                skip();
+            }
+            return true;
+        }
+        if (index != nextIndex) {
+            return false;
+        }
+        int slot = random.nextInt(k);
+        if (trackLive) {
+            removeSlot(values[slot], slot);
+            addSlot(value, slot);
+        }
+        values[slot] = value;
+        skip();
+        return true;
+    }
+
+    /**
+     * @param value value which left the stream
+     * @return whether a value equal to it was removed from the sample
+     */
+    public boolean remove(double value) {
+        if (!trackLive) {
+            for (int i = 0; i < size; i++) {
+                if (Double.compare(values[i], value) == 0) {
+                    values[i] = values[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+        Entry entry = entries.get(value);
+        if (entry == null) {
+            return false;
+        }
+        entry.live--;
+        if (entry.sampled <= entry.live) {
+            if (entry.live == 0) {
+                entries.remove(value);
+            }
+            return false;
+        }
+        // the slot of the value takes the value of the last slot
+        int slot = entry.slots[entry.sampled - 1];
+        removeSlot(value, slot);
+        int last = --size;
+        if (slot != last) {
+            double moved = values[last];
+            values[slot] = moved;
+            entries.get(moved).slots[slotPositions[last]] = slot;
+            slotPositions[slot] = slotPositions[last];
+        }
+        return true;
+    }
+
+    private Entry entry(double value) {
+        Entry entry = entries.get(value);
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(value, entry);
+        }
+        return entry;
+    }
+
+    private void addSlot(double value, int slot) {
+        Entry entry = entry(value);
+        if (entry.sampled == entry.slots.length) {
+            entry.slots = Arrays.copyOf(entry.slots, entry.sampled << 1);
+        }
+        entry.slots[entry.sampled] = slot;
+        slotPositions[slot] = entry.sampled++;
+    }
+
+    private void removeSlot(double value, int slot) {
+        Entry entry = entries.get(value);
+        int lastSlot = entry.slots[--entry.sampled];
+        entry.slots[slotPositions[slot]] = lastSlot;
+        slotPositions[lastSlot] = slotPositions[slot];
+        if (entry.sampled == 0 && entry.live == 0) {
+            entries.remove(value);
+        }
+    }
+
+    /**
+     * Indexes the slots anew, after the values have been reordered or restored.
+     */
+    private void indexSlots() {
+        entries.values().removeIf(entry -> {
+            entry.sampled = 0;
+            return entry.live == 0;
+        });
+        for (int slot = 0; slot < size; slot++) {
+            addSlot(values[slot], slot);
+        }
+    }
+
+    private void skip() {
+        // the weight is the largest of k uniform keys, and the gap is geometric in it
+        weight *= Math.exp(Math.log(nextUniform()) / k);
+        double gap = Math.floor(Math.log(nextUniform()) / Math.log1p(-weight));
+        // a gap beyond the range of a long, or a weight rounded to 1, is not expected to be reached anyway
+        nextIndex = gap < Long.MAX_VALUE - nextIndex - 1 ? nextIndex + (long) gap + 1 : Long.MAX_VALUE;
+    }
+
+    private double nextUniform() {
+        // (0, 1], as the logarithm of 0 is undefined
+        return 1.0 - random.nextDouble();
+    }
+
+    public void clear() {
+        if (trackLive) {
+            entries.clear();
+        }
+        size = 0;
+        count = 0;
+        // the first skip is drawn once the sample is full
+        nextIndex = k - 1;
+        weight = 1.0;
+    }
+
+    /**
+     * @return copy of the sampled values, in no particular order
+     */
+    public double[] values() {
+        return Arrays.copyOf(values, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return whether there are neither sampled values nor live values being tracked
+     */
+    public boolean isEmpty() {
+        return size == 0 && (!trackLive || entries.isEmpty());
+    }
+
+    /**
+     * @return number of values added since the sample was cleared
+     */
+    public long count() {
+        return count;
+    }
+
+    public Map<String, Object> snapshot() {
+        // the order of the sampled values does not matter, hence they are sorted to be encoded compactly, in place
+        // so that the slots replaced after the snapshot hold the same values as the slots of the restored sample
+        Arrays.sort(values, 0, size);
+        if (trackLive) {
+            indexSlots();
+        }
+        // the generator cannot be saved, hence it is seeded anew such that the restored sample draws the same skips
+        long seed = random.nextLong();
+        random = new SplittableRandom(seed);
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put(VALUES, PackedDoubles.encode(values()));
+        snapshot.put(COUNT, count);
+        snapshot.put(NEXT_INDEX, nextIndex);
+        snapshot.put(WEIGHT, weight);
+        snapshot.put(SEED, seed);
+        if (trackLive) {
+            double[] liveValues = new double[entries.size()];
+            int i = 0;
+            for (Double value : entries.keySet()) {
+                liveValues[i++] = value;
+            }
+            Arrays.sort(liveValues);
+            int[] liveCounts = new int[liveValues.length];
+            for (i = 0; i < liveValues.length; i++) {
+                liveCounts[i] = entries.get(liveValues[i]).live;
+            }
+            snapshot.put(LIVE_VALUES, PackedDoubles.encode(liveValues));
+            snapshot.put(LIVE_COUNTS, liveCounts);
+        }
+        return snapshot;
+    }
+
+    public void restore(Map<String, Object> snapshot) {
+        double[] restored = PackedDoubles.decode((byte[]) snapshot.get(VALUES));
+        values = Arrays.copyOf(restored, Math.max(restored.length, Math.min(k, INITIAL_CAPACITY)));
+        size = restored.length;
+        if (trackLive) {
+            slotPositions = new int[values.length];
+            entries.clear();
+            byte[] liveValues = (byte[]) snapshot.get(LIVE_VALUES);
+            if (liveValues != null) {
+                double[] decoded = PackedDoubles.decode(liveValues);
+                int[] liveCounts = (int[]) snapshot.get(LIVE_COUNTS);
+                for (int i = 0; i < decoded.length; i++) {
+                    entry(decoded[i]).live = liveCounts[i];
+                }
+            } else {
+                // snapshots taken without tracking only know the sampled values to be live
+                for (int slot = 0; slot < size; slot++) {
+                    entry(values[slot]).live++;
+                }
+            }
+            indexSlots();
+        }
+        count = (Long) snapshot.get(COUNT);
+        nextIndex = (Long) snapshot.get(NEXT_INDEX);
+        weight = (Double) snapshot.get(WEIGHT);
+        random = new SplittableRandom((Long) snapshot.get(SEED));
+    }
+
+    /**
+     * Live count and sampled slots of a distinct value.
+     */
+    private static final class Entry {
+
+        private int live;
+        private int sampled;
+        private int[] slots = new int[1];
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+
+/**
+ * Sorted buffer of primitive doubles used to keep the values of a percentile window without boxing.
+ * Duplicate values are allowed.
+ * <p>
+ * Once the buffer holds several thousand values, additions and removals are no longer applied to the sorted values
+ * one by one, as each would shift O(n) values. They are kept in two small sorted pending buffers instead, which are
+ * merged into the sorted values in a single pass once they hold about sqrt(n) values. Rank lookups account for the
+ * pending values through binary searches, so they stay exact while the changes are deferred.
+ */
+public class SortedDoubleArray extends ExactPercentileStore {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MIN_PENDING_LIMIT = 16;
+    // below this size, shifting the sorted values on each change is cheaper than deferring the changes
+    private static final int DEFERRAL_THRESHOLD = 8192;
+
+    private double[] values;
+    private int size;
+
+    // values added, but not yet merged into the sorted values
+    private double[] pendingAdds = new double[MIN_PENDING_LIMIT];
+    private int pendingAddCount;
+    // values removed from the sorted values, but not yet merged out of them
+    private double[] pendingRemoves = new double[MIN_PENDING_LIMIT];
+    private int pendingRemoveCount;
+
+    // scratch space used while merging the pending values
+    private double[] mergeBuffer = new double[0];
+
+    public SortedDoubleArray() {
+        this.values = new double[DEFAULT_CAPACITY];
+    }
+
+    @Override
+    public void add(double value) {
+        if (size < DEFERRAL_THRESHOLD && pendingAddCount == 0 && pendingRemoveCount == 0) {
+            values = insert(values, size, value);
+            size++;
+            return;
+        }
+        pendingAdds = insert(pendingAdds, pendingAddCount, value);
+        pendingAddCount++;
+        mergeIfNeeded();
+    }
+
+    @Override
+    public boolean remove(double value) {
+        int pendingIndex = lowerBound(pendingAdds, 0, pendingAddCount, value);
+        if (pendingIndex < pendingAddCount && Double.compare(pendingAdds[pendingIndex], value) == 0) {
+            pendingAddCount--;
+            System.arraycopy(pendingAdds, pendingIndex + 1, pendingAdds, pendingIndex,
+                             pendingAddCount - pendingIndex);
+            return true;
+        }
+        // the value is present if the sorted values hold more occurrences of it than the pending removals
+        int removeIndex = lowerBound(values, 0, size, value);
+        int removed = upperBound(pendingRemoves, 0, pendingRemoveCount, value)
+                - lowerBound(pendingRemoves, 0, pendingRemoveCount, value);
+        if (removeIndex + removed >= size || Double.compare(values[removeIndex + removed], value) != 0) {
+            return false;
+        }
+        if (size < DEFERRAL_THRESHOLD && pendingAddCount == 0 && pendingRemoveCount == 0) {
+            size--;
+            System.arraycopy(values, removeIndex + 1, values, removeIndex, size - removeIndex);
+            return true;
+        }
+        pendingRemoves = insert(pendingRemoves, pendingRemoveCount, value);
+        pendingRemoveCount++;
+        mergeIfNeeded();
+        return true;
+    }
+
+    @Override
+    public double get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (pendingAddCount == 0 && pendingRemoveCount == 0) {
+            return values[index];
+        }
+        // The value at the index is the smallest one which has more than index values up to and including it.
+        // Among the sorted values, it is within the number of pending values from the index, hence only that
+        // range of the sorted values is searched, which also keeps the lookup within a few cache lines.
+        int target = index + 1;
+        int from = Math.max(0, index - pendingAddCount);
+        int to = Math.min(size, target + pendingRemoveCount);
+        int sortedIndex = from;
+        int high = to;
+        while (sortedIndex < high) {
+            int mid = (sortedIndex + high) >>> 1;
+            if (reachesTarget(values[mid], target, from, to)) {
+                high = mid;
+            } else {
+                sortedIndex = mid + 1;
+            }
+        }
+        int pendingIndex = 0;
+        high = pendingAddCount;
+        while (pendingIndex < high) {
+            int mid = (pendingIndex + high) >>> 1;
+            if (reachesTarget(pendingAdds[mid], target, from, to)) {
+                high = mid;
+            } else {
+                pendingIndex = mid + 1;
+            }
+        }
+        if (pendingIndex == pendingAddCount
+                || (sortedIndex < to && Double.compare(values[sortedIndex], pendingAdds[pendingIndex]) <= 0)) {
+            return values[sortedIndex];
+        }
+        return pendingAdds[pendingIndex];
+    }
+
+    @Override
+    public long size() {
+        return size + pendingAddCount - pendingRemoveCount;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        pendingAddCount = 0;
+        pendingRemoveCount = 0;
+    }
+
+    @Override
+    public double[] toArray() {
+        merge();
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public void setAll(double[] newValues) {
+        values = Arrays.copyOf(newValues, Math.max(newValues.length, DEFAULT_CAPACITY));
+        size = newValues.length;
+        pendingAddCount = 0;
+        pendingRemoveCount = 0;
+        Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * Checks whether the number of values, including the pending ones, which are less than or equal to the given
+     * value reaches the target. The sorted values below the range hold less than the target count and the ones
+     * above it hold at least the target count, hence only the range is searched.
+     */
+    private boolean reachesTarget(double value, int target, int from, int to) {
+        if (from > 0 && Double.compare(value, values[from]) < 0) {
+            return false;
+        }
+        if (to < size && Double.compare(value, values[to - 1]) >= 0) {
+            return true;
+        }
+        int count = upperBound(values, from, to, value) + upperBound(pendingAdds, 0, pendingAddCount, value)
+                - upperBound(pendingRemoves, 0, pendingRemoveCount, value);
+        return count >= target;
+    }
+
+    private void mergeIfNeeded() {
+        int limit = Math.max(MIN_PENDING_LIMIT, (int) Math.sqrt(size));
+        if (pendingAddCount + pendingRemoveCount >= limit || size < DEFERRAL_THRESHOLD) {
+            merge();
+        }
+    }
+
+    /**
+     * Applies the pending additions and removals to the sorted values in a single pass.
+     */
+    private void merge() {
+        if (pendingAddCount == 0 && pendingRemoveCount == 0) {
+            return;
+        }
+        int newSize = size + pendingAddCount - pendingRemoveCount;
+        if (mergeBuffer.length < newSize) {
+            mergeBuffer = new double[Math.max(newSize + (newSize >> 1), DEFAULT_CAPACITY)];
+        }
+        int i = 0;
+        int added = 0;
+        int removed = 0;
+        int write = 0;
+        while (i < size || added < pendingAddCount) {
+            if (added == pendingAddCount
+                    || (i < size && Double.compare(values[i], pendingAdds[added]) <= 0)) {
+                double value = values[i++];
+                if (removed < pendingRemoveCount && Double.compare(value, pendingRemoves[removed]) == 0) {
+                    removed++;
+                } else {
+                    mergeBuffer[write++] = value;
+                }
+            } else {
+                mergeBuffer[write++] = pendingAdds[added++];
+            }
+        }
+        double[] swap = values;
+        values = mergeBuffer;
+        mergeBuffer = swap;
+        size = write;
+        pendingAddCount = 0;
+        pendingRemoveCount = 0;
+    }
+
+    /**
+     * Inserts the value into the sorted buffer holding count values, growing the buffer if needed.
+     */
+    private static double[] insert(double[] buffer, int count, double value) {
+        if (count == buffer.length) {
+            buffer = Arrays.copyOf(buffer, count + (count >> 1));
+        }
+        int insertIndex = upperBound(buffer, 0, count, value);
+        System.arraycopy(buffer, insertIndex, buffer, insertIndex + 1, count - insertIndex);
+        buffer[insertIndex] = value;
+        return buffer;
+    }
+
+    /**
+     * Index of the first of the sorted values within the range which is not less than the value.
+     */
+    private static int lowerBound(double[] sorted, int from, int to, double value) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(sorted[mid], value) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Index of the first of the sorted values within the range which is greater than the value.
+     */
+    private static int upperBound(double[] sorted, int from, int to, double value) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(sorted[mid], value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
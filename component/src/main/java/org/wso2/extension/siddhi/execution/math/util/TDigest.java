@@ -0,0 +1,361 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Merging t-digest (Dunning and Ertl) which approximates percentiles with memory bounded by the compression factor.
+ * <p>
+ * Incoming values are buffered and periodically merged into at most about {@code compression} centroids, sized by
+ * the arcsine scale function so that the centroids near the tails stay small and the tail percentiles stay
+ * accurate.
+ * <p>
+ * Removal is an approximation: a value still in the buffer is removed exactly, otherwise one unit of weight is
+ * taken from the centroid whose mean is closest to the value, leaving its mean unchanged. The error this
+ * introduces is bounded by the width of the centroids, which is small near the tails.
+ */
+public class TDigest extends PercentileStore {
+
+    private static final String MEANS = "MEANS";
+    private static final String WEIGHTS = "WEIGHTS";
+    private static final String MIN = "MIN";
+    private static final String MAX = "MAX";
+
+    private final double compression;
+
+    private double[] means;
+    private double[] weights;
+    private int centroidCount;
+    private double mergedWeight;
+
+    private double[] buffer;
+    private int bufferSize;
+
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    // scratch space used while merging
+    private double[] mergeMeans;
+    private double[] mergeWeights;
+
+    public TDigest(double compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("Compression should be at least 10, but found " + compression);
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) + 10;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        this.mergeMeans = new double[capacity];
+        this.mergeWeights = new double[capacity];
+        this.buffer = new double[(int) Math.ceil(compression * 5)];
+    }
+
+    public double getCompression() {
+        return compression;
+    }
+
+    @Override
+    public void add(double value) {
+        if (bufferSize == buffer.length) {
+            flush();
+        }
+        buffer[bufferSize++] = value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    @Override
+    public boolean remove(double value) {
+        for (int i = 0; i < bufferSize; i++) {
+            if (Double.compare(buffer[i], value) == 0) {
+                buffer[i] = buffer[--bufferSize];
+                afterRemove(value);
+                return true;
+            }
+        }
+        if (centroidCount == 0) {
+            return false;
+        }
+        int closest = closestCentroid(value);
+        weights[closest] -= 1;
+        mergedWeight -= 1;
+        if (weights[closest] <= 0) {
+            mergedWeight -= weights[closest];
+            int tail = centroidCount - closest - 1;
+            System.arraycopy(means, closest + 1, means, closest, tail);
+            System.arraycopy(weights, closest + 1, weights, closest, tail);
+            centroidCount--;
+        }
+        afterRemove(value);
+        return true;
+    }
+
+    @Override
+    public double percentile(double percentile) {
+        flush();
+        return quantile(percentile / 100);
+    }
+
+    /**
+     * Estimates the value at the given quantile.
+     *
+     * @param q quantile, in 0 <= q <= 1 range
+     * @return estimated value, NaN when the digest is empty
+     */
+    public double quantile(double q) {
+        flush();
+        int n = centroidCount;
+        if (n == 0) {
+            return Double.NaN;
+        }
+        if (n == 1) {
+            return means[0];
+        }
+        double totalWeight = mergedWeight;
+        double index = q * totalWeight;
+        if (index < 1) {
+            return min;
+        }
+        if (weights[0] > 1 && index < weights[0] / 2) {
+            // interpolate between the minimum and the first centroid
+            return min + (index - 1) / (weights[0] / 2 - 1) * (means[0] - min);
+        }
+        if (index > totalWeight - 1) {
+            return max;
+        }
+        if (weights[n - 1] > 1 && totalWeight - index <= weights[n - 1] / 2) {
+            return max - (totalWeight - index - 1) / (weights[n - 1] / 2 - 1) * (max - means[n - 1]);
+        }
+
+        double weightSoFar = weights[0] / 2;
+        for (int i = 0; i < n - 1; i++) {
+            double deltaWeight = (weights[i] + weights[i + 1]) / 2;
+            if (weightSoFar + deltaWeight > index) {
+                // centroids of unit weight are exact points, hence are not interpolated into
+                double leftUnit = 0;
+                if (weights[i] == 1) {
+                    if (index - weightSoFar < 0.5) {
+                        return means[i];
+                    }
+                    leftUnit = 0.5;
+                }
+                double rightUnit = 0;
+                if (weights[i + 1] == 1) {
+                    if (weightSoFar + deltaWeight - index <= 0.5) {
+                        return means[i + 1];
+                    }
+                    rightUnit = 0.5;
+                }
+                double leftDistance = index - weightSoFar - leftUnit;
+                double rightDistance = weightSoFar + deltaWeight - index - rightUnit;
+                return weightedAverage(means[i], rightDistance, means[i + 1], leftDistance);
+            }
+            weightSoFar += deltaWeight;
+        }
+        double leftDistance = index - totalWeight - weights[n - 1] / 2;
+        double rightDistance = weights[n - 1] / 2 - leftDistance;
+        return weightedAverage(means[n - 1], leftDistance, max, rightDistance);
+    }
+
+    @Override
+    public long size() {
+        return Math.round(mergedWeight) + bufferSize;
+    }
+
+    @Override
+    public void clear() {
+        centroidCount = 0;
+        mergedWeight = 0;
+        bufferSize = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+    }
+
+    @Override
+    public Map<String, Object> snapshot() {
+        flush();
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put(MEANS, Arrays.copyOf(means, centroidCount));
+        snapshot.put(WEIGHTS, Arrays.copyOf(weights, centroidCount));
+        snapshot.put(MIN, min);
+        snapshot.put(MAX, max);
+        return snapshot;
+    }
+
+    @Override
+    public void restore(Map<String, Object> snapshot) {
+        clear();
+        double[] restoredMeans = (double[]) snapshot.get(MEANS);
+        double[] restoredWeights = (double[]) snapshot.get(WEIGHTS);
+        if (restoredMeans == null || restoredWeights == null) {
+            return;
+        }
+        ensureCentroidCapacity(restoredMeans.length);
+        System.arraycopy(restoredMeans, 0, means, 0, restoredMeans.length);
+        System.arraycopy(restoredWeights, 0, weights, 0, restoredWeights.length);
+        centroidCount = restoredMeans.length;
+        for (int i = 0; i < centroidCount; i++) {
+            mergedWeight += weights[i];
+        }
+        min = (Double) snapshot.get(MIN);
+        max = (Double) snapshot.get(MAX);
+    }
+
+    /**
+     * Merges the buffered values into the centroids.
+     */
+    private void flush() {
+        if (bufferSize == 0) {
+            return;
+        }
+        Arrays.sort(buffer, 0, bufferSize);
+        double totalWeight = mergedWeight + bufferSize;
+        ensureMergeCapacity(centroidCount + bufferSize);
+
+        int centroid = 0;
+        int buffered = 0;
+        int merged = 0;
+        double weightSoFar = 0;
+        double weightLimit = totalWeight * quantileOfScale(scaleOfQuantile(0) + 1);
+        double currentMean = 0;
+        double currentWeight = 0;
+        while (centroid < centroidCount || buffered < bufferSize) {
+            double nextMean;
+            double nextWeight;
+            if (buffered == bufferSize || (centroid < centroidCount && means[centroid] <= buffer[buffered])) {
+                nextMean = means[centroid];
+                nextWeight = weights[centroid];
+                centroid++;
+            } else {
+                nextMean = buffer[buffered];
+                nextWeight = 1;
+                buffered++;
+            }
+            if (currentWeight == 0) {
+                currentMean = nextMean;
+                currentWeight = nextWeight;
+            } else if (weightSoFar + currentWeight + nextWeight <= weightLimit) {
+                currentWeight += nextWeight;
+                currentMean += (nextMean - currentMean) * nextWeight / currentWeight;
+            } else {
+                mergeMeans[merged] = currentMean;
+                mergeWeights[merged] = currentWeight;
+                merged++;
+                weightSoFar += currentWeight;
+                weightLimit = totalWeight * quantileOfScale(scaleOfQuantile(weightSoFar / totalWeight) + 1);
+                currentMean = nextMean;
+                currentWeight = nextWeight;
+            }
+        }
+        mergeMeans[merged] = currentMean;
+        mergeWeights[merged] = currentWeight;
+        merged++;
+
+        double[] swap = means;
+        means = mergeMeans;
+        mergeMeans = swap;
+        swap = weights;
+        weights = mergeWeights;
+        mergeWeights = swap;
+        centroidCount = merged;
+        mergedWeight = totalWeight;
+        bufferSize = 0;
+    }
+
+    /**
+     * Arcsine scale function k(q) = compression / (2 * PI) * asin(2q - 1).
+     */
+    private double scaleOfQuantile(double q) {
+        return compression / (2 * Math.PI) * Math.asin(Math.max(-1, Math.min(1, 2 * q - 1)));
+    }
+
+    private double quantileOfScale(double k) {
+        if (k >= compression / 4) {
+            return 1;
+        }
+        return (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+    }
+
+    private int closestCentroid(double value) {
+        int low = 0;
+        int high = centroidCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (means[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == centroidCount) {
+            return centroidCount - 1;
+        }
+        if (low > 0 && value - means[low - 1] < means[low] - value) {
+            return low - 1;
+        }
+        return low;
+    }
+
+    private void afterRemove(double value) {
+        if (size() == 0) {
+            clear();
+            return;
+        }
+        if (value <= min || value >= max) {
+            // the exact extremes are no longer known, hence fall back to the ones of the remaining values
+            flush();
+            if (value <= min) {
+                min = means[0];
+            }
+            if (value >= max) {
+                max = means[centroidCount - 1];
+            }
+        }
+    }
+
+    private void ensureMergeCapacity(int capacity) {
+        if (mergeMeans.length < capacity) {
+            mergeMeans = new double[capacity];
+            mergeWeights = new double[capacity];
+        }
+    }
+
+    private void ensureCentroidCapacity(int capacity) {
+        if (means.length < capacity) {
+            means = Arrays.copyOf(means, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+    }
+
+    private static double weightedAverage(double x1, double w1, double x2, double w2) {
+        if (x1 > x2) {
+            return weightedAverage(x2, w2, x1, w1);
+        }
+        double result = (x1 * w1 + x2 * w2) / (w1 + w2);
+        return Math.max(x1, Math.min(result, x2));
+    }
+}
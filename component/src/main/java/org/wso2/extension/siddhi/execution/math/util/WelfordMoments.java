@@ -0,0 +1,203 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running count, mean and sum of squared deviations of a stream of values, kept by Welford's algorithm.
+ * <p>
+ * Each value updates the mean by its share of its deviation from it, and the sum of squares by the product of its
+ * deviations from the old and the new mean. Unlike the difference between the mean of the squares and the square of
+ * the mean, this does not cancel out the digits of values far from zero. Values are removed by running the update
+ * backwards, which restores the mean and the sum of squares the values had before they were added, up to rounding.
+ * <p>
+ * When higher moments are kept, the sums of the cubed and the fourth powers of the deviations are updated from the
+ * lower sums as well, as extended by Terriberry, and removed by the inverse of that update.
+ */
+public final class WelfordMoments {
+
+    private static final String COUNT = "COUNT";
+    private static final String MEAN = "MEAN";
+    private static final String M2 = "M2";
+    private static final String M3 = "M3";
+    private static final String M4 = "M4";
+
+    private final boolean higherMoments;
+    private long count;
+    private double mean;
+    private double m2;
+    private double m3;
+    private double m4;
+
+    public WelfordMoments() {
+        this(false);
+    }
+
+    /**
+     * @param higherMoments whether the sums of the third and fourth powers of the deviations are kept, which the
+     *                      skewness and the kurtosis need
+     */
+    public WelfordMoments(boolean higherMoments) {
+        this.higherMoments = higherMoments;
+    }
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        if (higherMoments) {
+            addHigherMoments(delta);
+        }
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    private void addHigherMoments(double delta) {
+        // the count is already incremented, and the mean and m2 are those of the previous values
+        double deltaN = delta / count;
+        double deltaN2 = deltaN * deltaN;
+        double term = delta * deltaN * (count - 1);
+        m4 += term * deltaN2 * ((double) count * count - 3 * count + 3) + 6 * deltaN2 * m2 - 4 * deltaN * m3;
+        m3 += term * deltaN * (count - 2) - 3 * deltaN * m2;
+    }
+
+    /**
+     * @param value value which was added before
+     */
+    public void remove(double value) {
+        if (count <= 1) {
+            // starts afresh, rather than keeping the rounding errors of the removed values
+            clear();
+            return;
+        }
+        count--;
+        double delta = value - mean;
+        mean -= delta / count;
+        double removed = delta * (value - mean);
+        m2 -= removed;
+        if (m2 <= 4 * (Math.abs(delta) * Math.ulp(mean) + Math.ulp(removed))) {
+            // a sum within the rounding errors of the mean and of the subtraction, possibly negative, is left when
+            // the remaining values are all equal, in which case their higher moments are 0 as well, rather than the
+            // rounding residue of the removed values
+            m2 = 0;
+            m3 = 0;
+            m4 = 0;
+        } else if (higherMoments) {
+            removeHigherMoments(value - mean);
+        }
+    }
+
+    private void removeHigherMoments(double delta) {
+        // the inverse of addHigherMoments, where the delta is taken from the mean of the remaining values, as it was
+        // when the value was added, and m2 is already that of the remaining values
+        long addedCount = count + 1;
+        double deltaN = delta / addedCount;
+        double deltaN2 = deltaN * deltaN;
+        double term = delta * deltaN * count;
+        m3 -= term * deltaN * (addedCount - 2) - 3 * deltaN * m2;
+        m4 -= term * deltaN2 * ((double) addedCount * addedCount - 3 * addedCount + 3) + 6 * deltaN2 * m2
+                - 4 * deltaN * m3;
+        if (m4 < 0) {
+            m4 = 0;
+        }
+    }
+
+    public void clear() {
+        count = 0;
+        mean = 0;
+        m2 = 0;
+        m3 = 0;
+        m4 = 0;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return mean of the values, or NaN if there are none
+     */
+    public double mean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * @param sample whether the sample variance, which divides by the count less one, is to be returned rather than
+     *               the population variance, which divides by the count
+     * @return variance of the values, or NaN if there are too few of them
+     */
+    public double variance(boolean sample) {
+        long divisor = sample ? count - 1 : count;
+        return divisor <= 0 ? Double.NaN : m2 / divisor;
+    }
+
+    /**
+     * @param sample whether the adjusted Fisher-Pearson skewness of a sample is to be returned rather than the
+     *               skewness of the population
+     * @return skewness of the values, or NaN if there are too few of them or they are all equal
+     */
+    public double skewness(boolean sample) {
+        if (count < (sample ? 3 : 1) || m2 <= 0) {
+            return Double.NaN;
+        }
+        double skewness = Math.sqrt(count) * m3 / Math.pow(m2, 1.5);
+        return sample ? skewness * Math.sqrt((double) count * (count - 1)) / (count - 2) : skewness;
+    }
+
+    /**
+     * @param sample whether the excess kurtosis of a sample, as estimated from the unbiased cumulants, is to be
+     *               returned rather than the excess kurtosis of the population
+     * @return excess kurtosis of the values, which is 0 for normally distributed values, or NaN if there are too
+     * few of them or they are all equal
+     */
+    public double kurtosis(boolean sample) {
+        if (count < (sample ? 4 : 1) || m2 <= 0) {
+            return Double.NaN;
+        }
+        double kurtosis = count * m4 / (m2 * m2) - 3;
+        return sample ? ((count + 1) * kurtosis + 6) * (count - 1) / ((double) (count - 2) * (count - 3)) : kurtosis;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put(COUNT, count);
+        snapshot.put(MEAN, mean);
+        snapshot.put(M2, m2);
+        if (higherMoments) {
+            snapshot.put(M3, m3);
+            snapshot.put(M4, m4);
+        }
+        return snapshot;
+    }
+
+    public void restore(Map<String, Object> snapshot) {
+        count = (Long) snapshot.get(COUNT);
+        mean = (Double) snapshot.get(MEAN);
+        m2 = (Double) snapshot.get(M2);
+        if (higherMoments) {
+            m3 = (Double) snapshot.get(M3);
+            m4 = (Double) snapshot.get(M4);
+        }
+    }
+}
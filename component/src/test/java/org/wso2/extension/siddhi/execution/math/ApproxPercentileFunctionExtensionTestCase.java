@@ -0,0 +1,327 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class ApproxPercentileFunctionExtensionTestCase {
+    private static final String INPUT_STREAM_DOUBLE = "define stream inputStream (sensorId int, temperature double);";
+    private static final String INPUT_STREAM_LONG = "define stream inputStream (sensorId int, temperature long);";
+    protected static SiddhiManager siddhiManager;
+    private static Logger logger = Logger.getLogger(ApproxPercentileFunctionExtensionTestCase.class);
+    private CountDownLatch countDownLatch;
+    private volatile int count;
+    private volatile boolean eventArrived;
+    private volatile double lastValue;
+
+    @BeforeMethod
+    public void init() {
+        count = 0;
+        eventArrived = false;
+    }
+
+    @Test
+    public void testApproxPercentileFunctionExtension1() throws Exception {
+        logger.info("ApproxPercentileFunctionExtension no window test case.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream "
+                + "select math:approxPercentile(temperature, 97.0) as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(30.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(50.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(50.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(80.0, event.getData(0));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(80.0, event.getData(0));
+                            break;
+                        case 7:
+                            AssertJUnit.assertEquals(80.0, event.getData(0));
+                            break;
+                        case 8:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 9:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 10:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10d});
+        inputHandler.send(new Object[]{2, 30d});
+        inputHandler.send(new Object[]{3, 50d});
+        inputHandler.send(new Object[]{4, 40d});
+        inputHandler.send(new Object[]{5, 80d});
+        inputHandler.send(new Object[]{6, 60d});
+        inputHandler.send(new Object[]{7, 20d});
+        inputHandler.send(new Object[]{8, 90d});
+        inputHandler.send(new Object[]{9, 70d});
+        inputHandler.send(new Object[]{10, 100d});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testApproxPercentileFunctionExtension2() throws Exception {
+        logger.info("ApproxPercentileFunctionExtension length window test case.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:approxPercentile(temperature, 97.0, 0.01) as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(30.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 7:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 8:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 9:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 10:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10L});
+        inputHandler.send(new Object[]{2, 30L});
+        inputHandler.send(new Object[]{3, 100L});
+        inputHandler.send(new Object[]{4, 40L});
+        inputHandler.send(new Object[]{5, 80L});
+        inputHandler.send(new Object[]{6, 60L});
+        inputHandler.send(new Object[]{7, 20L});
+        inputHandler.send(new Object[]{8, 90L});
+        inputHandler.send(new Object[]{9, 70L});
+        inputHandler.send(new Object[]{10, 50L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testApproxPercentileFunctionExtension3() throws Exception {
+        logger.info("ApproxPercentileFunctionExtension rank error test case.");
+
+        final int expectedNoOfEvents = 10000;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream "
+                + "select math:approxPercentile(temperature, 99.0, 0.01) as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    lastValue = (Double) event.getData(0);
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        // a permutation of 1 to 10000, whose exact 99th percentile is 9900
+        for (int i = 0; i < expectedNoOfEvents; i++) {
+            inputHandler.send(new Object[]{i, (i * 7919L) % expectedNoOfEvents + 1});
+        }
+
+        countDownLatch.await(10000, MILLISECONDS);
+        AssertJUnit.assertEquals(expectedNoOfEvents, count);
+        AssertJUnit.assertTrue(eventArrived);
+        // the rank error is at most 1% of the 10000 events
+        AssertJUnit.assertTrue(Math.abs(lastValue - 9900) <= 100);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testApproxPercentileFunctionExtensionSlidingRankError() throws Exception {
+        logger.info("ApproxPercentileFunctionExtension sliding window rank error test case.");
+
+        final int windowLength = 1000;
+        final int expectedNoOfEvents = 50 * windowLength;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(" + windowLength + ") "
+                + "select math:approxPercentile(temperature, 90.0, 0.01) as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        final ArrayDeque<Long> window = new ArrayDeque<>();
+        final int[] worstRankError = new int[1];
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    double percentile = (Double) event.getData(0);
+                    int below = 0;
+                    int atMost = 0;
+                    for (long value : window) {
+                        below += value < percentile ? 1 : 0;
+                        atMost += value <= percentile ? 1 : 0;
+                    }
+                    // the exact 90th percentile has at least 90% of the window at most equal to it, and fewer below
+                    int target = (int) Math.ceil(0.9 * window.size());
+                    int rankError = atMost < target ? target - atMost : Math.max(0, below - target + 1);
+                    worstRankError[0] = Math.max(worstRankError[0], rankError);
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        // a permutation of 0 to 999 in every 1000 consecutive events, shifted up by 500 every other 5000 events,
+        // so that the expired values keep leaving the percentile range they were added to
+        for (int i = 0; i < expectedNoOfEvents; i++) {
+            long value = (i * 7919L) % windowLength + ((i / (5 * windowLength)) % 2) * 500;
+            if (window.size() == windowLength) {
+                window.poll();
+            }
+            window.add(value);
+            inputHandler.send(new Object[]{i, value});
+        }
+
+        countDownLatch.await(10000, MILLISECONDS);
+        AssertJUnit.assertEquals(expectedNoOfEvents, count);
+        AssertJUnit.assertTrue(eventArrived);
+        // the rank error stays within three times 1% of the window, however many times it has slid over
+        AssertJUnit.assertTrue(worstRankError[0] <= 3 * 0.01 * windowLength);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testApproxPercentileFunctionExtensionInvalidEpsilon() throws Exception {
+        logger.info("ApproxPercentileFunctionExtension invalid epsilon test case.");
+
+        siddhiManager = new SiddhiManager();
+        String executionPlan = ("@info(name = 'query1') from inputStream "
+                + "select math:approxPercentile(temperature, 99.0, 1.5) as percentile "
+                + "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+    }
+}
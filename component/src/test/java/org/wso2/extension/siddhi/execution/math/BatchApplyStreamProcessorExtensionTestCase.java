@@ -0,0 +1,218 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class BatchApplyStreamProcessorExtensionTestCase {
+    protected static SiddhiManager siddhiManager;
+    private static Logger logger = Logger.getLogger(BatchApplyStreamProcessorExtensionTestCase.class);
+    private List<Object> results;
+
+    @BeforeMethod
+    public void init() {
+        results = new ArrayList<>();
+    }
+
+    @Test
+    public void testBatchApplyEventBatch() throws Exception {
+        logger.info("BatchApplyStreamProcessorExtension event batch test case.");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (sensorId int, value int);";
+        String executionPlan = ("@info(name = 'query1') from InValueStream#math:batchApply('sqrt', value) "
+                + "select sensorId, sqrt "
+                + "insert into OutMediationStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inValueStream + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    results.add(event.getData(1));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InValueStream");
+        siddhiAppRuntime.start();
+        long timestamp = System.currentTimeMillis();
+        inputHandler.send(new Event[]{
+                new Event(timestamp, new Object[]{1, 4}),
+                new Event(timestamp, new Object[]{2, 9}),
+                new Event(timestamp, new Object[]{3, null}),
+                new Event(timestamp, new Object[]{4, 16})});
+        inputHandler.send(new Object[]{5, 25});
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+
+        List<Object> expected = new ArrayList<>();
+        expected.add(2.0);
+        expected.add(3.0);
+        expected.add(null);
+        expected.add(4.0);
+        expected.add(5.0);
+        AssertJUnit.assertEquals(expected, results);
+    }
+
+    @Test
+    public void testBatchApplyBatchWindow() throws Exception {
+        logger.info("BatchApplyStreamProcessorExtension batch window test case.");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (sensorId int, angle double);";
+        String executionPlan = ("@info(name = 'query1') from InValueStream#window.lengthBatch(100)"
+                + "#math:batchApply('toDegrees', angle, 'degrees') "
+                + "select sensorId, degrees "
+                + "insert into OutMediationStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inValueStream + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                for (Event event : inEvents) {
+                    results.add(event.getData(1));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InValueStream");
+        siddhiAppRuntime.start();
+        // more events than the initial capacity of the column
+        for (int i = 0; i < 200; i++) {
+            inputHandler.send(new Object[]{i, i * 0.01});
+        }
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+
+        AssertJUnit.assertEquals(200, results.size());
+        for (int i = 0; i < 200; i++) {
+            AssertJUnit.assertEquals(Math.toDegrees(i * 0.01), results.get(i));
+        }
+    }
+
+    @Test
+    public void testBatchApplyConcurrentChunks() throws Exception {
+        logger.info("BatchApplyStreamProcessorExtension concurrent chunks test case.");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (sensorId int, value double);";
+        String executionPlan = ("@info(name = 'query1') from InValueStream#math:batchApply('sqrt', value) "
+                + "select sensorId, value, sqrt "
+                + "insert into OutMediationStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inValueStream + executionPlan);
+
+        final List<Object[]> events = Collections.synchronizedList(new ArrayList<>());
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                for (Event event : inEvents) {
+                    events.add(event.getData());
+                }
+            }
+        });
+        final InputHandler inputHandler = siddhiAppRuntime.getInputHandler("InValueStream");
+        siddhiAppRuntime.start();
+        // two threads send chunks of different values at the same time, each chunk larger than the initial
+        // capacity of the columns, so that the columns of one are grown while the other is reading its own
+        Thread[] senders = new Thread[2];
+        for (int t = 0; t < senders.length; t++) {
+            final int sender = t;
+            senders[t] = new Thread(() -> {
+                for (int chunk = 0; chunk < 200; chunk++) {
+                    Event[] chunkEvents = new Event[50 + chunk % 100];
+                    for (int i = 0; i < chunkEvents.length; i++) {
+                        chunkEvents[i] = new Event(System.currentTimeMillis(),
+                                new Object[]{sender, (double) (sender * 1000000 + chunk * 1000 + i)});
+                    }
+                    try {
+                        inputHandler.send(chunkEvents);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            });
+            senders[t].start();
+        }
+        for (Thread sender : senders) {
+            sender.join();
+        }
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+
+        int expectedCount = 0;
+        for (int chunk = 0; chunk < 200; chunk++) {
+            expectedCount += 2 * (50 + chunk % 100);
+        }
+        AssertJUnit.assertEquals(expectedCount, events.size());
+        for (Object[] event : events) {
+            AssertJUnit.assertEquals(Math.sqrt((Double) event[1]), event[2]);
+        }
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCase1() throws Exception {
+        logger.info("BatchApplyStreamProcessorExtension unsupported function test case.");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (sensorId int, value double);";
+        String executionPlan = ("@info(name = 'query1') from InValueStream#math:batchApply('round', value) "
+                + "select sensorId, round "
+                + "insert into OutMediationStream;");
+        siddhiManager.createSiddhiAppRuntime(inValueStream + executionPlan);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCase2() throws Exception {
+        logger.info("BatchApplyStreamProcessorExtension non constant function test case.");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (function string, value double);";
+        String executionPlan = ("@info(name = 'query1') from InValueStream#math:batchApply(function, value) "
+                + "select value "
+                + "insert into OutMediationStream;");
+        siddhiManager.createSiddhiAppRuntime(inValueStream + executionPlan);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCase3() throws Exception {
+        logger.info("BatchApplyStreamProcessorExtension invalid argument type test case.");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (sensorId int, value string);";
+        String executionPlan = ("@info(name = 'query1') from InValueStream#math:batchApply('sin', value) "
+                + "select sensorId, sin "
+                + "insert into OutMediationStream;");
+        siddhiManager.createSiddhiAppRuntime(inValueStream + executionPlan);
+    }
+}
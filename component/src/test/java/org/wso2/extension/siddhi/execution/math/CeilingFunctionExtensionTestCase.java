@@ -31,6 +31,9 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 import org.wso2.extension.siddhi.execution.math.util.UnitTestAppender;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class CeilingFunctionExtensionTestCase {
     protected static SiddhiManager siddhiManager;
     private static Logger logger = Logger.getLogger(CeilingFunctionExtensionTestCase.class);
@@ -157,4 +160,41 @@ public class CeilingFunctionExtensionTestCase {
         Thread.sleep(100);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testProcessNegativeZero() throws Exception {
+        logger.info("CeilingFunctionExtension testProcessNegativeZero");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (inValue double);";
+
+        String eventFuseExecutionPlan = ("@info(name = 'query1') from InValueStream "
+                                         + "select math:ceil(inValue) as ceilingValue "
+                                         + "insert into OutMediationStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inValueStream +
+                                                                                             eventFuseExecutionPlan);
+        final List<Double> results = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    results.add((Double) event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime
+                .getInputHandler("InValueStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{0.3d});
+        inputHandler.send(new Object[]{-0.3d});
+        inputHandler.send(new Object[]{0.7d});
+        Thread.sleep(100);
+        AssertJUnit.assertEquals(3, results.size());
+        AssertJUnit.assertEquals(Double.doubleToRawLongBits(1d), Double.doubleToRawLongBits(results.get(0)));
+        AssertJUnit.assertEquals(Double.doubleToRawLongBits(-0d), Double.doubleToRawLongBits(results.get(1)));
+        AssertJUnit.assertEquals(Double.doubleToRawLongBits(1d), Double.doubleToRawLongBits(results.get(2)));
+        siddhiAppRuntime.shutdown();
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class KurtosisFunctionExtensionTestCase {
+    private static final String INPUT_STREAM_LONG = "define stream inputStream (sensorId int, temperature long);";
+    private static final String INPUT_STREAM_FLOAT = "define stream inputStream (sensorId int, temperature float);";
+    private static Logger log = Logger.getLogger(KurtosisFunctionExtensionTestCase.class);
+
+    @Test
+    public void testKurtosis() throws InterruptedException {
+        log.info("KurtosisFunctionExtension TestCase, population and sample excess kurtosis");
+        Object[][] events = {new Object[]{1, 2L}, new Object[]{2, 4L}, new Object[]{3, 4L}, new Object[]{4, 4L},
+                new Object[]{5, 5L}, new Object[]{6, 5L}, new Object[]{7, 7L}, new Object[]{8, 9L}};
+        List<Object> results = runQuery(INPUT_STREAM_LONG, "", "math:kurtosis(temperature)", events);
+        AssertJUnit.assertEquals(8, results.size());
+        AssertJUnit.assertNull(results.get(0));
+        AssertJUnit.assertEquals(-2.0, (Double) results.get(1), 1e-9);
+        AssertJUnit.assertEquals(-0.21875, (Double) results.get(7), 1e-9);
+
+        results = runQuery(INPUT_STREAM_LONG, "", "math:kurtosis(temperature, true)", events);
+        AssertJUnit.assertEquals(8, results.size());
+        AssertJUnit.assertNull(results.get(2));
+        AssertJUnit.assertEquals(0.940625, (Double) results.get(7), 1e-9);
+    }
+
+    @Test
+    public void testKurtosisLengthWindow() throws InterruptedException {
+        log.info("KurtosisFunctionExtension TestCase, length window");
+        List<Object> results = runQuery(INPUT_STREAM_FLOAT, "#window.length(4)", "math:kurtosis(temperature)",
+                                        new Object[]{1, 2f}, new Object[]{2, 4f}, new Object[]{3, 4f},
+                                        new Object[]{4, 4f}, new Object[]{5, 5f}, new Object[]{6, 5f},
+                                        new Object[]{7, 7f}, new Object[]{8, 9f});
+        AssertJUnit.assertEquals(8, results.size());
+        // the last window holds 5, 5, 7 and 9, whose squared and fourth power deviations sum to 11 and 49.25
+        AssertJUnit.assertEquals(4 * 49.25 / (11 * 11) - 3, (Double) results.get(7), 1e-9);
+    }
+
+    @Test
+    public void testKurtosisAfterEqualValues() throws InterruptedException {
+        log.info("KurtosisFunctionExtension TestCase, values following a window of equal values");
+        List<Object> results = runQuery("define stream inputStream (sensorId int, temperature double);",
+                                        "#window.length(3)", "math:kurtosis(temperature)",
+                                        new Object[]{1, 1e8}, new Object[]{2, 3d}, new Object[]{3, 0.1},
+                                        new Object[]{4, 0.1}, new Object[]{5, 0.1}, new Object[]{6, 0.7});
+        AssertJUnit.assertEquals(6, results.size());
+        AssertJUnit.assertEquals(-1.5, (Double) results.get(5), 1e-9);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseTooManyParameters() {
+        log.info("KurtosisFunctionExtension exceptionTestCaseTooManyParameters");
+        createApp(INPUT_STREAM_LONG, "math:kurtosis(temperature, true, false)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseIntSampleFlag() {
+        log.info("KurtosisFunctionExtension exceptionTestCaseIntSampleFlag");
+        createApp(INPUT_STREAM_LONG, "math:kurtosis(temperature, 1)");
+    }
+}
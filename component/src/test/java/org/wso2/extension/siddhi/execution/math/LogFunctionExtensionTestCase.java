@@ -398,4 +398,50 @@ public class LogFunctionExtensionTestCase {
         Thread.sleep(100);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testProcessConstantBase() throws Exception {
+        logger.info("LogFunctionExtension testProcessConstantBase");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (number int);";
+
+        String eventFuseExecutionPlan = ("@info(name = 'query1') from InValueStream "
+                                         + "select math:log(number, 2) as logValue "
+                                         + "insert into OutMediationStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inValueStream +
+                                                                                 eventFuseExecutionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                Double result;
+                for (Event event : inEvents) {
+                    result = (Double) event.getData(0);
+                    AssertJUnit.assertEquals((Double) 5.08746284125034, result);
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime
+                .getInputHandler("InValueStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{34});
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseConstantBaseOne() throws Exception {
+        logger.info("LogFunctionExtension exceptionTestCaseConstantBaseOne");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (number int);";
+
+        String eventFuseExecutionPlan = ("@info(name = 'query1') from InValueStream "
+                                         + "select math:log(number, 1) as logValue "
+                                         + "insert into OutMediationStream;");
+        siddhiManager.createSiddhiAppRuntime(inValueStream + eventFuseExecutionPlan);
+    }
 }
@@ -21,14 +21,25 @@ package org.wso2.extension.siddhi.execution.math;
 import io.siddhi.core.SiddhiAppRuntime;
 import io.siddhi.core.SiddhiManager;
 import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.persistence.InMemoryPersistenceStore;
+import io.siddhi.core.util.persistence.IncrementalFileSystemPersistenceStore;
 import org.apache.log4j.Logger;
+import org.wso2.extension.siddhi.execution.math.util.IncrementalPercentileStore;
+import org.wso2.extension.siddhi.execution.math.util.PercentileMode;
+import org.wso2.extension.siddhi.execution.math.util.PercentileStore;
 import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -913,4 +924,780 @@ public class PercentileFunctionExtensionTestCase {
         AssertJUnit.assertTrue(eventArrived);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testPercentileFunctionExtensionTree1() throws Exception {
+        logger.info("PercentileFunctionExtension length window test case with tree mode.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 50.0, 'tree') as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(20.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(30.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(35.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(40.0, event.getData(0));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(60.0, event.getData(0));
+                            break;
+                        case 7:
+                            AssertJUnit.assertEquals(60.0, event.getData(0));
+                            break;
+                        case 8:
+                            AssertJUnit.assertEquals(60.0, event.getData(0));
+                            break;
+                        case 9:
+                            AssertJUnit.assertEquals(70.0, event.getData(0));
+                            break;
+                        case 10:
+                            AssertJUnit.assertEquals(60.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10L});
+        inputHandler.send(new Object[]{2, 30L});
+        inputHandler.send(new Object[]{3, 100L});
+        inputHandler.send(new Object[]{4, 40L});
+        inputHandler.send(new Object[]{5, 80L});
+        inputHandler.send(new Object[]{6, 60L});
+        inputHandler.send(new Object[]{7, 20L});
+        inputHandler.send(new Object[]{8, 90L});
+        inputHandler.send(new Object[]{9, 70L});
+        inputHandler.send(new Object[]{10, 50L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testPercentileFunctionExtensionInvalidMode() throws Exception {
+        logger.info("PercentileFunctionExtension invalid mode test case.");
+
+        siddhiManager = new SiddhiManager();
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 97.0, 'heap') as percentile "
+                + "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionTDigest1() throws Exception {
+        logger.info("PercentileFunctionExtension length window test case with tdigest mode.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 97.0, 'tdigest', 100) as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(30.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 7:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 8:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 9:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 10:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10L});
+        inputHandler.send(new Object[]{2, 30L});
+        inputHandler.send(new Object[]{3, 100L});
+        inputHandler.send(new Object[]{4, 40L});
+        inputHandler.send(new Object[]{5, 80L});
+        inputHandler.send(new Object[]{6, 60L});
+        inputHandler.send(new Object[]{7, 20L});
+        inputHandler.send(new Object[]{8, 90L});
+        inputHandler.send(new Object[]{9, 70L});
+        inputHandler.send(new Object[]{10, 50L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testPercentileFunctionExtensionInvalidPrecision() throws Exception {
+        logger.info("PercentileFunctionExtension invalid tdigest compression test case.");
+
+        siddhiManager = new SiddhiManager();
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 97.0, 'tdigest', 5) as percentile "
+                + "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionHdr1() throws Exception {
+        logger.info("PercentileFunctionExtension length window test case with hdr mode.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 97.0, 'hdr', 2) as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(30.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 7:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 8:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 9:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 10:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10L});
+        inputHandler.send(new Object[]{2, 30L});
+        inputHandler.send(new Object[]{3, 100L});
+        inputHandler.send(new Object[]{4, 40L});
+        inputHandler.send(new Object[]{5, 80L});
+        inputHandler.send(new Object[]{6, 60L});
+        inputHandler.send(new Object[]{7, 20L});
+        inputHandler.send(new Object[]{8, 90L});
+        inputHandler.send(new Object[]{9, 70L});
+        inputHandler.send(new Object[]{10, 50L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionHdrNegative() throws Exception {
+        logger.info("PercentileFunctionExtension length window test case with hdr mode and negative values.");
+
+        final int expectedNoOfEvents = 6;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 50.0, 'hdr') as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(-20.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(-20.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(-5.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(-5.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, -20L});
+        inputHandler.send(new Object[]{2, 10L});
+        inputHandler.send(new Object[]{3, -5L});
+        inputHandler.send(new Object[]{4, 30L});
+        inputHandler.send(new Object[]{5, 100L});
+        inputHandler.send(new Object[]{6, -40L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(6, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testPercentileFunctionExtensionHdrInvalidType() throws Exception {
+        logger.info("PercentileFunctionExtension hdr mode with double values test case.");
+
+        siddhiManager = new SiddhiManager();
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 97.0, 'hdr') as percentile "
+                + "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionFrequency1() throws Exception {
+        logger.info("PercentileFunctionExtension length window test case with frequency mode.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 97.0, 'frequency') as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_INT + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(30.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 7:
+                            AssertJUnit.assertEquals(100.0, event.getData(0));
+                            break;
+                        case 8:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 9:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        case 10:
+                            AssertJUnit.assertEquals(90.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10});
+        inputHandler.send(new Object[]{2, 30});
+        inputHandler.send(new Object[]{3, 100});
+        inputHandler.send(new Object[]{4, 40});
+        inputHandler.send(new Object[]{5, 80});
+        inputHandler.send(new Object[]{6, 60});
+        inputHandler.send(new Object[]{7, 20});
+        inputHandler.send(new Object[]{8, 90});
+        inputHandler.send(new Object[]{9, 70});
+        inputHandler.send(new Object[]{10, 50});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionGroupBy() throws Exception {
+        logger.info("PercentileFunctionExtension group by test case.");
+
+        final int expectedNoOfEvents = 6;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream "
+                + "select sensorId, math:percentile(temperature, 50.0) as percentile "
+                + "group by sensorId "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(1));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(100.0, event.getData(1));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(20.0, event.getData(1));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(150.0, event.getData(1));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(30.0, event.getData(1));
+                            break;
+                        case 6:
+                            AssertJUnit.assertEquals(200.0, event.getData(1));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10d});
+        inputHandler.send(new Object[]{2, 100d});
+        inputHandler.send(new Object[]{1, 30d});
+        inputHandler.send(new Object[]{2, 200d});
+        inputHandler.send(new Object[]{1, 50d});
+        inputHandler.send(new Object[]{2, 300d});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(6, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionLargeWindow() throws Exception {
+        logger.info("PercentileFunctionExtension large window with rate limited output test case.");
+
+        final int expectedNoOfEvents = 3;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(10000) "
+                + "select math:percentile(temperature, 50.0) as percentile "
+                + "output last every 10000 events "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(4999.5, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(14999.5, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(24999.5, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        for (int i = 0; i < 30000; i++) {
+            inputHandler.send(new Object[]{1, (double) i});
+        }
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(3, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionLargeBatch() throws Exception {
+        logger.info("PercentileFunctionExtension large lengthBatch window test case.");
+
+        final int expectedNoOfEvents = 2;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.lengthBatch(100000) "
+                + "select math:percentile(temperature, 99.0) as percentile "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_INT + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(98999.5, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(198999.5, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        for (int batch = 0; batch < 2; batch++) {
+            for (int i = 0; i < 100000; i++) {
+                // visits each value from 0 to 99999 once, in a scattered order
+                inputHandler.send(new Object[]{1, batch * 100000 + (int) (i * 7919L % 100000)});
+            }
+        }
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(2, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionPersistence() throws Exception {
+        logger.info("PercentileFunctionExtension snapshot and restore test case.");
+
+        final int expectedNoOfEvents = 5;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+        siddhiManager.setPersistenceStore(new InMemoryPersistenceStore());
+
+        String executionPlan = ("@app:name('PercentileApp') "
+                + "@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 50.0) as percentile "
+                + "insert into outputStream;");
+        QueryCallback queryCallback = new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(20.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(30.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(35.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(40.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        };
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+        siddhiAppRuntime.addCallback("query1", queryCallback);
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10d});
+        inputHandler.send(new Object[]{2, 30d});
+        inputHandler.send(new Object[]{3, 100d});
+
+        siddhiAppRuntime.persist();
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+        siddhiAppRuntime.addCallback("query1", queryCallback);
+        inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        siddhiAppRuntime.restoreLastRevision();
+
+        inputHandler.send(new Object[]{4, 40d});
+        inputHandler.send(new Object[]{5, 80d});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(5, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionIncrementalPersistence() throws Exception {
+        logger.info("PercentileFunctionExtension incremental snapshot and restore test case.");
+
+        final int expectedNoOfEvents = 5;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+        siddhiManager.setIncrementalPersistenceStore(
+                new IncrementalFileSystemPersistenceStore("target/temp/incremental"));
+
+        String executionPlan = ("@app:name('IncrementalPercentileApp') "
+                + "@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentile(temperature, 50.0) as percentile "
+                + "insert into outputStream;");
+        QueryCallback queryCallback = new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertEquals(10.0, event.getData(0));
+                            break;
+                        case 2:
+                            AssertJUnit.assertEquals(20.0, event.getData(0));
+                            break;
+                        case 3:
+                            AssertJUnit.assertEquals(30.0, event.getData(0));
+                            break;
+                        case 4:
+                            AssertJUnit.assertEquals(35.0, event.getData(0));
+                            break;
+                        case 5:
+                            AssertJUnit.assertEquals(40.0, event.getData(0));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        };
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+        siddhiAppRuntime.addCallback("query1", queryCallback);
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10d});
+        inputHandler.send(new Object[]{2, 30d});
+        inputHandler.send(new Object[]{3, 100d});
+        // the first snapshot is a base one, and the second one only holds the value added after it
+        siddhiAppRuntime.persist();
+        Thread.sleep(100);
+        inputHandler.send(new Object[]{4, 40d});
+        siddhiAppRuntime.persist();
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+        siddhiAppRuntime.addCallback("query1", queryCallback);
+        inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        siddhiAppRuntime.restoreLastRevision();
+
+        inputHandler.send(new Object[]{5, 80d});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(5, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionLegacySnapshot() {
+        logger.info("PercentileFunctionExtension restore of a snapshot taken before the primitive stores.");
+
+        // the percentile states used to snapshot their sorted values as a boxed list, where int and long values
+        // were narrowed to floats
+        List<Object> legacyValues = new ArrayList<>(Arrays.asList(10.0, 30.0, 40.0, 100.0));
+        legacyValues.add(80.0f);
+        Map<String, Object> legacySnapshot = Collections.singletonMap("VALUES_LIST", legacyValues);
+        for (String modeName : new String[]{"array", "tree", "frequency"}) {
+            PercentileStore store = PercentileMode.fromName(modeName).newStore();
+            PercentileStore incrementalStore = new IncrementalPercentileStore(
+                    PercentileMode.fromName(modeName).newStore());
+            for (PercentileStore restoredStore : new PercentileStore[]{store, incrementalStore}) {
+                restoredStore.restore(legacySnapshot);
+                AssertJUnit.assertEquals(modeName, 5, restoredStore.size());
+                AssertJUnit.assertEquals(modeName, 40.0, restoredStore.percentile(50.0));
+                AssertJUnit.assertEquals(modeName, 100.0, restoredStore.percentile(100.0));
+                // the restored values are removed and added as those of the current snapshots are
+                AssertJUnit.assertTrue(modeName, restoredStore.remove(80.0));
+                restoredStore.add(20.0);
+                AssertJUnit.assertEquals(modeName, 30.0, restoredStore.percentile(50.0));
+                AssertJUnit.assertEquals(modeName, 10.0, restoredStore.percentile(1.0));
+            }
+        }
+    }
+
+    @Test
+    public void testPercentileFunctionExtensionIncrementalStores() {
+        logger.info("PercentileFunctionExtension stores persisted incrementally test case.");
+
+        for (String modeName : new String[]{"array", "tree"}) {
+            AssertJUnit.assertTrue(modeName, IncrementalPercentileStore.wrap(
+                    PercentileMode.fromName(modeName).newStore()) instanceof IncrementalPercentileStore);
+        }
+        // the frequency table and the sketches are persisted as a whole, as their state does not grow with the window
+        for (String modeName : new String[]{"frequency", "tdigest"}) {
+            PercentileStore store = PercentileMode.fromName(modeName).newStore();
+            AssertJUnit.assertTrue(modeName, IncrementalPercentileStore.wrap(store) == store);
+        }
+    }
 }
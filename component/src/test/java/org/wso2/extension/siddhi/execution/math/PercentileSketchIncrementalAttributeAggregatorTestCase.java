@@ -0,0 +1,102 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class PercentileSketchIncrementalAttributeAggregatorTestCase {
+    private static final String INPUT_STREAM = "define stream inputStream (sensorId int, latency double, " +
+            "timestamp long);";
+    // start of a minute, in milliseconds
+    private static final long MINUTE_START = 1496289900000L;
+    protected static SiddhiManager siddhiManager;
+    private static Logger logger = Logger.getLogger(PercentileSketchIncrementalAttributeAggregatorTestCase.class);
+
+    @Test
+    public void testPercentileSketchIncrementalAggregation1() throws Exception {
+        logger.info("PercentileSketchIncrementalAttributeAggregator seconds and minutes test case.");
+
+        siddhiManager = new SiddhiManager();
+
+        String aggregation = ("define aggregation latencyAggregation "
+                + "from inputStream "
+                + "select sensorId, percentileSketch(latency) as latencySketch "
+                + "group by sensorId "
+                + "aggregate by timestamp every sec ... min;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(INPUT_STREAM + aggregation);
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        // the sketches hold fewer values than their capacity, hence the percentiles are exact
+        for (int i = 1; i <= 100; i++) {
+            inputHandler.send(new Object[]{1, (double) i, MINUTE_START + 1000});
+        }
+        for (int i = 101; i <= 200; i++) {
+            inputHandler.send(new Object[]{1, (double) i, MINUTE_START + 2000});
+        }
+        Thread.sleep(100);
+
+        Event[] events = siddhiAppRuntime.query("from latencyAggregation "
+                + "within " + MINUTE_START + "L, " + (MINUTE_START + 60000) + "L "
+                + "per 'seconds' "
+                + "select AGG_TIMESTAMP, math:percentileOfSketch(latencySketch, 50.0) as percentile "
+                + "order by AGG_TIMESTAMP;");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(2, events.length);
+        AssertJUnit.assertEquals(MINUTE_START + 1000, events[0].getData(0));
+        AssertJUnit.assertEquals(50.0, events[0].getData(1));
+        AssertJUnit.assertEquals(MINUTE_START + 2000, events[1].getData(0));
+        AssertJUnit.assertEquals(150.0, events[1].getData(1));
+
+        // the minute is summarised by merging the sketches of its seconds
+        events = siddhiAppRuntime.query("from latencyAggregation "
+                + "within " + MINUTE_START + "L, " + (MINUTE_START + 60000) + "L "
+                + "per 'minutes' "
+                + "select AGG_TIMESTAMP, math:percentileOfSketch(latencySketch, 50.0) as percentile;");
+        EventPrinter.print(events);
+        AssertJUnit.assertEquals(1, events.length);
+        AssertJUnit.assertEquals(MINUTE_START, events[0].getData(0));
+        AssertJUnit.assertEquals(100.0, events[0].getData(1));
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testPercentileSketchIncrementalAggregationInvalidType() throws Exception {
+        logger.info("PercentileSketchIncrementalAttributeAggregator invalid type test case.");
+
+        siddhiManager = new SiddhiManager();
+
+        String aggregation = ("define stream inputStream (sensorId int, name string, timestamp long);"
+                + "define aggregation nameAggregation "
+                + "from inputStream "
+                + "select sensorId, percentileSketch(name) as nameSketch "
+                + "group by sensorId "
+                + "aggregate by timestamp every sec ... min;");
+        siddhiManager.createSiddhiAppRuntime(aggregation);
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.EventPrinter;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+public class PercentilesFunctionExtensionTestCase {
+    private static final String INPUT_STREAM_DOUBLE = "define stream inputStream (sensorId int, temperature double);";
+    private static final String INPUT_STREAM_LONG = "define stream inputStream (sensorId int, temperature long);";
+    protected static SiddhiManager siddhiManager;
+    private static Logger logger = Logger.getLogger(PercentilesFunctionExtensionTestCase.class);
+    private CountDownLatch countDownLatch;
+    private volatile int count;
+    private volatile boolean eventArrived;
+
+    @BeforeMethod
+    public void init() {
+        count = 0;
+        eventArrived = false;
+    }
+
+    @Test
+    public void testPercentilesFunctionExtension1() throws Exception {
+        logger.info("PercentilesFunctionExtension length window test case.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentiles(temperature, 50.0, 97.0) as percentiles "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{10.0, 10.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 2:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{20.0, 30.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 3:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{30.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 4:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{35.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 5:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{40.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 6:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 7:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 8:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 9:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{70.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 10:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10L});
+        inputHandler.send(new Object[]{2, 30L});
+        inputHandler.send(new Object[]{3, 100L});
+        inputHandler.send(new Object[]{4, 40L});
+        inputHandler.send(new Object[]{5, 80L});
+        inputHandler.send(new Object[]{6, 60L});
+        inputHandler.send(new Object[]{7, 20L});
+        inputHandler.send(new Object[]{8, 90L});
+        inputHandler.send(new Object[]{9, 70L});
+        inputHandler.send(new Object[]{10, 50L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentilesFunctionExtension2() throws Exception {
+        logger.info("PercentilesFunctionExtension length window test case with tree mode.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentiles(temperature, 50.0, 97.0, 'tree') as percentiles "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{10.0, 10.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 2:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{20.0, 30.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 3:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{30.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 4:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{35.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 5:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{40.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 6:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 7:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 8:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 9:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{70.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 10:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10L});
+        inputHandler.send(new Object[]{2, 30L});
+        inputHandler.send(new Object[]{3, 100L});
+        inputHandler.send(new Object[]{4, 40L});
+        inputHandler.send(new Object[]{5, 80L});
+        inputHandler.send(new Object[]{6, 60L});
+        inputHandler.send(new Object[]{7, 20L});
+        inputHandler.send(new Object[]{8, 90L});
+        inputHandler.send(new Object[]{9, 70L});
+        inputHandler.send(new Object[]{10, 50L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentilesFunctionExtensionHdr() throws Exception {
+        logger.info("PercentilesFunctionExtension length window test case with hdr mode and precision.");
+
+        final int expectedNoOfEvents = 10;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentiles(temperature, 50.0, 97.0, 'hdr', 2) as percentiles "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{10.0, 10.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 2:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{10.0, 30.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 3:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{30.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 4:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{30.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 5:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{40.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 6:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 7:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 8:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 9:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{70.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 10:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10L});
+        inputHandler.send(new Object[]{2, 30L});
+        inputHandler.send(new Object[]{3, 100L});
+        inputHandler.send(new Object[]{4, 40L});
+        inputHandler.send(new Object[]{5, 80L});
+        inputHandler.send(new Object[]{6, 60L});
+        inputHandler.send(new Object[]{7, 20L});
+        inputHandler.send(new Object[]{8, 90L});
+        inputHandler.send(new Object[]{9, 70L});
+        inputHandler.send(new Object[]{10, 50L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(10, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test
+    public void testPercentilesFunctionExtensionLengthBatch() throws Exception {
+        logger.info("PercentilesFunctionExtension lengthBatch window test case.");
+
+        final int expectedNoOfEvents = 2;
+        countDownLatch = new CountDownLatch(expectedNoOfEvents);
+        siddhiManager = new SiddhiManager();
+
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.lengthBatch(5) "
+                + "select math:percentiles(temperature, 50.0, 97.0) as percentiles "
+                + "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager
+                .createSiddhiAppRuntime(INPUT_STREAM_LONG + executionPlan);
+
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                eventArrived = true;
+                for (Event event : inEvents) {
+                    countDownLatch.countDown();
+                    count++;
+                    switch (count) {
+                        case 1:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{40.0, 100.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        case 2:
+                            AssertJUnit.assertTrue(Arrays.equals(new double[]{60.0, 90.0},
+                                                                 (double[]) event.getData(0)));
+                            break;
+                        default:
+                            AssertJUnit.fail();
+                    }
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+
+        inputHandler.send(new Object[]{1, 10L});
+        inputHandler.send(new Object[]{2, 30L});
+        inputHandler.send(new Object[]{3, 100L});
+        inputHandler.send(new Object[]{4, 40L});
+        inputHandler.send(new Object[]{5, 80L});
+        inputHandler.send(new Object[]{6, 60L});
+        inputHandler.send(new Object[]{7, 20L});
+        inputHandler.send(new Object[]{8, 90L});
+        inputHandler.send(new Object[]{9, 70L});
+        inputHandler.send(new Object[]{10, 50L});
+
+        countDownLatch.await(1000, MILLISECONDS);
+        AssertJUnit.assertEquals(2, count);
+        AssertJUnit.assertTrue(eventArrived);
+        siddhiAppRuntime.shutdown();
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testPercentilesFunctionExtensionNoPercentile() throws Exception {
+        logger.info("PercentilesFunctionExtension missing percentile test case.");
+
+        siddhiManager = new SiddhiManager();
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentiles(temperature, 'tree') as percentiles "
+                + "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testPercentilesFunctionExtensionInvalidPercentile() throws Exception {
+        logger.info("PercentilesFunctionExtension invalid percentile test case.");
+
+        siddhiManager = new SiddhiManager();
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentiles(temperature, 50.0, 150.0) as percentiles "
+                + "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testPercentilesFunctionExtensionArrayPrecision() throws Exception {
+        logger.info("PercentilesFunctionExtension precision with array mode test case.");
+
+        siddhiManager = new SiddhiManager();
+        String executionPlan = ("@info(name = 'query1') from inputStream#window.length(5) "
+                + "select math:percentiles(temperature, 50.0, 'array', 2) as percentiles "
+                + "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_DOUBLE + executionPlan);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class RandomChoiceFunctionExtensionTestCase {
+    private static final String INPUT_STREAM = "define stream inputStream (symbol string, weight double);";
+    private static Logger log = Logger.getLogger(RandomChoiceFunctionExtensionTestCase.class);
+
+    @Test
+    public void testRandomChoiceWithSeed() throws InterruptedException {
+        log.info("RandomChoiceFunctionExtension TestCase, with seed");
+        Object[][] events = new Object[1000][];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Object[]{"IBM", 1d};
+        }
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randChoice(0.25, 0.0, 0.75, 11)", events);
+        AssertJUnit.assertEquals(1000, results.size());
+        AssertJUnit.assertEquals(results, runQuery(INPUT_STREAM, "", "math:randChoice(0.25, 0.0, 0.75, 11)", events));
+        int lastIndexCount = 0;
+        for (Object result : results) {
+            int index = (Integer) result;
+            AssertJUnit.assertTrue(index == 0 || index == 2);
+            if (index == 2) {
+                lastIndexCount++;
+            }
+        }
+        // index 2 has a probability of 0.75, hence a standard error of 14 in 1000 draws
+        AssertJUnit.assertEquals(750d, lastIndexCount, 5 * 14d);
+    }
+
+    @Test
+    public void testRandomChoiceSingleWeight() throws InterruptedException {
+        log.info("RandomChoiceFunctionExtension TestCase, single weight");
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randChoice(2.0)", new Object[]{"IBM", 1d},
+                new Object[]{"WSO2", 1d});
+        AssertJUnit.assertEquals(2, results.size());
+        AssertJUnit.assertEquals(0, results.get(0));
+        AssertJUnit.assertEquals(0, results.get(1));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseZeroWeights() throws InterruptedException {
+        log.info("RandomChoiceFunctionExtension exceptionTestCaseZeroWeights");
+        createApp(INPUT_STREAM, "math:randChoice(0.0, 0.0)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseNegativeWeight() throws InterruptedException {
+        log.info("RandomChoiceFunctionExtension exceptionTestCaseNegativeWeight");
+        createApp(INPUT_STREAM, "math:randChoice(0.5, -0.5)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseVariableWeight() throws InterruptedException {
+        log.info("RandomChoiceFunctionExtension exceptionTestCaseVariableWeight");
+        createApp(INPUT_STREAM, "math:randChoice(weight, 0.5)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseOnlySeed() throws InterruptedException {
+        log.info("RandomChoiceFunctionExtension exceptionTestCaseOnlySeed");
+        createApp(INPUT_STREAM, "math:randChoice(5)");
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class RandomExponentialFunctionExtensionTestCase {
+    private static final String INPUT_STREAM = "define stream inputStream (rate double);";
+    private static Logger log = Logger.getLogger(RandomExponentialFunctionExtensionTestCase.class);
+
+    @Test
+    public void testRandomExponentialWithSeed() throws InterruptedException {
+        log.info("RandomExponentialFunctionExtension TestCase, with seed");
+        Object[][] events = new Object[100][];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Object[]{2d};
+        }
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randExponential(rate, 7L)", events);
+        AssertJUnit.assertEquals(100, results.size());
+        AssertJUnit.assertEquals(results, runQuery(INPUT_STREAM, "", "math:randExponential(rate, 7L)", events));
+        double sum = 0;
+        for (Object result : results) {
+            AssertJUnit.assertTrue((Double) result >= 0);
+            sum += (Double) result;
+        }
+        // the mean of 100 numbers is within 5 standard errors of the mean 1/rate
+        AssertJUnit.assertEquals(0.5d, sum / results.size(), 5 * 0.5d / 10);
+    }
+
+    @Test
+    public void testRandomExponentialWithoutSeed() throws InterruptedException {
+        log.info("RandomExponentialFunctionExtension TestCase, without seed");
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randExponential(4)", new Object[]{1d},
+                new Object[]{1d});
+        AssertJUnit.assertEquals(2, results.size());
+        AssertJUnit.assertTrue((Double) results.get(0) >= 0);
+        AssertJUnit.assertTrue((Double) results.get(1) >= 0);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseZeroRate() throws InterruptedException {
+        log.info("RandomExponentialFunctionExtension exceptionTestCaseZeroRate");
+        createApp(INPUT_STREAM, "math:randExponential(0)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseStringRate() throws InterruptedException {
+        log.info("RandomExponentialFunctionExtension exceptionTestCaseStringRate");
+        createApp(INPUT_STREAM, "math:randExponential('1')");
+    }
+}
@@ -25,11 +25,18 @@ import io.siddhi.core.exception.SiddhiAppCreationException;
 import io.siddhi.core.query.output.callback.QueryCallback;
 import io.siddhi.core.stream.input.InputHandler;
 import io.siddhi.core.util.EventPrinter;
+import io.siddhi.core.util.config.InMemoryConfigManager;
 import org.apache.log4j.Logger;
 import org.testng.AssertJUnit;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
 public class RandomFunctionExtensionTestCase {
     private static Logger log = Logger.getLogger(RandomFunctionExtensionTestCase.class);
     private volatile int count;
@@ -248,4 +255,57 @@ public class RandomFunctionExtensionTestCase {
         AssertJUnit.assertEquals(3, count);
         AssertJUnit.assertTrue(eventArrived);
     }
+
+    @Test
+    public void testRandomFunctionExtensionPerThreadWithSeed() throws InterruptedException {
+        log.info("RandomFunctionExtension TestCase, per thread generators with seed");
+        Map<String, String> masterConfigs = new HashMap<>();
+        masterConfigs.put("math.rand.generator", "perThread");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(masterConfigs, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long, volume long);";
+        String query = ("@info(name = 'query1') from inputStream select symbol , math:rand(12) as randNumber " +
+                "insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+        final List<Object> randNumbers = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    randNumbers.add(event.getData(1));
+                }
+            }
+        });
+
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{"IBM", 700f, 100L});
+        inputHandler.send(new Object[]{"WSO2", 60.5f, 200L});
+        inputHandler.send(new Object[]{"XYZ", 60.5f, 200L});
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+        // the sending thread is the first to call the function, hence it gets the first split of the seed
+        SplittableRandom expected = new SplittableRandom(12).split();
+        List<Object> expectedNumbers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expectedNumbers.add(expected.nextDouble());
+        }
+        AssertJUnit.assertEquals(expectedNumbers, randNumbers);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void testRandomFunctionExtensionInvalidGenerator() throws InterruptedException {
+        log.info("RandomFunctionExtension TestCase, invalid generator");
+        Map<String, String> masterConfigs = new HashMap<>();
+        masterConfigs.put("math.rand.generator", "pooled");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setConfigManager(new InMemoryConfigManager(masterConfigs, null));
+
+        String inStreamDefinition = "define stream inputStream (symbol string, price long, volume long);";
+        String query = ("@info(name = 'query1') from inputStream select symbol , math:rand() as randNumber " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(inStreamDefinition + query);
+    }
 }
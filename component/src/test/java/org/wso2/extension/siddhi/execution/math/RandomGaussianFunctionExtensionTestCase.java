@@ -0,0 +1,80 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class RandomGaussianFunctionExtensionTestCase {
+    private static final String INPUT_STREAM = "define stream inputStream (mean double, stdDev double);";
+    private static Logger log = Logger.getLogger(RandomGaussianFunctionExtensionTestCase.class);
+
+    @Test
+    public void testRandomGaussianWithSeed() throws InterruptedException {
+        log.info("RandomGaussianFunctionExtension TestCase, with seed");
+        Object[][] events = new Object[100][];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Object[]{50d, 2d};
+        }
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randGaussian(mean, stdDev, 12)", events);
+        AssertJUnit.assertEquals(100, results.size());
+        AssertJUnit.assertEquals(results, runQuery(INPUT_STREAM, "", "math:randGaussian(mean, stdDev, 12)", events));
+        double sum = 0;
+        for (Object result : results) {
+            sum += (Double) result;
+        }
+        // the mean of 100 numbers is within 5 standard errors of the mean 50
+        AssertJUnit.assertEquals(50d, sum / results.size(), 5 * 2d / 10);
+    }
+
+    @Test
+    public void testRandomGaussianZeroStdDev() throws InterruptedException {
+        log.info("RandomGaussianFunctionExtension TestCase, zero standard deviation");
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randGaussian(mean, 0)", new Object[]{3.5d, 1d},
+                new Object[]{-2d, 1d});
+        AssertJUnit.assertEquals(2, results.size());
+        AssertJUnit.assertEquals(3.5d, results.get(0));
+        AssertJUnit.assertEquals(-2d, results.get(1));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseNegativeStdDev() throws InterruptedException {
+        log.info("RandomGaussianFunctionExtension exceptionTestCaseNegativeStdDev");
+        createApp(INPUT_STREAM, "math:randGaussian(mean, -1.0)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseVariableSeed() throws InterruptedException {
+        log.info("RandomGaussianFunctionExtension exceptionTestCaseVariableSeed");
+        createApp(INPUT_STREAM, "math:randGaussian(mean, stdDev, mean)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseArguments() throws InterruptedException {
+        log.info("RandomGaussianFunctionExtension exceptionTestCaseArguments");
+        createApp(INPUT_STREAM, "math:randGaussian(mean)");
+    }
+}
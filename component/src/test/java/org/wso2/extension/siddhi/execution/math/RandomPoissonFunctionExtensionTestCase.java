@@ -0,0 +1,81 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class RandomPoissonFunctionExtensionTestCase {
+    private static final String INPUT_STREAM = "define stream inputStream (mean double);";
+    private static Logger log = Logger.getLogger(RandomPoissonFunctionExtensionTestCase.class);
+
+    @Test
+    public void testRandomPoissonWithSeed() throws InterruptedException {
+        log.info("RandomPoissonFunctionExtension TestCase, with seed");
+        Object[][] events = new Object[200][];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Object[]{i % 2 == 0 ? 4d : 400d};
+        }
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randPoisson(mean, 3)", events);
+        AssertJUnit.assertEquals(200, results.size());
+        AssertJUnit.assertEquals(results, runQuery(INPUT_STREAM, "", "math:randPoisson(mean, 3)", events));
+        double smallSum = 0;
+        double largeSum = 0;
+        for (int i = 0; i < results.size(); i++) {
+            long count = (Long) results.get(i);
+            AssertJUnit.assertTrue(count >= 0);
+            if (i % 2 == 0) {
+                smallSum += count;
+            } else {
+                largeSum += count;
+            }
+        }
+        // the means of 100 counts are within 5 standard errors of the means 4 and 400
+        AssertJUnit.assertEquals(4d, smallSum / 100, 5 * 2d / 10);
+        AssertJUnit.assertEquals(400d, largeSum / 100, 5 * 20d / 10);
+    }
+
+    @Test
+    public void testRandomPoissonZeroMean() throws InterruptedException {
+        log.info("RandomPoissonFunctionExtension TestCase, zero mean");
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randPoisson(0)", new Object[]{1d}, new Object[]{1d});
+        AssertJUnit.assertEquals(2, results.size());
+        AssertJUnit.assertEquals(0L, results.get(0));
+        AssertJUnit.assertEquals(0L, results.get(1));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseNegativeMean() throws InterruptedException {
+        log.info("RandomPoissonFunctionExtension exceptionTestCaseNegativeMean");
+        createApp(INPUT_STREAM, "math:randPoisson(-1)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseFloatSeed() throws InterruptedException {
+        log.info("RandomPoissonFunctionExtension exceptionTestCaseFloatSeed");
+        createApp(INPUT_STREAM, "math:randPoisson(mean, 1.5f)");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class RandomZipfFunctionExtensionTestCase {
+    private static final String INPUT_STREAM = "define stream inputStream (symbol string);";
+    private static Logger log = Logger.getLogger(RandomZipfFunctionExtensionTestCase.class);
+
+    @Test
+    public void testRandomZipfWithSeed() throws InterruptedException {
+        log.info("RandomZipfFunctionExtension TestCase, with seed");
+        Object[][] events = new Object[1000][];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Object[]{"IBM"};
+        }
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randZipf(10, 2.0, 5)", events);
+        AssertJUnit.assertEquals(1000, results.size());
+        AssertJUnit.assertEquals(results, runQuery(INPUT_STREAM, "", "math:randZipf(10, 2.0, 5)", events));
+        int firstRankCount = 0;
+        for (Object result : results) {
+            int rank = (Integer) result;
+            AssertJUnit.assertTrue(rank >= 1 && rank <= 10);
+            if (rank == 1) {
+                firstRankCount++;
+            }
+        }
+        // rank 1 has a probability of 0.645, hence a standard error of 15 in 1000 draws
+        AssertJUnit.assertEquals(645d, firstRankCount, 5 * 15d);
+    }
+
+    @Test
+    public void testRandomZipfSingleRank() throws InterruptedException {
+        log.info("RandomZipfFunctionExtension TestCase, single rank");
+        List<Object> results = runQuery(INPUT_STREAM, "", "math:randZipf(1, 1)", new Object[]{"IBM"},
+                new Object[]{"WSO2"});
+        AssertJUnit.assertEquals(2, results.size());
+        AssertJUnit.assertEquals(1, results.get(0));
+        AssertJUnit.assertEquals(1, results.get(1));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseZeroRanks() throws InterruptedException {
+        log.info("RandomZipfFunctionExtension exceptionTestCaseZeroRanks");
+        createApp(INPUT_STREAM, "math:randZipf(0, 1.0)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseTooManyRanks() throws InterruptedException {
+        log.info("RandomZipfFunctionExtension exceptionTestCaseTooManyRanks");
+        createApp(INPUT_STREAM, "math:randZipf(2000000, 1.0)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseNegativeExponent() throws InterruptedException {
+        log.info("RandomZipfFunctionExtension exceptionTestCaseNegativeExponent");
+        createApp(INPUT_STREAM, "math:randZipf(10, -1.0)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseVariableRanks() throws InterruptedException {
+        log.info("RandomZipfFunctionExtension exceptionTestCaseVariableRanks");
+        createApp(INPUT_STREAM, "math:randZipf(symbol, 1.0)");
+    }
+}
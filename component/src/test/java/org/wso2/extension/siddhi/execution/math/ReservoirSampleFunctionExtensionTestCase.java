@@ -0,0 +1,192 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.persistence.InMemoryPersistenceStore;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class ReservoirSampleFunctionExtensionTestCase {
+    private static final String INPUT_STREAM_LONG = "define stream inputStream (sensorId int, temperature long);";
+    private static Logger log = Logger.getLogger(ReservoirSampleFunctionExtensionTestCase.class);
+
+    @Test
+    public void testReservoirSampleLengthWindow() throws InterruptedException {
+        log.info("ReservoirSampleFunctionExtension TestCase, length window smaller than the sample");
+        List<double[]> results = runQuery(INPUT_STREAM_LONG, "#window.length(3)",
+                                          "math:reservoirSample(temperature, 5)",
+                                          new Object[]{1, 10L}, new Object[]{2, 20L}, new Object[]{3, 30L},
+                                          new Object[]{4, 40L}, new Object[]{5, 50L});
+        AssertJUnit.assertEquals(5, results.size());
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{10.0}, sorted(results.get(0))));
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{10.0, 20.0}, sorted(results.get(1))));
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{10.0, 20.0, 30.0}, sorted(results.get(2))));
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{20.0, 30.0, 40.0}, sorted(results.get(3))));
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{30.0, 40.0, 50.0}, sorted(results.get(4))));
+    }
+
+    @Test
+    public void testReservoirSampleWithSeed() throws InterruptedException {
+        log.info("ReservoirSampleFunctionExtension TestCase, with seed");
+        Object[][] events = new Object[10000][];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new Object[]{i, (long) i};
+        }
+        List<double[]> results = runQuery(INPUT_STREAM_LONG, "", "math:reservoirSample(temperature, 100, 7)", events);
+        double[] sample = results.get(results.size() - 1);
+        AssertJUnit.assertEquals(100, sample.length);
+        List<double[]> rerunResults = runQuery(INPUT_STREAM_LONG, "", "math:reservoirSample(temperature, 100, 7)",
+                                               events);
+        AssertJUnit.assertTrue(Arrays.equals(sample, rerunResults.get(events.length - 1)));
+        double sum = 0;
+        double[] sortedSample = sorted(sample);
+        for (int i = 0; i < sortedSample.length; i++) {
+            AssertJUnit.assertTrue(sortedSample[i] >= 0 && sortedSample[i] < events.length);
+            AssertJUnit.assertTrue(i == 0 || sortedSample[i] > sortedSample[i - 1]);
+            sum += sortedSample[i];
+        }
+        // the mean of 100 values sampled out of 10000 has a standard error of about 289
+        AssertJUnit.assertEquals(4999.5, sum / sample.length, 5 * 289d);
+    }
+
+    @Test
+    public void testReservoirSampleDuplicateValues() throws InterruptedException {
+        log.info("ReservoirSampleFunctionExtension TestCase, expired duplicates of a sampled value");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String query = "@info(name = 'query1') from inputStream#window.length(2) " +
+                "select math:reservoirSample(temperature, 1) as sample insert all events into outputStream;";
+        final List<double[]> expiredResults = new ArrayList<>();
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_LONG + query);
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                if (removeEvents != null) {
+                    for (Event event : removeEvents) {
+                        expiredResults.add((double[]) event.getData(0));
+                    }
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{1, 5L});
+        inputHandler.send(new Object[]{2, 5L});
+        inputHandler.send(new Object[]{3, 5L});
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+        // an equal value is still in the window when each event expires, hence the sample keeps it
+        AssertJUnit.assertEquals(1, expiredResults.size());
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{5.0}, expiredResults.get(0)));
+    }
+
+    @Test
+    public void testReservoirSamplePersistence() throws InterruptedException {
+        log.info("ReservoirSampleFunctionExtension snapshot and restore test case.");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setPersistenceStore(new InMemoryPersistenceStore());
+        String query = "@app:name('ReservoirSampleApp') @info(name = 'query1') from inputStream " +
+                "select math:reservoirSample(temperature, 10, 3) as sample insert into outputStream;";
+        final List<double[]> results = new ArrayList<>();
+        QueryCallback queryCallback = new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                for (Event event : inEvents) {
+                    results.add((double[]) event.getData(0));
+                }
+            }
+        };
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_LONG + query);
+        siddhiAppRuntime.addCallback("query1", queryCallback);
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        for (int i = 0; i < 100; i++) {
+            inputHandler.send(new Object[]{i, (long) i});
+        }
+        siddhiAppRuntime.persist();
+        Thread.sleep(100);
+        for (int i = 100; i < 200; i++) {
+            inputHandler.send(new Object[]{i, (long) i});
+        }
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+        AssertJUnit.assertEquals(200, results.size());
+        double[] expectedSample = results.get(199);
+
+        // the restored sample draws the same skips as the persisted one did, hence it ends with the same values
+        results.clear();
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_LONG + query);
+        siddhiAppRuntime.addCallback("query1", queryCallback);
+        inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        siddhiAppRuntime.restoreLastRevision();
+        for (int i = 100; i < 200; i++) {
+            inputHandler.send(new Object[]{i, (long) i});
+        }
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+        AssertJUnit.assertEquals(100, results.size());
+        AssertJUnit.assertEquals(10, expectedSample.length);
+        AssertJUnit.assertTrue(Arrays.equals(sorted(expectedSample), sorted(results.get(99))));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseZeroSampleSize() throws InterruptedException {
+        log.info("ReservoirSampleFunctionExtension exceptionTestCaseZeroSampleSize");
+        createApp(INPUT_STREAM_LONG, "math:reservoirSample(temperature, 0)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseVariableSampleSize() throws InterruptedException {
+        log.info("ReservoirSampleFunctionExtension exceptionTestCaseVariableSampleSize");
+        createApp(INPUT_STREAM_LONG, "math:reservoirSample(temperature, sensorId)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseDoubleSampleSize() throws InterruptedException {
+        log.info("ReservoirSampleFunctionExtension exceptionTestCaseDoubleSampleSize");
+        createApp(INPUT_STREAM_LONG, "math:reservoirSample(temperature, 10.0)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseMissingSampleSize() throws InterruptedException {
+        log.info("ReservoirSampleFunctionExtension exceptionTestCaseMissingSampleSize");
+        createApp(INPUT_STREAM_LONG, "math:reservoirSample(temperature)");
+    }
+
+    private static double[] sorted(double[] values) {
+        double[] copy = values.clone();
+        Arrays.sort(copy);
+        return copy;
+    }
+}
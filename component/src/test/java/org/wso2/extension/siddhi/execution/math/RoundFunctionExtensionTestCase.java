@@ -31,6 +31,10 @@ import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 import org.wso2.extension.siddhi.execution.math.util.UnitTestAppender;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 public class RoundFunctionExtensionTestCase {
     protected static SiddhiManager siddhiManager;
     private static Logger logger = Logger.getLogger(RoundFunctionExtensionTestCase.class);
@@ -157,4 +161,40 @@ public class RoundFunctionExtensionTestCase {
         Thread.sleep(100);
         siddhiAppRuntime.shutdown();
     }
+
+    @Test
+    public void testProcessOutsideResultCache() throws Exception {
+        logger.info("RoundFunctionExtension testProcessOutsideResultCache");
+
+        siddhiManager = new SiddhiManager();
+        String inValueStream = "define stream InValueStream (inValue double);";
+
+        String eventFuseExecutionPlan = ("@info(name = 'query1') from InValueStream "
+                                         + "select math:round(inValue) as roundValue "
+                                         + "insert into OutMediationStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(inValueStream +
+                                                                                             eventFuseExecutionPlan);
+        final List<Object> results = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents,
+                                Event[] removeEvents) {
+                EventPrinter.print(timeStamp, inEvents, removeEvents);
+                for (Event event : inEvents) {
+                    results.add(event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime
+                .getInputHandler("InValueStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{-1024.4d});
+        inputHandler.send(new Object[]{-1024.6d});
+        inputHandler.send(new Object[]{1024.4d});
+        inputHandler.send(new Object[]{1024.6d});
+        inputHandler.send(new Object[]{1024.4d});
+        Thread.sleep(100);
+        AssertJUnit.assertEquals(Arrays.<Object>asList(-1024L, -1025L, 1024L, 1025L, 1024L), results);
+        siddhiAppRuntime.shutdown();
+    }
 }
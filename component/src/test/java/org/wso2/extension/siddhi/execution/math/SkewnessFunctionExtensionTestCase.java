@@ -0,0 +1,96 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class SkewnessFunctionExtensionTestCase {
+    private static final String INPUT_STREAM_INT = "define stream inputStream (sensorId int, temperature int);";
+    private static final String INPUT_STREAM_DOUBLE = "define stream inputStream (sensorId int, temperature double);";
+    private static Logger log = Logger.getLogger(SkewnessFunctionExtensionTestCase.class);
+
+    @Test
+    public void testSkewness() throws InterruptedException {
+        log.info("SkewnessFunctionExtension TestCase, population skewness");
+        List<Object> results = runQuery(INPUT_STREAM_INT, "", "math:skewness(temperature)",
+                                        new Object[]{1, 2}, new Object[]{2, 4}, new Object[]{3, 4},
+                                        new Object[]{4, 4}, new Object[]{5, 5}, new Object[]{6, 5},
+                                        new Object[]{7, 7}, new Object[]{8, 9});
+        AssertJUnit.assertEquals(8, results.size());
+        // a single value has no spread, hence no skewness
+        AssertJUnit.assertNull(results.get(0));
+        AssertJUnit.assertEquals(0.0, (Double) results.get(1), 1e-9);
+        AssertJUnit.assertEquals(0.65625, (Double) results.get(7), 1e-9);
+    }
+
+    @Test
+    public void testSampleSkewnessLengthWindow() throws InterruptedException {
+        log.info("SkewnessFunctionExtension TestCase, sample skewness over a length window");
+        List<Object> results = runQuery(INPUT_STREAM_DOUBLE, "#window.length(4)", "math:skewness(temperature, true)",
+                                        new Object[]{1, 2d}, new Object[]{2, 4d}, new Object[]{3, 4d},
+                                        new Object[]{4, 4d}, new Object[]{5, 5d}, new Object[]{6, 5d},
+                                        new Object[]{7, 7d}, new Object[]{8, 9d});
+        AssertJUnit.assertEquals(8, results.size());
+        AssertJUnit.assertNull(results.get(1));
+        // the last window holds 5, 5, 7 and 9, whose squared and cubed deviations sum to 11 and 9
+        double skewness = 2 * 9 / Math.pow(11, 1.5);
+        AssertJUnit.assertEquals(skewness * Math.sqrt(4 * 3) / 2, (Double) results.get(7), 1e-9);
+    }
+
+    @Test
+    public void testSkewnessOfEqualValues() throws InterruptedException {
+        log.info("SkewnessFunctionExtension TestCase, equal values");
+        List<Object> results = runQuery(INPUT_STREAM_DOUBLE, "#window.length(2)", "math:skewness(temperature)",
+                                        new Object[]{1, 1d}, new Object[]{2, 3d}, new Object[]{3, 3d});
+        AssertJUnit.assertEquals(3, results.size());
+        AssertJUnit.assertEquals(0.0, (Double) results.get(1), 1e-9);
+        AssertJUnit.assertNull(results.get(2));
+    }
+
+    @Test
+    public void testSkewnessAfterEqualValues() throws InterruptedException {
+        log.info("SkewnessFunctionExtension TestCase, values following a window of equal values");
+        List<Object> results = runQuery(INPUT_STREAM_DOUBLE, "#window.length(3)", "math:skewness(temperature)",
+                                        new Object[]{1, 1e8}, new Object[]{2, 3d}, new Object[]{3, 0.1},
+                                        new Object[]{4, 0.1}, new Object[]{5, 0.1}, new Object[]{6, 0.7});
+        AssertJUnit.assertEquals(6, results.size());
+        // the rounding residue of 1e8 and 3 is dropped with them, hence 0.1, 0.1 and 0.7 skew as 1, 1 and 7 do
+        AssertJUnit.assertEquals(Math.sqrt(0.5), (Double) results.get(5), 1e-9);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseVariableSampleFlag() {
+        log.info("SkewnessFunctionExtension exceptionTestCaseVariableSampleFlag");
+        createApp("define stream inputStream (temperature double, sample bool);", "math:skewness(temperature, sample)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseStringValue() {
+        log.info("SkewnessFunctionExtension exceptionTestCaseStringValue");
+        createApp("define stream inputStream (temperature string);", "math:skewness(temperature)");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class StandardDeviationFunctionExtensionTestCase {
+    private static final String INPUT_STREAM_INT = "define stream inputStream (sensorId int, temperature int);";
+    private static final String INPUT_STREAM_FLOAT = "define stream inputStream (sensorId int, temperature float);";
+    private static Logger log = Logger.getLogger(StandardDeviationFunctionExtensionTestCase.class);
+
+    @Test
+    public void testStandardDeviationLengthWindow() throws InterruptedException {
+        log.info("StandardDeviationFunctionExtension TestCase, population standard deviation over a length window");
+        List<Object> results = runQuery(INPUT_STREAM_INT, "#window.length(4)", "math:stddev(temperature)",
+                                        new Object[]{1, 2}, new Object[]{2, 4}, new Object[]{3, 4},
+                                        new Object[]{4, 4}, new Object[]{5, 5}, new Object[]{6, 5},
+                                        new Object[]{7, 7}, new Object[]{8, 9});
+        AssertJUnit.assertEquals(8, results.size());
+        AssertJUnit.assertEquals(0.0, (Double) results.get(0), 1e-9);
+        AssertJUnit.assertEquals(1.0, (Double) results.get(1), 1e-9);
+        AssertJUnit.assertEquals(Math.sqrt(0.75), (Double) results.get(3), 1e-9);
+        AssertJUnit.assertEquals(Math.sqrt(0.1875), (Double) results.get(4), 1e-9);
+        AssertJUnit.assertEquals(Math.sqrt(2.75), (Double) results.get(7), 1e-9);
+    }
+
+    @Test
+    public void testSampleStandardDeviation() throws InterruptedException {
+        log.info("StandardDeviationFunctionExtension TestCase, sample standard deviation");
+        List<Object> results = runQuery(INPUT_STREAM_FLOAT, "", "math:stddev(temperature, true)",
+                                        new Object[]{1, 2f}, new Object[]{2, 4f}, new Object[]{3, 4f},
+                                        new Object[]{4, 4f}, new Object[]{5, 5f}, new Object[]{6, 5f},
+                                        new Object[]{7, 7f}, new Object[]{8, 9f});
+        AssertJUnit.assertEquals(8, results.size());
+        AssertJUnit.assertNull(results.get(0));
+        AssertJUnit.assertEquals(Math.sqrt(32.0 / 7), (Double) results.get(7), 1e-9);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseStringSampleFlag() {
+        log.info("StandardDeviationFunctionExtension exceptionTestCaseStringSampleFlag");
+        createApp(INPUT_STREAM_INT, "math:stddev(temperature, 'true')");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseBoolValue() {
+        log.info("StandardDeviationFunctionExtension exceptionTestCaseBoolValue");
+        createApp("define stream inputStream (temperature bool);", "math:stddev(temperature)");
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class StatsFunctionExtensionTestCase {
+    private static final String INPUT_STREAM_LONG = "define stream inputStream (sensorId int, temperature long);";
+    private static Logger log = Logger.getLogger(StatsFunctionExtensionTestCase.class);
+
+    @Test
+    public void testStatsLengthWindow() throws InterruptedException {
+        log.info("StatsFunctionExtension TestCase, population statistics over a length window");
+        List<Object> results = runQuery(INPUT_STREAM_LONG, "#window.length(3)", "math:stats(temperature)",
+                                        new Object[]{1, 10L}, new Object[]{2, 20L}, new Object[]{3, 30L},
+                                        new Object[]{4, 60L});
+        AssertJUnit.assertEquals(4, results.size());
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{1, 10, 0, 0}, (double[]) results.get(0)));
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{2, 15, 25, 5}, (double[]) results.get(1)));
+        double[] stats = (double[]) results.get(3);
+        AssertJUnit.assertEquals(4, stats.length);
+        AssertJUnit.assertEquals(3.0, stats[0]);
+        AssertJUnit.assertEquals(110.0 / 3, stats[1], 1e-9);
+        AssertJUnit.assertEquals(2600.0 / 9, stats[2], 1e-9);
+        AssertJUnit.assertEquals(Math.sqrt(2600.0 / 9), stats[3], 1e-9);
+    }
+
+    @Test
+    public void testSampleStatsGroupBy() throws InterruptedException {
+        log.info("StatsFunctionExtension TestCase, sample statistics of each group");
+        List<Object> results = runQuery(INPUT_STREAM_LONG, "", "math:stats(temperature, true)",
+                                        " group by sensorId",
+                                        new Object[]{1, 10L}, new Object[]{2, 100L}, new Object[]{1, 20L},
+                                        new Object[]{2, 300L});
+        AssertJUnit.assertEquals(4, results.size());
+        double[] first = (double[]) results.get(0);
+        AssertJUnit.assertEquals(1.0, first[0]);
+        AssertJUnit.assertEquals(10.0, first[1]);
+        AssertJUnit.assertTrue(Double.isNaN(first[2]));
+        AssertJUnit.assertTrue(Double.isNaN(first[3]));
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{2, 15, 50, Math.sqrt(50)}, (double[]) results.get(2)));
+        AssertJUnit.assertTrue(Arrays.equals(new double[]{2, 200, 20000, Math.sqrt(20000)},
+                                             (double[]) results.get(3)));
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseMissingValue() {
+        log.info("StatsFunctionExtension exceptionTestCaseMissingValue");
+        createApp(INPUT_STREAM_LONG, "math:stats()");
+    }
+}
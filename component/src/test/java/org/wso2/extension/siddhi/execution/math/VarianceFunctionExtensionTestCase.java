@@ -0,0 +1,151 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.exception.SiddhiAppCreationException;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.util.persistence.InMemoryPersistenceStore;
+import org.apache.log4j.Logger;
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.createApp;
+import static org.wso2.extension.siddhi.execution.math.util.QueryRunner.runQuery;
+
+public class VarianceFunctionExtensionTestCase {
+    private static final String INPUT_STREAM_LONG = "define stream inputStream (sensorId int, temperature long);";
+    private static final String INPUT_STREAM_DOUBLE = "define stream inputStream (sensorId int, temperature double);";
+    private static Logger log = Logger.getLogger(VarianceFunctionExtensionTestCase.class);
+
+    @Test
+    public void testVarianceLengthWindow() throws InterruptedException {
+        log.info("VarianceFunctionExtension TestCase, population variance over a length window");
+        List<Object> results = runQuery(INPUT_STREAM_LONG, "#window.length(3)", "math:variance(temperature)",
+                                        new Object[]{1, 10L}, new Object[]{2, 20L}, new Object[]{3, 30L},
+                                        new Object[]{4, 40L}, new Object[]{5, 40L});
+        AssertJUnit.assertEquals(5, results.size());
+        AssertJUnit.assertEquals(0.0, (Double) results.get(0), 1e-9);
+        AssertJUnit.assertEquals(25.0, (Double) results.get(1), 1e-9);
+        AssertJUnit.assertEquals(200.0 / 3, (Double) results.get(2), 1e-9);
+        AssertJUnit.assertEquals(200.0 / 3, (Double) results.get(3), 1e-9);
+        AssertJUnit.assertEquals(200.0 / 9, (Double) results.get(4), 1e-9);
+    }
+
+    @Test
+    public void testSampleVarianceLengthWindow() throws InterruptedException {
+        log.info("VarianceFunctionExtension TestCase, sample variance over a length window");
+        List<Object> results = runQuery(INPUT_STREAM_LONG, "#window.length(3)", "math:variance(temperature, true)",
+                                        new Object[]{1, 10L}, new Object[]{2, 20L}, new Object[]{3, 30L},
+                                        new Object[]{4, 40L});
+        AssertJUnit.assertEquals(4, results.size());
+        AssertJUnit.assertNull(results.get(0));
+        AssertJUnit.assertEquals(50.0, (Double) results.get(1), 1e-9);
+        AssertJUnit.assertEquals(100.0, (Double) results.get(2), 1e-9);
+        AssertJUnit.assertEquals(100.0, (Double) results.get(3), 1e-9);
+    }
+
+    @Test
+    public void testVarianceLargeValues() throws InterruptedException {
+        log.info("VarianceFunctionExtension TestCase, values far from zero");
+        // the mean of the squares of these values cannot hold the digits of their variance
+        List<Object> results = runQuery(INPUT_STREAM_DOUBLE, "#window.length(4)", "math:variance(temperature)",
+                                        new Object[]{1, 1e9 + 4}, new Object[]{2, 1e9 + 7},
+                                        new Object[]{3, 1e9 + 13}, new Object[]{4, 1e9 + 16},
+                                        new Object[]{5, 1e9 + 4});
+        AssertJUnit.assertEquals(5, results.size());
+        AssertJUnit.assertEquals(22.5, (Double) results.get(3), 1e-6);
+        AssertJUnit.assertEquals(22.5, (Double) results.get(4), 1e-6);
+    }
+
+    @Test
+    public void testVarianceLengthBatchWindow() throws InterruptedException {
+        log.info("VarianceFunctionExtension TestCase, length batch window");
+        List<Object> results = runQuery(INPUT_STREAM_LONG, "#window.lengthBatch(2)", "math:variance(temperature)",
+                                        new Object[]{1, 10L}, new Object[]{2, 20L}, new Object[]{3, 50L},
+                                        new Object[]{4, 50L});
+        AssertJUnit.assertEquals(2, results.size());
+        AssertJUnit.assertEquals(25.0, (Double) results.get(0), 1e-9);
+        AssertJUnit.assertEquals(0.0, (Double) results.get(1), 1e-9);
+    }
+
+    @Test
+    public void testVariancePersistence() throws InterruptedException {
+        log.info("VarianceFunctionExtension snapshot and restore test case.");
+        SiddhiManager siddhiManager = new SiddhiManager();
+        siddhiManager.setPersistenceStore(new InMemoryPersistenceStore());
+        String query = "@app:name('VarianceApp') @info(name = 'query1') from inputStream " +
+                "select math:variance(temperature) as variance insert into outputStream;";
+        final List<Object> results = new ArrayList<>();
+        QueryCallback queryCallback = new QueryCallback() {
+            @Override
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                for (Event event : inEvents) {
+                    results.add(event.getData(0));
+                }
+            }
+        };
+
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_LONG + query);
+        siddhiAppRuntime.addCallback("query1", queryCallback);
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        inputHandler.send(new Object[]{1, 4L});
+        inputHandler.send(new Object[]{2, 7L});
+        siddhiAppRuntime.persist();
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+
+        siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(INPUT_STREAM_LONG + query);
+        siddhiAppRuntime.addCallback("query1", queryCallback);
+        inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        siddhiAppRuntime.restoreLastRevision();
+        inputHandler.send(new Object[]{3, 13L});
+        inputHandler.send(new Object[]{4, 16L});
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+        AssertJUnit.assertEquals(4, results.size());
+        AssertJUnit.assertEquals(22.5, (Double) results.get(3), 1e-9);
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseVariableSampleFlag() {
+        log.info("VarianceFunctionExtension exceptionTestCaseVariableSampleFlag");
+        createApp("define stream inputStream (temperature double, sample bool);", "math:variance(temperature, sample)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseStringValue() {
+        log.info("VarianceFunctionExtension exceptionTestCaseStringValue");
+        createApp("define stream inputStream (temperature string);", "math:variance(temperature)");
+    }
+
+    @Test(expectedExceptions = SiddhiAppCreationException.class)
+    public void exceptionTestCaseTooManyParameters() {
+        log.info("VarianceFunctionExtension exceptionTestCaseTooManyParameters");
+        createApp(INPUT_STREAM_DOUBLE, "math:variance(temperature, true, true)");
+    }
+}
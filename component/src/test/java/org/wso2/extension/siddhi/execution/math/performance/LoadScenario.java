@@ -0,0 +1,61 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.performance;
+
+/**
+ * Siddhi apps driven by the load test, each representative of a way the extension is used. All of them consume
+ * the same stream, holding each value both as a double and as a string.
+ */
+public enum LoadScenario {
+
+    PERCENTILE_LENGTH_WINDOW(
+            "from LoadStream#window.length(10000) " +
+                    "select sensorId, math:percentile(value, 99.0) as p99 " +
+                    "insert into OutStream;"),
+    PERCENTILE_TIME_WINDOW(
+            "from LoadStream#window.time(1 sec) " +
+                    "select sensorId, math:percentile(value, 99.0) as p99 " +
+                    "insert into OutStream;"),
+    TRIG_LOG_CHAIN(
+            "from LoadStream " +
+                    "select sensorId, math:sin(math:toRadians(value)) * math:log(value + 1, 10) as wave, " +
+                    "math:atan(math:cos(value), math:sqrt(value)) as angle, " +
+                    "math:power(math:log10(value + 1), 2) as magnitude " +
+                    "insert into OutStream;"),
+    PARSE(
+            "from LoadStream " +
+                    "select sensorId, math:parseDouble(reading) as parsedDouble, " +
+                    "math:parseFloat(reading) as parsedFloat " +
+                    "insert into OutStream;");
+
+    static final String STREAM_DEFINITION = "define stream LoadStream (sensorId int, value double, reading string); ";
+
+    private final String query;
+
+    LoadScenario(String query) {
+        this.query = query;
+    }
+
+    /**
+     * @return the Siddhi app of the scenario
+     */
+    public String siddhiApp() {
+        return "@app:name('" + name() + "') " + STREAM_DEFINITION + query;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.performance;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.stream.input.InputHandler;
+import io.siddhi.core.stream.output.StreamCallback;
+import org.apache.log4j.Logger;
+import org.wso2.extension.siddhi.execution.math.util.HdrHistogram;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Offline load test feeding synthetic streams through representative Siddhi apps of the extension, reporting the
+ * throughput, the processing latency percentiles and the heap usage of each app and stream shape.
+ * <p>
+ * Events are sent synchronously, hence the time taken by each send is the time taken to process the event through
+ * the windows and selectors of the app. It is run by the load-test profile of the component,
+ * {@code mvn -Pload-test verify -DskipTests}, and configured by the following system properties.
+ * <ul>
+ * <li>load.events: events sent to each app for each stream shape, 1000000 by default</li>
+ * <li>load.warmup: events sent before the measured ones, 200000 by default</li>
+ * <li>load.scenarios: comma separated {@link LoadScenario} names, all of them by default</li>
+ * <li>load.shapes: comma separated {@link StreamShape} names, all of them by default</li>
+ * </ul>
+ */
+public class LoadTest {
+
+    private static final Logger log = Logger.getLogger(LoadTest.class);
+    private static final int SENSOR_COUNT = 64;
+    private static final long SEED = 42;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        long events = Long.getLong("load.events", 1000000);
+        long warmup = Long.getLong("load.warmup", 200000);
+        List<LoadScenario> scenarios = parse(LoadScenario.class, System.getProperty("load.scenarios"));
+        List<StreamShape> shapes = parse(StreamShape.class, System.getProperty("load.shapes"));
+
+        log.info(String.format(Locale.ENGLISH, "%-26s %-8s %12s %10s %10s %10s %10s %10s %10s",
+                               "scenario", "shape", "events/sec", "p50 us", "p99 us", "p99.9 us", "max us",
+                               "peak MB", "live MB"));
+        for (LoadScenario scenario : scenarios) {
+            for (StreamShape shape : shapes) {
+                log.info(run(scenario, shape, events, warmup));
+            }
+        }
+    }
+
+    private static String run(LoadScenario scenario, StreamShape shape, long events, long warmup)
+            throws InterruptedException {
+        SiddhiManager siddhiManager = new SiddhiManager();
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(scenario.siddhiApp());
+        long[] received = new long[1];
+        siddhiAppRuntime.addCallback("OutStream", new StreamCallback() {
+            @Override
+            public void receive(Event[] events) {
+                received[0] += events.length;
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("LoadStream");
+        siddhiAppRuntime.start();
+        try {
+            send(inputHandler, shape, StreamShape.UNIFORM.newGenerator(SEED - 1), warmup, null);
+
+            System.gc();
+            resetPeakHeap();
+            HdrHistogram latencies = new HdrHistogram(3);
+            long sendingNanos = send(inputHandler, shape, shape.newGenerator(SEED), events, latencies);
+            long peakHeap = peakHeap();
+            long liveHeap = liveHeap();
+            if (received[0] == 0) {
+                throw new IllegalStateException("No output was received from " + scenario);
+            }
+            return String.format(Locale.ENGLISH, "%-26s %-8s %12.0f %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f",
+                                 scenario, shape, events * 1e9 / sendingNanos,
+                                 latencies.percentile(50) / 1e3, latencies.percentile(99) / 1e3,
+                                 latencies.percentile(99.9) / 1e3, latencies.percentile(100) / 1e3,
+                                 peakHeap / 1048576d, liveHeap / 1048576d);
+        } finally {
+            siddhiAppRuntime.shutdown();
+            siddhiManager.shutdown();
+        }
+    }
+
+    /**
+     * Sends the events of a stream, recording the time taken by each send.
+     *
+     * @return nanoseconds spent sending, excluding the pauses of the stream
+     */
+    private static long send(InputHandler inputHandler, StreamShape shape, StreamShape.ValueGenerator generator,
+                             long events, HdrHistogram latencies) throws InterruptedException {
+        long sendingNanos = 0;
+        for (long i = 0; i < events; i++) {
+            long pause = shape.pauseBefore(i);
+            if (pause > 0) {
+                Thread.sleep(pause);
+            }
+            double value = generator.next();
+            Object[] data = new Object[]{(int) (i % SENSOR_COUNT), value, Double.toString(value)};
+            long start = System.nanoTime();
+            inputHandler.send(data);
+            long elapsed = System.nanoTime() - start;
+            sendingNanos += elapsed;
+            if (latencies != null) {
+                latencies.record(elapsed);
+            }
+        }
+        return sendingNanos;
+    }
+
+    private static <E extends Enum<E>> List<E> parse(Class<E> type, String names) {
+        List<E> values = new ArrayList<>();
+        if (names == null || names.trim().isEmpty()) {
+            for (E value : type.getEnumConstants()) {
+                values.add(value);
+            }
+            return values;
+        }
+        for (String name : names.split(",")) {
+            values.add(Enum.valueOf(type, name.trim().toUpperCase(Locale.ENGLISH)));
+        }
+        return values;
+    }
+
+    private static long liveHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
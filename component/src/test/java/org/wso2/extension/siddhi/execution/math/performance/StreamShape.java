@@ -0,0 +1,103 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.performance;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Shapes of the synthetic streams fed by the load test: how the values are distributed and how the events arrive.
+ */
+public enum StreamShape {
+
+    /**
+     * Values spread evenly over the range, sent back to back.
+     */
+    UNIFORM {
+        @Override
+        ValueGenerator newGenerator(long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            return () -> random.nextDouble() * VALUE_RANGE;
+        }
+    },
+    /**
+     * Values drawn from a Zipfian distribution over the range, so that a few values repeat heavily, as latencies
+     * and prices of real streams do.
+     */
+    ZIPFIAN {
+        @Override
+        ValueGenerator newGenerator(long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            double[] cumulative = new double[ZIPF_ELEMENTS];
+            double sum = 0;
+            for (int i = 0; i < ZIPF_ELEMENTS; i++) {
+                sum += 1 / Math.pow(i + 1, ZIPF_EXPONENT);
+                cumulative[i] = sum;
+            }
+            double total = sum;
+            return () -> {
+                int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                // ranks are spread over the range, so that frequent values are not all the smallest ones
+                return ((rank < 0 ? -rank - 1 : rank) * 7919L % ZIPF_ELEMENTS) * (VALUE_RANGE / ZIPF_ELEMENTS);
+            };
+        }
+    },
+    /**
+     * Uniform values sent in bursts, with idle gaps between the bursts in which the windows expire events.
+     */
+    BURSTY {
+        @Override
+        ValueGenerator newGenerator(long seed) {
+            return UNIFORM.newGenerator(seed);
+        }
+
+        @Override
+        long pauseBefore(long eventIndex) {
+            return eventIndex > 0 && eventIndex % BURST_SIZE == 0 ? BURST_GAP_MILLIS : 0;
+        }
+    };
+
+    private static final double VALUE_RANGE = 10000;
+    private static final int ZIPF_ELEMENTS = 10000;
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final int BURST_SIZE = 10000;
+    private static final long BURST_GAP_MILLIS = 50;
+
+    /**
+     * @param seed seed of the values, so that runs are reproducible
+     * @return generator of the values of the stream
+     */
+    abstract ValueGenerator newGenerator(long seed);
+
+    /**
+     * @param eventIndex index of the next event
+     * @return milliseconds to wait before sending the event
+     */
+    long pauseBefore(long eventIndex) {
+        return 0;
+    }
+
+    /**
+     * Generator of the values of a stream.
+     */
+    interface ValueGenerator {
+
+        double next();
+    }
+}
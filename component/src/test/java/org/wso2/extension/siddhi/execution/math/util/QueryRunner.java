@@ -0,0 +1,93 @@
+/*
+ * Copyright (c)  2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.extension.siddhi.execution.math.util;
+
+import io.siddhi.core.SiddhiAppRuntime;
+import io.siddhi.core.SiddhiManager;
+import io.siddhi.core.event.Event;
+import io.siddhi.core.query.output.callback.QueryCallback;
+import io.siddhi.core.stream.input.InputHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a query selecting a single attribute from the events sent to 'inputStream', for the test cases which only
+ * check the values selected by a function.
+ */
+public final class QueryRunner {
+
+    private QueryRunner() {
+    }
+
+    /**
+     * @param streamDefinition definition of 'inputStream'
+     * @param window           window of the query, such as "#window.length(3)", or an empty string
+     * @param selection        selected expression
+     * @param events           data of the events to send
+     * @return the selected value of each current event, in the order they arrived
+     */
+    public static <T> List<T> runQuery(String streamDefinition, String window, String selection,
+                                       Object[]... events) throws InterruptedException {
+        return runQuery(streamDefinition, window, selection, "", events);
+    }
+
+    /**
+     * @param groupBy group by clause of the query, such as " group by sensorId", or an empty string
+     * @see #runQuery(String, String, String, Object[]...)
+     */
+    public static <T> List<T> runQuery(String streamDefinition, String window, String selection, String groupBy,
+                                       Object[]... events) throws InterruptedException {
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String query = ("@info(name = 'query1') from inputStream" + window + " select " + selection +
+                " as result" + groupBy + " insert into outputStream;");
+        SiddhiAppRuntime siddhiAppRuntime = siddhiManager.createSiddhiAppRuntime(streamDefinition + query);
+        final List<T> results = new ArrayList<>();
+        siddhiAppRuntime.addCallback("query1", new QueryCallback() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public void receive(long timeStamp, Event[] inEvents, Event[] removeEvents) {
+                for (Event event : inEvents) {
+                    results.add((T) event.getData(0));
+                }
+            }
+        });
+        InputHandler inputHandler = siddhiAppRuntime.getInputHandler("inputStream");
+        siddhiAppRuntime.start();
+        for (Object[] event : events) {
+            inputHandler.send(event);
+        }
+        Thread.sleep(100);
+        siddhiAppRuntime.shutdown();
+        return results;
+    }
+
+    /**
+     * Creates the app of a query selecting the given expression, for the test cases expecting it to be rejected.
+     *
+     * @param streamDefinition definition of 'inputStream'
+     * @param selection        selected expression
+     */
+    public static void createApp(String streamDefinition, String selection) {
+        SiddhiManager siddhiManager = new SiddhiManager();
+        String query = ("@info(name = 'query1') from inputStream select " + selection + " as result " +
+                "insert into outputStream;");
+        siddhiManager.createSiddhiAppRuntime(streamDefinition + query).shutdown();
+    }
+}